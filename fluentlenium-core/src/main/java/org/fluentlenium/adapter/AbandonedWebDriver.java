@@ -0,0 +1,32 @@
+package org.fluentlenium.adapter;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A WebDriver instance that couldn't be quit before timeout.
+ * <p>
+ * The thread quitting it has been interrupted, but the browser may still be running. Callers can try to quit it again,
+ * or terminate the browser process by their own means.
+ *
+ * @see SharedWebDriverContainer
+ */
+@Getter
+@AllArgsConstructor
+public class AbandonedWebDriver {
+    /**
+     * Description of the instance.
+     */
+    private final String description;
+
+    /**
+     * Abandoned instance, or null if it was still being created.
+     */
+    private final WebDriver driver;
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
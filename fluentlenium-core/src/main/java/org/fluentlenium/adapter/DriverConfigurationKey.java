@@ -0,0 +1,71 @@
+package org.fluentlenium.adapter;
+
+import lombok.EqualsAndHashCode;
+import org.openqa.selenium.Capabilities;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Key of the configuration used to create a {@link org.openqa.selenium.WebDriver}.
+ * <p>
+ * Running drivers are only shared by the pool and the pre-warmer between tests having the same key, so a test never
+ * gets a browser created with another driver name, capabilities or remote URL.
+ */
+@EqualsAndHashCode
+public final class DriverConfigurationKey {
+    private final String webDriver;
+
+    private final Map<String, ?> capabilities;
+
+    private final String remoteUrl;
+
+    private final Boolean eventsEnabled;
+
+    private final Class<?> factoryClass;
+
+    /**
+     * Creates a new key.
+     *
+     * @param webDriver     name of the driver
+     * @param capabilities  desired capabilities, or null
+     * @param remoteUrl     remote URL, or null
+     * @param eventsEnabled events enabled flag, or null
+     * @param factoryClass  class declaring the method creating the driver
+     */
+    public DriverConfigurationKey(String webDriver, Capabilities capabilities, String remoteUrl, Boolean eventsEnabled,
+                                  Class<?> factoryClass) {
+        this.webDriver = webDriver;
+        this.capabilities = capabilities == null ? null : new HashMap<>(capabilities.asMap());
+        this.remoteUrl = remoteUrl;
+        this.eventsEnabled = eventsEnabled;
+        this.factoryClass = factoryClass;
+    }
+
+    /**
+     * Get the key of the drivers created by the given adapter.
+     * <p>
+     * When the adapter overrides {@link FluentAdapter#newWebDriver()}, drivers are only shared with tests inheriting
+     * the same implementation.
+     *
+     * @param adapter adapter creating drivers
+     * @return configuration key
+     */
+    public static DriverConfigurationKey of(FluentAdapter adapter) {
+        Class<?> factoryClass;
+        try {
+            factoryClass = adapter.getClass().getMethod("newWebDriver").getDeclaringClass();
+        } catch (NoSuchMethodException e) {
+            factoryClass = FluentAdapter.class;
+        }
+        return new DriverConfigurationKey(adapter.getWebDriver(), adapter.getCapabilities(), adapter.getRemoteUrl(),
+                adapter.getEventsEnabled(), factoryClass);
+    }
+
+    @Override
+    public String toString() {
+        return "DriverConfigurationKey{" + "webDriver='" + webDriver + '\'' + ", capabilities=" + capabilities
+                + ", remoteUrl='" + remoteUrl + '\'' + ", eventsEnabled=" + eventsEnabled + ", factoryClass="
+                + (factoryClass == null ? null : factoryClass.getName()) + '}';
+    }
+}
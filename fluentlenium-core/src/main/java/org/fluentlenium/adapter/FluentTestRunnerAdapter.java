@@ -2,6 +2,8 @@ package org.fluentlenium.adapter;
 
 import com.google.common.base.Supplier;
 import org.fluentlenium.adapter.SharedMutator.EffectiveParameters;
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.adapter.metrics.DriverOperation;
 import org.openqa.selenium.WebDriver;
 
 import java.util.List;
@@ -61,14 +63,22 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
      * @param testName  Test name
      */
     protected void starting(Class<?> testClass, String testName) {
-        EffectiveParameters<?> parameters = this.sharedMutator.getEffectiveParameters(testClass, testName, getDriverLifecycle());
+        final EffectiveParameters<?> parameters = this.sharedMutator.getEffectiveParameters(testClass, testName, getDriverLifecycle());
 
+        SharedWebDriverContainer.INSTANCE.configure(this);
         SharedWebDriver sharedWebDriver = SharedWebDriverContainer.INSTANCE.getOrCreateDriver(new Supplier<WebDriver>() {
             @Override
             public WebDriver get() {
-                return FluentTestRunnerAdapter.this.newWebDriver();
+                long start = System.nanoTime();
+                try {
+                    return FluentTestRunnerAdapter.this.newWebDriver();
+                } finally {
+                    DriverMetrics.INSTANCE.record(DriverOperation.NEW_WEB_DRIVER, parameters.getTestClass(),
+                            parameters.getTestName(), parameters.getDriverLifecycle(), System.nanoTime() - start);
+                }
             }
-        }, parameters.getTestClass(), parameters.getTestName(), parameters.getDriverLifecycle());
+        }, DriverConfigurationKey.of(this), parameters.getTestClass(), parameters.getTestName(),
+                parameters.getDriverLifecycle());
 
         initFluent(sharedWebDriver.getDriver());
     }
@@ -108,7 +118,7 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
     protected void finished(Class<?> testClass, String testName) {
         DriverLifecycle driverLifecycle = getDriverLifecycle();
 
-        if (driverLifecycle == DriverLifecycle.METHOD) {
+        if (driverLifecycle == DriverLifecycle.METHOD || driverLifecycle == DriverLifecycle.POOL) {
             EffectiveParameters<?> parameters = this.sharedMutator.getEffectiveParameters(testClass, testName, driverLifecycle);
 
             SharedWebDriver sharedWebDriver = SharedWebDriverContainer.INSTANCE.getDriver(parameters.getTestClass(), parameters.getTestName(), parameters.getDriverLifecycle());
@@ -120,7 +130,12 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
 
             SharedWebDriver sharedWebDriver = SharedWebDriverContainer.INSTANCE.getDriver(sharedParameters.getTestClass(), sharedParameters.getTestName(), sharedParameters.getDriverLifecycle());
             if (sharedWebDriver != null) {
-                sharedWebDriver.getDriver().manage().deleteAllCookies();
+                long start = System.nanoTime();
+                try {
+                    sharedWebDriver.getDriver().manage().deleteAllCookies();
+                } finally {
+                    DriverMetrics.INSTANCE.record(DriverOperation.DELETE_COOKIES, sharedWebDriver, System.nanoTime() - start);
+                }
             }
         }
 
@@ -185,10 +200,22 @@ public class FluentTestRunnerAdapter extends FluentAdapter {
     protected void failed(Throwable e, Class<?> testClass, String testName) {
         if (isFluentDriverAvailable()) {
             if (getScreenshotMode() == TriggerMode.AUTOMATIC_ON_FAIL && canTakeScreenShot()) {
-                takeScreenShot(testClass.getSimpleName() + "_" + testName + ".png");
+                long start = System.nanoTime();
+                try {
+                    takeScreenShot(testClass.getSimpleName() + "_" + testName + ".png");
+                } finally {
+                    DriverMetrics.INSTANCE.record(DriverOperation.SCREENSHOT, testClass, testName, getDriverLifecycle(),
+                            System.nanoTime() - start);
+                }
             }
             if (getHtmlDumpMode() == TriggerMode.AUTOMATIC_ON_FAIL && getDriver() != null) {
-                takeHtmlDump(testClass.getSimpleName() + "_" + testName + ".html");
+                long start = System.nanoTime();
+                try {
+                    takeHtmlDump(testClass.getSimpleName() + "_" + testName + ".html");
+                } finally {
+                    DriverMetrics.INSTANCE.record(DriverOperation.HTML_DUMP, testClass, testName, getDriverLifecycle(),
+                            System.nanoTime() - start);
+                }
             }
         }
     }
@@ -1,9 +1,14 @@
 package org.fluentlenium.adapter;
 
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.adapter.metrics.DriverOperation;
 import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.internal.WrapsDriver;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * A reference to a {@link WebDriver} used by a test.
  */
@@ -17,12 +22,34 @@ public class SharedWebDriver implements WrapsDriver {
 
     private final DriverLifecycle driverLifecycle;
 
+    private final long creationTime;
+
+    private final AtomicInteger useCount;
+
     public SharedWebDriver(WebDriver driver, Class<?> testClass, String testName,
                            DriverLifecycle driverLifecycle) {
         this.driver = driver;
         this.testClass = testClass;
         this.testName = testName;
         this.driverLifecycle = driverLifecycle;
+        this.creationTime = System.nanoTime();
+        this.useCount = new AtomicInteger();
+    }
+
+    /**
+     * Creates a new reference to the driver of another reference, keeping its age and use count.
+     *
+     * @param sharedWebDriver previous reference of the driver
+     * @param testClass       Test class
+     * @param testName        Test name
+     */
+    SharedWebDriver(SharedWebDriver sharedWebDriver, Class<?> testClass, String testName) {
+        this.driver = sharedWebDriver.driver;
+        this.testClass = testClass;
+        this.testName = testName;
+        this.driverLifecycle = sharedWebDriver.driverLifecycle;
+        this.creationTime = sharedWebDriver.creationTime;
+        this.useCount = sharedWebDriver.useCount;
     }
 
     @Override
@@ -46,6 +73,44 @@ public class SharedWebDriver implements WrapsDriver {
         return driverLifecycle;
     }
 
+    /**
+     * Get the time elapsed since the creation of the driver.
+     *
+     * @param unit time unit of the returned value
+     * @return age of the driver
+     */
+    public long getAge(TimeUnit unit) {
+        return unit.convert(System.nanoTime() - creationTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the number of tests that have used the driver.
+     *
+     * @return use count of the driver
+     */
+    public int getUseCount() {
+        return useCount.get();
+    }
+
+    void markUsed() {
+        useCount.incrementAndGet();
+    }
+
+    /**
+     * Quit the underlying driver, recording the time spent in {@link DriverMetrics}.
+     */
+    void quitDriver() {
+        if (driver == null) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            driver.quit();
+        } finally {
+            DriverMetrics.INSTANCE.record(DriverOperation.QUIT, this, System.nanoTime() - start);
+        }
+    }
+
     @Override
     public String toString() {
         return "SharedWebDriver{" + "driver=" + driver + ", testClass=" + testClass + ", testName='"
@@ -1,18 +1,30 @@
 package org.fluentlenium.adapter;
 
 import com.google.common.base.Supplier;
-import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
 import lombok.experimental.Delegate;
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.adapter.metrics.DriverOperation;
+import org.fluentlenium.configuration.ConfigurationProperties;
 import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.fluentlenium.core.wait.metrics.WaitMetrics;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 /**
  * A singleton container for all running {@link SharedWebDriver} in the JVM.
@@ -20,11 +32,28 @@ import java.util.Map;
 public enum SharedWebDriverContainer {
     INSTANCE;
 
+    /**
+     * Key of a driver in the container, normalized according to its lifecycle.
+     */
     @EqualsAndHashCode
-    @AllArgsConstructor
-    private static class ClassAndTestName {
-        private Class<?> testClass;
-        private String testName;
+    private static class DriverKey {
+        private final DriverLifecycle driverLifecycle;
+        private final Class<?> testClass;
+        private final String testName;
+        private final Thread thread;
+
+        DriverKey(Class<?> testClass, String testName, DriverLifecycle driverLifecycle) {
+            this.driverLifecycle = driverLifecycle == DriverLifecycle.DEFAULT ? DriverLifecycle.METHOD : driverLifecycle;
+            boolean threadShared = this.driverLifecycle == DriverLifecycle.JVM
+                    || this.driverLifecycle == DriverLifecycle.THREAD;
+            this.testClass = threadShared ? null : testClass;
+            this.testName = threadShared || this.driverLifecycle == DriverLifecycle.CLASS ? null : testName;
+            this.thread = this.driverLifecycle == DriverLifecycle.THREAD ? Thread.currentThread() : null;
+        }
+
+        DriverKey(SharedWebDriver driver) {
+            this(driver.getTestClass(), driver.getTestName(), driver.getDriverLifecycle());
+        }
     }
 
     private final SharedWebDriverContainerShutdownHook shutdownHook;
@@ -37,152 +66,437 @@ public enum SharedWebDriverContainer {
     @Delegate
     private final Impl impl = new Impl();
 
+    /**
+     * Drivers are stored as futures, so a driver being created for a key only blocks callers requesting the same key.
+     */
     static class Impl {
-        private SharedWebDriver jvmDriver;
+        /**
+         * Default maximum time in milliseconds to wait for a single driver to quit in {@link #quitAll()}.
+         */
+        public static final long DEFAULT_QUIT_TIMEOUT = 30000;
+
+        /**
+         * Default maximum time in milliseconds to wait for all drivers to quit in {@link #quitAll()}.
+         */
+        public static final long DEFAULT_QUIT_ALL_TIMEOUT = 60000;
+
+        /**
+         * Maximum number of drivers being quit at the same time in {@link #quitAll()}.
+         */
+        public static final int QUIT_ALL_PARALLELISM = 8;
+
+        private final ConcurrentMap<DriverKey, Future<SharedWebDriver>> drivers = new ConcurrentHashMap<>();
+
+        private final SharedWebDriverRecyclingPolicy recyclingPolicy = new SharedWebDriverRecyclingPolicy();
+
+        private final SharedWebDriverPool pool = new SharedWebDriverPool(SharedWebDriverPool.DEFAULT_MAX_SIZE,
+                recyclingPolicy);
+
+        private final SharedWebDriverPreWarmer preWarmer = new SharedWebDriverPreWarmer();
+
+        private final SharedWebDriverReaper reaper = new SharedWebDriverReaper();
+
+        private volatile long quitTimeout = DEFAULT_QUIT_TIMEOUT;
+
+        private volatile long quitAllTimeout = DEFAULT_QUIT_ALL_TIMEOUT;
+
+        private volatile Map<String, Object> configuredValues;
+
+        /**
+         * Apply container-wide configuration properties.
+         * <p>
+         * As this container is shared by all tests of the JVM, those values are applied only once, by the first call.
+         * Later calls are accepted only if they don't define a different value, so that a test can't reconfigure the
+         * pool, the pre-warmer or the reaper while other tests are running. Container-wide properties should be
+         * defined globally, in system properties or a configuration file.
+         *
+         * @param configuration configuration properties
+         * @throws IllegalStateException if the configuration defines a value different from the applied one
+         */
+        public void configure(ConfigurationProperties configuration) {
+            Map<String, Object> values = getContainerValues(configuration);
+            synchronized (this) {
+                if (configuredValues == null) {
+                    apply(values);
+                    configuredValues = values;
+                    return;
+                }
+            }
+            List<String> conflicts = new ArrayList<>();
+            for (Map.Entry<String, Object> value : values.entrySet()) {
+                Object configuredValue = configuredValues.get(value.getKey());
+                if (value.getValue() != null && !value.getValue().equals(configuredValue)) {
+                    conflicts.add(value.getKey() + "=" + value.getValue() + " (configured: " + configuredValue + ")");
+                }
+            }
+            if (!conflicts.isEmpty()) {
+                throw new IllegalStateException("WebDriver container is already configured for this JVM and can't "
+                        + "be reconfigured by a test: " + conflicts + ". Define these properties globally.");
+            }
+        }
 
-        private final Map<Class<?>, SharedWebDriver> classDrivers = new HashMap<>();
+        private static Map<String, Object> getContainerValues(ConfigurationProperties configuration) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("driverPoolSize", configuration.getDriverPoolSize());
+            values.put("driverPreWarmSize", configuration.getDriverPreWarmSize());
+            values.put("driverReaperMaxInFlight", configuration.getDriverReaperMaxInFlight());
+            values.put("driverMaxUses", configuration.getDriverMaxUses());
+            values.put("driverMaxAge", configuration.getDriverMaxAge());
+            values.put("driverHealthCheck", configuration.getDriverHealthCheck());
+            values.put("driverMetricsFile", configuration.getDriverMetricsFile());
+            values.put("waitMetricsFile", configuration.getWaitMetricsFile());
+            values.put("driverQuitTimeout", configuration.getDriverQuitTimeout());
+            values.put("driverQuitAllTimeout", configuration.getDriverQuitAllTimeout());
+            return values;
+        }
+
+        private void apply(Map<String, Object> values) {
+            Integer driverPoolSize = (Integer) values.get("driverPoolSize");
+            if (driverPoolSize != null) {
+                pool.setMaxSize(driverPoolSize);
+            }
+            Integer driverPreWarmSize = (Integer) values.get("driverPreWarmSize");
+            if (driverPreWarmSize != null) {
+                preWarmer.setSize(driverPreWarmSize);
+            }
+            Integer driverReaperMaxInFlight = (Integer) values.get("driverReaperMaxInFlight");
+            if (driverReaperMaxInFlight != null) {
+                reaper.setMaxInFlight(driverReaperMaxInFlight);
+            }
+            Integer driverMaxUses = (Integer) values.get("driverMaxUses");
+            if (driverMaxUses != null) {
+                recyclingPolicy.setMaxUses(driverMaxUses);
+            }
+            Long driverMaxAge = (Long) values.get("driverMaxAge");
+            if (driverMaxAge != null) {
+                recyclingPolicy.setMaxAge(driverMaxAge);
+            }
+            Boolean driverHealthCheck = (Boolean) values.get("driverHealthCheck");
+            if (driverHealthCheck != null) {
+                recyclingPolicy.setHealthCheck(driverHealthCheck);
+            }
+            String driverMetricsFile = (String) values.get("driverMetricsFile");
+            if (driverMetricsFile != null) {
+                DriverMetrics.INSTANCE.setSummaryFile(new File(driverMetricsFile));
+            }
+            String waitMetricsFile = (String) values.get("waitMetricsFile");
+            if (waitMetricsFile != null) {
+                WaitMetrics.INSTANCE.setSummaryFile(new File(waitMetricsFile));
+            }
+            Long driverQuitTimeout = (Long) values.get("driverQuitTimeout");
+            if (driverQuitTimeout != null) {
+                quitTimeout = driverQuitTimeout;
+            }
+            Long driverQuitAllTimeout = (Long) values.get("driverQuitAllTimeout");
+            if (driverQuitAllTimeout != null) {
+                quitAllTimeout = driverQuitAllTimeout;
+            }
+        }
+
+        /**
+         * Get the recycling policy replacing shared drivers that are too old, used too many times or dead.
+         *
+         * @return recycling policy
+         */
+        public SharedWebDriverRecyclingPolicy getRecyclingPolicy() {
+            return recyclingPolicy;
+        }
+
+        /**
+         * Get the pool of drivers used by {@link DriverLifecycle#POOL} lifecycle.
+         *
+         * @return driver pool
+         */
+        public SharedWebDriverPool getPool() {
+            return pool;
+        }
 
-        private final Map<ClassAndTestName, SharedWebDriver> methodDrivers = new HashMap<>();
+        /**
+         * Get the pre-warmer creating drivers in background for {@link DriverLifecycle#METHOD} and
+         * {@link DriverLifecycle#CLASS} lifecycles. Long-lived {@link DriverLifecycle#JVM} and
+         * {@link DriverLifecycle#THREAD} drivers are created directly.
+         *
+         * @return driver pre-warmer
+         */
+        public SharedWebDriverPreWarmer getPreWarmer() {
+            return preWarmer;
+        }
+
+        /**
+         * Get the reaper quitting drivers in background.
+         *
+         * @return driver reaper
+         */
+        public SharedWebDriverReaper getReaper() {
+            return reaper;
+        }
 
+        /**
+         * Get an existing or create a new driver for the given test, with the given shared driver
+         * strategy.
+         * <p>
+         * If the driver is being created by another thread, this call waits for its creation. With
+         * {@link DriverLifecycle#THREAD} lifecycle, the driver is bound to the calling thread.
+         * <p>
+         * An existing driver rejected by the recycling policy is quit and replaced by a new one. Only drivers owned by a
+         * single test at a time ({@link DriverLifecycle#METHOD}, {@link DriverLifecycle#THREAD} and
+         * {@link DriverLifecycle#POOL}) are recycled, as {@link DriverLifecycle#CLASS} and {@link DriverLifecycle#JVM}
+         * drivers may still be used by other tests running in parallel.
+         *
+         * @param webDriverFactory Supplier supplying new WebDriver instances
+         * @param testClass        Test class
+         * @param testName         Test name
+         * @param driverLifecycle  WebDriver lifecycle
+         * @return
+         * @see #getOrCreateDriver(Supplier, DriverConfigurationKey, Class, String, DriverLifecycle)
+         */
+        public <T> SharedWebDriver getOrCreateDriver(Supplier<WebDriver> webDriverFactory, Class<T> testClass,
+                                                     String testName, DriverLifecycle driverLifecycle) {
+            return getOrCreateDriver(webDriverFactory, null, testClass, testName, driverLifecycle);
+        }
 
         /**
          * Get an existing or create a new driver for the given test, with the given shared driver
          * strategy.
+         * <p>
+         * Running drivers created in advance are only given to tests having the same configuration key.
          *
          * @param webDriverFactory Supplier supplying new WebDriver instances
+         * @param configurationKey configuration of the drivers created by the factory
          * @param testClass        Test class
          * @param testName         Test name
          * @param driverLifecycle  WebDriver lifecycle
          * @return
          */
-        public synchronized <T> SharedWebDriver getOrCreateDriver(Supplier<WebDriver> webDriverFactory, Class<T> testClass, String testName, DriverLifecycle driverLifecycle) {
-            SharedWebDriver driver = getDriver(testClass, testName, driverLifecycle);
-            if (driver == null) {
-                driver = createDriver(webDriverFactory, testClass, testName, driverLifecycle);
-                registerDriver(driver);
+        public <T> SharedWebDriver getOrCreateDriver(final Supplier<WebDriver> webDriverFactory,
+                                                     final DriverConfigurationKey configurationKey,
+                                                     final Class<T> testClass, final String testName,
+                                                     final DriverLifecycle driverLifecycle) {
+            DriverKey key = new DriverKey(testClass, testName, driverLifecycle);
+            while (true) {
+                boolean created = false;
+                Future<SharedWebDriver> driver = drivers.get(key);
+                if (driver == null) {
+                    FutureTask<SharedWebDriver> driverTask = new FutureTask<>(new Callable<SharedWebDriver>() {
+                        @Override
+                        public SharedWebDriver call() {
+                            return createDriver(webDriverFactory, configurationKey, testClass, testName,
+                                    driverLifecycle);
+                        }
+                    });
+                    driver = drivers.putIfAbsent(key, driverTask);
+                    if (driver == null) {
+                        driver = driverTask;
+                        driverTask.run();
+                        created = true;
+                    }
+                }
+                SharedWebDriver sharedWebDriver;
+                try {
+                    sharedWebDriver = await(driver);
+                } catch (RuntimeException | Error e) {
+                    drivers.remove(key, driver);
+                    throw e;
+                }
+                if (sharedWebDriver.getDriverLifecycle() == DriverLifecycle.POOL) {
+                    // Pooled drivers are recycled and marked as used by the pool.
+                    return sharedWebDriver;
+                }
+                if (!created && isSingleOwner(sharedWebDriver.getDriverLifecycle())
+                        && recyclingPolicy.shouldRecycle(sharedWebDriver)) {
+                    if (drivers.remove(key, driver) && sharedWebDriver.getDriver() != null) {
+                        reaper.quit(sharedWebDriver);
+                    }
+                    continue;
+                }
+                sharedWebDriver.markUsed();
+                return sharedWebDriver;
             }
-            return driver;
         }
 
-        private <T> SharedWebDriver createDriver(Supplier<WebDriver> webDriverFactory, Class<T> testClass, String testName, DriverLifecycle driverLifecycle) {
-            WebDriver webDriver = webDriverFactory.get();
-            SharedWebDriver sharedWebDriver = new SharedWebDriver(webDriver, testClass, testName, driverLifecycle);
-            return sharedWebDriver;
+        private static boolean isSingleOwner(DriverLifecycle driverLifecycle) {
+            return driverLifecycle == DriverLifecycle.METHOD || driverLifecycle == DriverLifecycle.THREAD;
         }
 
-        private void registerDriver(SharedWebDriver driver) {
-            switch (driver.getDriverLifecycle()) {
+        private <T> SharedWebDriver createDriver(Supplier<WebDriver> webDriverFactory,
+                                                 DriverConfigurationKey configurationKey, Class<T> testClass,
+                                                 String testName, DriverLifecycle driverLifecycle) {
+            switch (driverLifecycle) {
+                case POOL:
+                    return pool.lease(webDriverFactory, configurationKey, testClass, testName);
                 case JVM:
-                    jvmDriver = driver;
-                    break;
-                case CLASS:
-                    classDrivers.put(driver.getTestClass(), driver);
-                    break;
-                case METHOD:
+                case THREAD:
+                    return new SharedWebDriver(webDriverFactory.get(), testClass, testName, driverLifecycle);
                 default:
-                    methodDrivers.put(new ClassAndTestName(driver.getTestClass(), driver.getTestName()), driver);
-                    break;
+                    return new SharedWebDriver(preWarmer.take(configurationKey, webDriverFactory), testClass, testName,
+                            driverLifecycle);
             }
         }
 
-        public synchronized <T> SharedWebDriver getDriver(Class<T> testClass, String testName, DriverLifecycle driverLifecycle) {
-            switch (driverLifecycle) {
-                case JVM:
-                    return jvmDriver;
-                case CLASS:
-                    return classDrivers.get(testClass);
-                case METHOD:
-                default:
-                    return methodDrivers.get(new ClassAndTestName(testClass, testName));
+        private static SharedWebDriver await(Future<SharedWebDriver> driver) {
+            try {
+                return driver.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException("Interrupted while waiting for WebDriver creation", e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                if (e.getCause() instanceof Error) {
+                    throw (Error) e.getCause();
+                }
+                throw new WebDriverException(e.getCause());
             }
         }
 
-        public synchronized void quit(SharedWebDriver driver) {
-            switch (driver.getDriverLifecycle()) {
-                case JVM:
-                    if (jvmDriver == driver) {
-                        if (jvmDriver.getDriver() != null) {
-                            jvmDriver.getDriver().quit();
-                        }
-                        jvmDriver = null;
-                    }
-                    break;
-                case CLASS:
-                    SharedWebDriver classDriver = classDrivers.remove(driver.getTestClass());
-                    if (classDriver == driver && classDriver.getDriver() != null) {
-                        classDriver.getDriver().quit();
-                    }
-                    break;
-                case METHOD:
-                default:
-                    SharedWebDriver testDriver = methodDrivers
-                            .remove(new ClassAndTestName(driver.getTestClass(), driver.getTestName()));
-                    if (testDriver == driver && testDriver.getDriver() != null) {
-                        testDriver.getDriver().quit();
-                    }
-                    break;
+        private static SharedWebDriver getIfCreated(Future<SharedWebDriver> driver) {
+            if (driver == null || !driver.isDone()) {
+                return null;
+            }
+            try {
+                return driver.get();
+            } catch (InterruptedException | ExecutionException | CancellationException e) {
+                return null;
             }
         }
 
         /**
-         * Get all WebDriver of this container.
+         * Get an existing driver for the given test, with the given shared driver strategy.
+         * <p>
+         * This call never waits for a driver being created, and returns null in this case.
          *
-         * @return List of {@link SharedWebDriver}
+         * @param testClass       Test class
+         * @param testName        Test name
+         * @param driverLifecycle WebDriver lifecycle
+         * @return existing driver, or null if there's no created driver.
          */
-        public synchronized List<SharedWebDriver> getAllDrivers() {
-            List<SharedWebDriver> drivers = new ArrayList<>();
+        public <T> SharedWebDriver getDriver(Class<T> testClass, String testName, DriverLifecycle driverLifecycle) {
+            return getIfCreated(drivers.get(new DriverKey(testClass, testName, driverLifecycle)));
+        }
 
-            if (jvmDriver != null) {
-                drivers.add(jvmDriver);
+        private DriverKey findKey(SharedWebDriver driver) {
+            DriverKey key = new DriverKey(driver);
+            if (getIfCreated(drivers.get(key)) == driver) {
+                return key;
             }
-            for (SharedWebDriver classDriver : classDrivers.values()) {
-                drivers.add(classDriver);
+            // Key of a THREAD driver can't be computed from another thread.
+            for (Map.Entry<DriverKey, Future<SharedWebDriver>> entry : drivers.entrySet()) {
+                if (getIfCreated(entry.getValue()) == driver) {
+                    return entry.getKey();
+                }
             }
+            return null;
+        }
 
-            for (SharedWebDriver testDriver : methodDrivers.values()) {
-                drivers.add(testDriver);
+        public void quit(SharedWebDriver driver) {
+            DriverKey key = findKey(driver);
+            Future<SharedWebDriver> registeredDriver = key == null ? null : drivers.get(key);
+            if (getIfCreated(registeredDriver) == driver && drivers.remove(key, registeredDriver)) {
+                if (driver.getDriverLifecycle() == DriverLifecycle.POOL) {
+                    pool.release(driver);
+                } else {
+                    reaper.quit(driver);
+                }
             }
-
-            return Collections.unmodifiableList(drivers);
         }
 
         /**
-         * Get all WebDriver of this container for given class.
+         * Get all WebDriver of this container.
+         *
+         * @return List of {@link SharedWebDriver}
          */
-        public synchronized List<SharedWebDriver> getTestClassDrivers(Class<?> testClass) {
-            List<SharedWebDriver> drivers = new ArrayList<>();
+        public List<SharedWebDriver> getAllDrivers() {
+            List<SharedWebDriver> allDrivers = new ArrayList<>();
 
-            SharedWebDriver classDriver = classDrivers.get(testClass);
-            if (classDriver != null) {
-                drivers.add(classDriver);
+            for (Future<SharedWebDriver> driver : drivers.values()) {
+                SharedWebDriver createdDriver = getIfCreated(driver);
+                if (createdDriver != null) {
+                    allDrivers.add(createdDriver);
+                }
             }
 
-            for (SharedWebDriver testDriver : methodDrivers.values()) {
-                if (testDriver.getTestClass() == testClass) {
-                    drivers.add(testDriver);
+            return Collections.unmodifiableList(allDrivers);
+        }
+
+        /**
+         * Get all WebDriver of this container for given class.
+         */
+        public List<SharedWebDriver> getTestClassDrivers(Class<?> testClass) {
+            List<SharedWebDriver> testClassDrivers = new ArrayList<>();
+
+            for (Map.Entry<DriverKey, Future<SharedWebDriver>> entry : drivers.entrySet()) {
+                if (entry.getKey().driverLifecycle != DriverLifecycle.JVM && entry.getKey().testClass == testClass) {
+                    SharedWebDriver createdDriver = getIfCreated(entry.getValue());
+                    if (createdDriver != null) {
+                        testClassDrivers.add(createdDriver);
+                    }
                 }
             }
 
-            return Collections.unmodifiableList(drivers);
+            return Collections.unmodifiableList(testClassDrivers);
         }
 
-        public synchronized void quitAll() {
-            if (jvmDriver != null) {
-                jvmDriver.getDriver().quit();
-                jvmDriver = null;
+        /**
+         * Quit all drivers of this container, including idle drivers of the pool, pre-warmed drivers and drivers
+         * pending in the reaper.
+         * <p>
+         * Drivers are quit in parallel. Drivers that are still quitting after the quit timeout, or when the quit all
+         * timeout is reached, are abandoned, recorded in {@link DriverMetrics} as
+         * {@link DriverOperation#QUIT_ABANDONED} operations, and returned.
+         *
+         * @return drivers that couldn't be quit before timeout
+         */
+        public List<AbandonedWebDriver> quitAll() {
+            SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(QUIT_ALL_PARALLELISM, quitTimeout,
+                    quitAllTimeout);
+
+            Iterator<Future<SharedWebDriver>> driversIterator = drivers.values().iterator();
+            while (driversIterator.hasNext()) {
+                final Future<SharedWebDriver> driver = driversIterator.next();
+                driversIterator.remove();
+                SharedWebDriver createdDriver = getIfCreated(driver);
+                quitter.add(createdDriver == null ? "WebDriver being created" : createdDriver.toString(),
+                        new Callable<SharedWebDriver>() {
+                            @Override
+                            public SharedWebDriver call() {
+                                SharedWebDriver sharedWebDriver;
+                                try {
+                                    sharedWebDriver = await(driver);
+                                } catch (RuntimeException e) {
+                                    // Driver creation has failed, there's nothing to quit.
+                                    return null;
+                                }
+                                if (sharedWebDriver.getDriverLifecycle() == DriverLifecycle.POOL) {
+                                    pool.detach(sharedWebDriver);
+                                }
+                                return sharedWebDriver;
+                            }
+                        });
             }
 
-            Iterator<SharedWebDriver> classDriversIterator = classDrivers.values().iterator();
-            while (classDriversIterator.hasNext()) {
-                classDriversIterator.next().getDriver().quit();
-                classDriversIterator.remove();
+            for (SharedWebDriver idleDriver : pool.detachIdleDrivers()) {
+                quitter.add(idleDriver);
             }
 
-            Iterator<SharedWebDriver> testDriversIterator = methodDrivers.values().iterator();
-            while (testDriversIterator.hasNext()) {
-                testDriversIterator.next().getDriver().quit();
-                testDriversIterator.remove();
+            for (final Future<WebDriver> warmDriver : preWarmer.detachAll()) {
+                quitter.add("Pre-warmed WebDriver", new Callable<WebDriver>() {
+                    @Override
+                    public WebDriver call() throws ExecutionException, InterruptedException {
+                        return warmDriver.get();
+                    }
+                });
             }
+
+            quitter.add("WebDriver instances pending in reaper", new Callable<WebDriver>() {
+                @Override
+                public WebDriver call() {
+                    reaper.drain();
+                    return null;
+                }
+            });
+
+            return quitter.quitAll();
         }
     }
 
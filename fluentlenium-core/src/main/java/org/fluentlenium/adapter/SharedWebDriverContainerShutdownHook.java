@@ -1,5 +1,10 @@
 package org.fluentlenium.adapter;
 
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.core.wait.metrics.WaitMetrics;
+
+import java.io.IOException;
+
 public class SharedWebDriverContainerShutdownHook extends Thread {
 
     public SharedWebDriverContainerShutdownHook(final String s) {
@@ -7,7 +12,27 @@ public class SharedWebDriverContainerShutdownHook extends Thread {
     }
 
     @Override
-    public synchronized void start() {
+    public void run() {
+        // Abandoned drivers are recorded in driver metrics, so they are included in the summary written below.
         SharedWebDriverContainer.INSTANCE.quitAll();
+
+        IOException error = null;
+        try {
+            DriverMetrics.INSTANCE.writeSummary();
+        } catch (IOException e) {
+            error = e;
+        }
+        try {
+            WaitMetrics.INSTANCE.writeSummary();
+        } catch (IOException e) {
+            if (error == null) {
+                error = e;
+            } else {
+                error.addSuppressed(e);
+            }
+        }
+        if (error != null) {
+            throw new RuntimeException("error when writing metrics summary", error);
+        }
     }
 }
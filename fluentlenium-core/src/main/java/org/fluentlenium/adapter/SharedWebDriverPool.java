@@ -0,0 +1,388 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Supplier;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A bounded pool of running {@link WebDriver} instances, used by {@link DriverLifecycle#POOL} lifecycle.
+ * <p>
+ * Drivers are created lazily when no idle instance is available and the pool is not full. Idle instances are only
+ * leased to tests having the same {@link DriverConfigurationKey}. When the pool is full, an idle instance of another
+ * configuration is quit to make room, or {@link #lease(Supplier, DriverConfigurationKey, Class, String)} blocks until
+ * another test gives back its instance.
+ * <p>
+ * State of the browser is reset when an instance is given back to the pool, so the next test starts from a blank page.
+ * Idle instances rejected by the {@link SharedWebDriverRecyclingPolicy} are quit and replaced by new ones.
+ */
+public class SharedWebDriverPool {
+    /**
+     * Default maximum number of running instances.
+     */
+    public static final int DEFAULT_MAX_SIZE = Runtime.getRuntime().availableProcessors();
+
+    private static final String CLEAR_STORAGE_SCRIPT = "try { window.localStorage.clear(); } catch (e) {}"
+            + "try { window.sessionStorage.clear(); } catch (e) {}";
+
+    private final Map<DriverConfigurationKey, Deque<SharedWebDriver>> idleDrivers = new LinkedHashMap<>();
+
+    private final Map<SharedWebDriver, DriverConfigurationKey> leasedDrivers = new IdentityHashMap<>();
+
+    private final SharedWebDriverRecyclingPolicy recyclingPolicy;
+
+    private int maxSize;
+
+    private int size;
+
+    private long leaseCount;
+
+    private long reuseCount;
+
+    private long leaseWaitTime;
+
+    public SharedWebDriverPool() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SharedWebDriverPool(int maxSize) {
+        this(maxSize, new SharedWebDriverRecyclingPolicy());
+    }
+
+    public SharedWebDriverPool(int maxSize, SharedWebDriverRecyclingPolicy recyclingPolicy) {
+        setMaxSize(maxSize);
+        this.recyclingPolicy = recyclingPolicy;
+    }
+
+    /**
+     * Get the recycling policy applied to idle instances before they are leased.
+     *
+     * @return recycling policy
+     */
+    public SharedWebDriverRecyclingPolicy getRecyclingPolicy() {
+        return recyclingPolicy;
+    }
+
+    /**
+     * Lease a driver from this pool, creating a new one if no idle instance is available.
+     * <p>
+     * All drivers leased with this method share the same unknown configuration.
+     *
+     * @param webDriverFactory Supplier supplying new WebDriver instances
+     * @param testClass        Test class
+     * @param testName         Test name
+     * @return leased driver
+     * @see #lease(Supplier, DriverConfigurationKey, Class, String)
+     */
+    public SharedWebDriver lease(Supplier<WebDriver> webDriverFactory, Class<?> testClass, String testName) {
+        return lease(webDriverFactory, null, testClass, testName);
+    }
+
+    /**
+     * Lease a driver created with the given configuration from this pool, creating a new one if no idle instance of
+     * this configuration is available.
+     *
+     * @param webDriverFactory Supplier supplying new WebDriver instances
+     * @param configurationKey configuration of the drivers created by the factory
+     * @param testClass        Test class
+     * @param testName         Test name
+     * @return leased driver
+     */
+    public SharedWebDriver lease(Supplier<WebDriver> webDriverFactory, DriverConfigurationKey configurationKey,
+                                 Class<?> testClass, String testName) {
+        SharedWebDriver idleDriver;
+        SharedWebDriver evictedDriver = null;
+        long start = System.nanoTime();
+        synchronized (this) {
+            while (true) {
+                idleDriver = pollIdleDriver(configurationKey);
+                if (idleDriver != null) {
+                    break;
+                }
+                if (size < maxSize) {
+                    size++;
+                    break;
+                }
+                evictedDriver = pollIdleDriver();
+                if (evictedDriver != null) {
+                    // Keep the slot of the evicted instance for the new one.
+                    break;
+                }
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new WebDriverException("Interrupted while waiting for a WebDriver from the pool", e);
+                }
+            }
+            leaseWaitTime += System.nanoTime() - start;
+            leaseCount++;
+        }
+
+        if (evictedDriver != null) {
+            quit(evictedDriver);
+        }
+
+        if (idleDriver != null) {
+            if (recyclingPolicy.shouldRecycle(idleDriver)) {
+                // Keep the slot of the recycled instance for its replacement.
+                quit(idleDriver);
+            } else {
+                SharedWebDriver driver = new SharedWebDriver(idleDriver, testClass, testName);
+                driver.markUsed();
+                synchronized (this) {
+                    reuseCount++;
+                    leasedDrivers.put(driver, configurationKey);
+                }
+                return driver;
+            }
+        }
+
+        WebDriver webDriver;
+        try {
+            webDriver = webDriverFactory.get();
+        } catch (RuntimeException | Error e) {
+            discard();
+            throw e;
+        }
+
+        SharedWebDriver driver = new SharedWebDriver(webDriver, testClass, testName, DriverLifecycle.POOL);
+        driver.markUsed();
+        synchronized (this) {
+            leasedDrivers.put(driver, configurationKey);
+        }
+        return driver;
+    }
+
+    private SharedWebDriver pollIdleDriver(DriverConfigurationKey configurationKey) {
+        Deque<SharedWebDriver> drivers = idleDrivers.get(configurationKey);
+        if (drivers == null) {
+            return null;
+        }
+        SharedWebDriver driver = drivers.pollFirst();
+        if (drivers.isEmpty()) {
+            idleDrivers.remove(configurationKey);
+        }
+        return driver;
+    }
+
+    private SharedWebDriver pollIdleDriver() {
+        Iterator<Deque<SharedWebDriver>> iterator = idleDrivers.values().iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        Deque<SharedWebDriver> drivers = iterator.next();
+        // Evict the least recently released instance.
+        SharedWebDriver driver = drivers.pollLast();
+        if (drivers.isEmpty()) {
+            iterator.remove();
+        }
+        return driver;
+    }
+
+    /**
+     * Give back a leased driver to this pool.
+     * <p>
+     * If the browser state can't be reset, or if the pool has been shrinked in the meantime, the driver is quit.
+     * Drivers that are not leased from this pool, or already given back, are ignored.
+     *
+     * @param driver leased driver
+     */
+    public void release(SharedWebDriver driver) {
+        synchronized (this) {
+            if (!leasedDrivers.containsKey(driver)) {
+                return;
+            }
+        }
+        WebDriver webDriver = driver.getDriver();
+        boolean reusable = webDriver != null && reset(webDriver);
+        synchronized (this) {
+            if (!leasedDrivers.containsKey(driver)) {
+                // Detached while being reset.
+                return;
+            }
+            if (reusable && size <= maxSize) {
+                DriverConfigurationKey configurationKey = leasedDrivers.remove(driver);
+                Deque<SharedWebDriver> drivers = idleDrivers.get(configurationKey);
+                if (drivers == null) {
+                    drivers = new ArrayDeque<>();
+                    idleDrivers.put(configurationKey, drivers);
+                }
+                drivers.addFirst(driver);
+                notifyAll();
+                return;
+            }
+        }
+        invalidate(driver);
+    }
+
+    /**
+     * Quit a leased driver instead of giving it back to this pool.
+     *
+     * @param driver leased driver
+     */
+    public void invalidate(SharedWebDriver driver) {
+        if (detach(driver)) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Remove a leased driver from this pool without quitting it. Caller is responsible for quitting it.
+     *
+     * @param driver leased driver
+     * @return true if the driver was leased from this pool, false if it's unknown or has already been given back
+     */
+    public boolean detach(SharedWebDriver driver) {
+        synchronized (this) {
+            if (!leasedDrivers.containsKey(driver)) {
+                return false;
+            }
+            leasedDrivers.remove(driver);
+        }
+        discard();
+        return true;
+    }
+
+    /**
+     * Reset the state of the browser so it can be leased by another test.
+     *
+     * @param webDriver driver to reset
+     * @return true if the driver has been reset and can be reused, false otherwise
+     */
+    protected boolean reset(WebDriver webDriver) {
+        try {
+            if (webDriver instanceof JavascriptExecutor) {
+                ((JavascriptExecutor) webDriver).executeScript(CLEAR_STORAGE_SCRIPT);
+            }
+            webDriver.manage().deleteAllCookies();
+            webDriver.get("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    private synchronized void discard() {
+        size--;
+        notifyAll();
+    }
+
+    private void quit(SharedWebDriver driver) {
+        try {
+            driver.quitDriver();
+        } catch (WebDriverException e) {
+            // Driver is already dead.
+        }
+    }
+
+    /**
+     * Quit all idle drivers of this pool.
+     * <p>
+     * Leased drivers are quit when given back to the pool.
+     */
+    public void quitAll() {
+        for (SharedWebDriver driver : detachIdleDrivers()) {
+            quit(driver);
+        }
+    }
+
+    /**
+     * Remove all idle drivers from this pool without quitting them. Caller is responsible for quitting them.
+     *
+     * @return idle drivers
+     */
+    public synchronized List<SharedWebDriver> detachIdleDrivers() {
+        List<SharedWebDriver> drivers = new ArrayList<>();
+        for (Deque<SharedWebDriver> configurationDrivers : idleDrivers.values()) {
+            drivers.addAll(configurationDrivers);
+        }
+        size -= drivers.size();
+        idleDrivers.clear();
+        notifyAll();
+        return drivers;
+    }
+
+    /**
+     * Get the maximum number of running instances.
+     *
+     * @return maximum size of the pool
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Set the maximum number of running instances.
+     *
+     * @param maxSize maximum size of the pool
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool size should be greater than 0");
+        }
+        this.maxSize = maxSize;
+        notifyAll();
+    }
+
+    /**
+     * Get the number of running instances, leased or idle.
+     *
+     * @return size of the pool
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Get the number of idle instances.
+     *
+     * @return number of idle instances
+     */
+    public synchronized int getIdleCount() {
+        int idleCount = 0;
+        for (Deque<SharedWebDriver> configurationDrivers : idleDrivers.values()) {
+            idleCount += configurationDrivers.size();
+        }
+        return idleCount;
+    }
+
+    /**
+     * Get the number of leases done on this pool.
+     *
+     * @return number of leases
+     */
+    public synchronized long getLeaseCount() {
+        return leaseCount;
+    }
+
+    /**
+     * Get the number of leases that reused an idle instance instead of creating a new one.
+     *
+     * @return number of reuses
+     */
+    public synchronized long getReuseCount() {
+        return reuseCount;
+    }
+
+    /**
+     * Get the total time spent by tests waiting for an instance to be available.
+     *
+     * @param unit time unit of the returned value
+     * @return total lease wait time
+     */
+    public synchronized long getLeaseWaitTime(TimeUnit unit) {
+        return unit.convert(leaseWaitTime, TimeUnit.NANOSECONDS);
+    }
+}
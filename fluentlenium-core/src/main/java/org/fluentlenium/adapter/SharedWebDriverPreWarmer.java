@@ -0,0 +1,232 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Supplier;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Keeps a given number of {@link WebDriver} instances created in background, so tests don't have to wait for the
+ * browser startup when they need a new instance.
+ * <p>
+ * Each time a driver is taken, another one is created in background using the factory of the caller. Pre-warmed
+ * drivers are only given to callers having the same {@link DriverConfigurationKey}. When the configuration changes, the
+ * driver is created synchronously, and drivers pre-warmed for other configurations are quit to make room for the new
+ * one.
+ */
+public class SharedWebDriverPreWarmer {
+    /**
+     * Driver created in background for a configuration.
+     */
+    private static class WarmDriver {
+        private final DriverConfigurationKey configurationKey;
+        private final Future<WebDriver> driver;
+
+        WarmDriver(DriverConfigurationKey configurationKey, Future<WebDriver> driver) {
+            this.configurationKey = configurationKey;
+            this.driver = driver;
+        }
+
+        boolean hasConfiguration(DriverConfigurationKey configurationKey) {
+            return this.configurationKey == null ? configurationKey == null
+                    : this.configurationKey.equals(configurationKey);
+        }
+    }
+
+    private final Deque<WarmDriver> warmDrivers = new ArrayDeque<>();
+
+    private int size;
+
+    private ExecutorService executor;
+
+    /**
+     * Check if pre-warming is enabled.
+     *
+     * @return true if pre-warming is enabled, false otherwise
+     */
+    public synchronized boolean isEnabled() {
+        return size > 0;
+    }
+
+    /**
+     * Get the number of drivers to keep ready.
+     *
+     * @return number of pre-warmed drivers
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Set the number of drivers to keep ready. 0 disables pre-warming and quit drivers already created.
+     *
+     * @param size number of pre-warmed drivers
+     */
+    public void setSize(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Pre-warm size should be positive");
+        }
+        List<Future<WebDriver>> exceedingDrivers = new ArrayList<>();
+        synchronized (this) {
+            if (this.size == size) {
+                return;
+            }
+            this.size = size;
+            while (warmDrivers.size() > size) {
+                exceedingDrivers.add(warmDrivers.pollLast().driver);
+            }
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+            if (size > 0) {
+                executor = Executors.newFixedThreadPool(size,
+                        new ThreadFactoryBuilder().setNameFormat("fluentlenium-prewarm-%d").setDaemon(true).build());
+            }
+        }
+        quit(exceedingDrivers);
+    }
+
+    /**
+     * Take a pre-warmed driver, and start the creation of another one in background.
+     * <p>
+     * All drivers taken with this method share the same unknown configuration.
+     *
+     * @param webDriverFactory Supplier supplying new WebDriver instances
+     * @return a new WebDriver instance
+     * @see #take(DriverConfigurationKey, Supplier)
+     */
+    public WebDriver take(Supplier<WebDriver> webDriverFactory) {
+        return take(null, webDriverFactory);
+    }
+
+    /**
+     * Take a driver pre-warmed for the given configuration, and start the creation of another one in background.
+     * <p>
+     * If a driver of this configuration is being created, this call waits for its creation. If there's none, the
+     * driver is created synchronously.
+     *
+     * @param configurationKey configuration of the drivers created by the factory
+     * @param webDriverFactory Supplier supplying new WebDriver instances
+     * @return a new WebDriver instance
+     */
+    public WebDriver take(DriverConfigurationKey configurationKey, Supplier<WebDriver> webDriverFactory) {
+        Future<WebDriver> warmDriver = null;
+        List<Future<WebDriver>> evictedDrivers = new ArrayList<>();
+        synchronized (this) {
+            if (executor != null) {
+                Iterator<WarmDriver> iterator = warmDrivers.iterator();
+                while (iterator.hasNext()) {
+                    WarmDriver candidate = iterator.next();
+                    if (candidate.hasConfiguration(configurationKey)) {
+                        iterator.remove();
+                        warmDriver = candidate.driver;
+                        break;
+                    }
+                }
+                warmDrivers.add(new WarmDriver(configurationKey, submit(webDriverFactory)));
+                while (warmDrivers.size() < size) {
+                    warmDrivers.add(new WarmDriver(configurationKey, submit(webDriverFactory)));
+                }
+                iterator = warmDrivers.iterator();
+                while (warmDrivers.size() > size && iterator.hasNext()) {
+                    WarmDriver candidate = iterator.next();
+                    if (!candidate.hasConfiguration(configurationKey)) {
+                        iterator.remove();
+                        evictedDrivers.add(candidate.driver);
+                    }
+                }
+                for (Future<WebDriver> evictedDriver : evictedDrivers) {
+                    submitQuit(evictedDriver);
+                }
+            }
+        }
+        if (warmDriver == null) {
+            return webDriverFactory.get();
+        }
+        return get(warmDriver);
+    }
+
+    /**
+     * Quit all drivers created in background, waiting for the ones being created.
+     */
+    public void quitAll() {
+        quit(detachAll());
+    }
+
+    /**
+     * Detach all drivers created in background, including the ones being created. Caller is responsible for
+     * quitting them.
+     *
+     * @return pre-warmed drivers
+     */
+    public synchronized List<Future<WebDriver>> detachAll() {
+        List<Future<WebDriver>> drivers = new ArrayList<>();
+        for (WarmDriver warmDriver : warmDrivers) {
+            drivers.add(warmDriver.driver);
+        }
+        warmDrivers.clear();
+        return drivers;
+    }
+
+    private Future<WebDriver> submit(final Supplier<WebDriver> webDriverFactory) {
+        return executor.submit(new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return webDriverFactory.get();
+            }
+        });
+    }
+
+    private void submitQuit(final Future<WebDriver> warmDriver) {
+        // Evicted drivers may still be starting, don't make the caller wait for them.
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                quit(Collections.singletonList(warmDriver));
+            }
+        });
+    }
+
+    private WebDriver get(Future<WebDriver> warmDriver) {
+        try {
+            return warmDriver.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting for a pre-warmed WebDriver", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new WebDriverException(e.getCause());
+        }
+    }
+
+    private void quit(List<Future<WebDriver>> drivers) {
+        for (Future<WebDriver> driver : drivers) {
+            try {
+                driver.get().quit();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException | WebDriverException e) {
+                // Driver creation has failed or driver is already dead.
+            }
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.adapter.metrics.DriverOperation;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quits many {@link WebDriver} instances in parallel on a bounded executor, with a timeout for each driver and a
+ * global deadline.
+ * <p>
+ * Drivers that are still quitting when their timeout or the global deadline is reached are abandoned: the thread
+ * quitting them is interrupted and, as those threads are daemon threads, they don't prevent the JVM from exiting.
+ * Abandoned drivers are returned to the caller and recorded in {@link DriverMetrics} as
+ * {@link DriverOperation#QUIT_ABANDONED} operations.
+ */
+class SharedWebDriverQuitter {
+    private static final long POLLING_INTERVAL = 50;
+
+    private final int parallelism;
+
+    private final long quitTimeout;
+
+    private final long quitAllTimeout;
+
+    private final List<QuitTask> tasks = new ArrayList<>();
+
+    private static class QuitTask implements Callable<Void> {
+        private final String description;
+
+        private final Callable<?> driver;
+
+        private volatile long startTime;
+
+        private volatile SharedWebDriver sharedWebDriver;
+
+        private volatile WebDriver webDriver;
+
+        private Future<Void> future;
+
+        QuitTask(String description, Callable<?> driver) {
+            this.description = description;
+            this.driver = driver;
+        }
+
+        @Override
+        public Void call() throws Exception {
+            startTime = System.nanoTime();
+            Object driverToQuit = driver.call();
+            if (driverToQuit instanceof SharedWebDriver) {
+                sharedWebDriver = (SharedWebDriver) driverToQuit;
+                webDriver = sharedWebDriver.getDriver();
+                sharedWebDriver.quitDriver();
+            } else if (driverToQuit instanceof WebDriver) {
+                webDriver = (WebDriver) driverToQuit;
+                webDriver.quit();
+            }
+            return null;
+        }
+
+        private AbandonedWebDriver abandon(long now) {
+            future.cancel(true);
+            long duration = startTime == 0 ? 0 : now - startTime;
+            SharedWebDriver abandonedSharedDriver = sharedWebDriver;
+            if (abandonedSharedDriver == null) {
+                DriverMetrics.INSTANCE.record(DriverOperation.QUIT_ABANDONED, null, description, null, duration);
+            } else {
+                DriverMetrics.INSTANCE.record(DriverOperation.QUIT_ABANDONED, abandonedSharedDriver, duration);
+            }
+            return new AbandonedWebDriver(description, webDriver);
+        }
+    }
+
+    /**
+     * Creates a new quitter.
+     *
+     * @param parallelism    maximum number of drivers being quit at the same time
+     * @param quitTimeout    timeout in milliseconds for a single driver to quit
+     * @param quitAllTimeout timeout in milliseconds for all drivers to quit
+     */
+    SharedWebDriverQuitter(int parallelism, long quitTimeout, long quitAllTimeout) {
+        this.parallelism = parallelism;
+        this.quitTimeout = TimeUnit.MILLISECONDS.toNanos(quitTimeout);
+        this.quitAllTimeout = TimeUnit.MILLISECONDS.toNanos(quitAllTimeout);
+    }
+
+    /**
+     * Add a driver to quit.
+     *
+     * @param description description of the driver, used to report drivers that couldn't be quit
+     * @param driver      callable returning the {@link WebDriver} or {@link SharedWebDriver} to quit, or null if
+     *                    there's nothing to quit
+     */
+    void add(String description, Callable<?> driver) {
+        tasks.add(new QuitTask(description, driver));
+    }
+
+    /**
+     * Add a driver to quit.
+     *
+     * @param webDriver driver to quit
+     */
+    void add(final WebDriver webDriver) {
+        add(String.valueOf(webDriver), new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return webDriver;
+            }
+        });
+    }
+
+    /**
+     * Add a shared driver to quit.
+     *
+     * @param driver shared driver to quit
+     */
+    void add(final SharedWebDriver driver) {
+        add(driver.toString(), new Callable<SharedWebDriver>() {
+            @Override
+            public SharedWebDriver call() {
+                return driver;
+            }
+        });
+    }
+
+    /**
+     * Quit all drivers, and wait until they are all quit, or until timeout.
+     *
+     * @return drivers that were still quitting at timeout
+     */
+    List<AbandonedWebDriver> quitAll() {
+        if (tasks.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int threads = Math.min(parallelism, tasks.size());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(),
+                new ThreadFactoryBuilder().setNameFormat("fluentlenium-quit-%d").setDaemon(true).build());
+
+        List<AbandonedWebDriver> abandoned = new ArrayList<>();
+        try {
+            for (QuitTask task : tasks) {
+                task.future = executor.submit(task);
+            }
+
+            long deadline = System.nanoTime() + quitAllTimeout;
+            List<QuitTask> pendingTasks = new ArrayList<>(tasks);
+            while (!pendingTasks.isEmpty()) {
+                long now = System.nanoTime();
+                List<QuitTask> stillPending = new ArrayList<>();
+                for (QuitTask task : pendingTasks) {
+                    if (task.future.isDone()) {
+                        continue;
+                    }
+                    boolean taskTimeout = task.startTime != 0 && now - task.startTime >= quitTimeout;
+                    if (taskTimeout || now >= deadline) {
+                        abandoned.add(task.abandon(now));
+                        if (taskTimeout && now < deadline) {
+                            // Abandoned thread may still be blocked, so give another thread to pending drivers.
+                            executor.setMaximumPoolSize(executor.getMaximumPoolSize() + 1);
+                            executor.setCorePoolSize(executor.getCorePoolSize() + 1);
+                        }
+                    } else {
+                        stillPending.add(task);
+                    }
+                }
+                pendingTasks = stillPending;
+                if (!pendingTasks.isEmpty()) {
+                    TimeUnit.NANOSECONDS.sleep(Math.min(TimeUnit.MILLISECONDS.toNanos(POLLING_INTERVAL),
+                            Math.max(deadline - now, 1)));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        return abandoned;
+    }
+}
@@ -0,0 +1,192 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Quits detached {@link WebDriver} instances in background, so the next test can start without waiting for the
+ * browser to exit.
+ * <p>
+ * At most {@link #getMaxInFlight()} drivers are quit at the same time, and at most {@link #getQueueSize()} drivers
+ * wait to be quit. When the queue is full, the driver is quit by the calling thread.
+ */
+public class SharedWebDriverReaper {
+    /**
+     * Default maximum number of drivers waiting to be quit.
+     */
+    public static final int DEFAULT_QUEUE_SIZE = 64;
+
+    private final int queueSize;
+
+    private int maxInFlight;
+
+    private ThreadPoolExecutor executor;
+
+    public SharedWebDriverReaper() {
+        this(DEFAULT_QUEUE_SIZE);
+    }
+
+    public SharedWebDriverReaper(int queueSize) {
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Queue size should be greater than 0");
+        }
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * Check if drivers are quit in background.
+     *
+     * @return true if drivers are quit in background, false otherwise
+     */
+    public synchronized boolean isEnabled() {
+        return maxInFlight > 0;
+    }
+
+    /**
+     * Get the maximum number of drivers being quit at the same time.
+     *
+     * @return maximum number of drivers being quit
+     */
+    public synchronized int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Set the maximum number of drivers being quit at the same time. 0 disables background quit, after waiting for
+     * pending drivers to be quit.
+     *
+     * @param maxInFlight maximum number of drivers being quit
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        if (maxInFlight < 0) {
+            throw new IllegalArgumentException("Max in-flight count should be positive");
+        }
+        synchronized (this) {
+            this.maxInFlight = maxInFlight;
+            if (executor != null && maxInFlight > 0) {
+                if (maxInFlight > executor.getMaximumPoolSize()) {
+                    executor.setMaximumPoolSize(maxInFlight);
+                    executor.setCorePoolSize(maxInFlight);
+                } else {
+                    executor.setCorePoolSize(maxInFlight);
+                    executor.setMaximumPoolSize(maxInFlight);
+                }
+            }
+        }
+        if (maxInFlight == 0) {
+            drain();
+        }
+    }
+
+    /**
+     * Get the maximum number of drivers waiting to be quit.
+     *
+     * @return size of the queue
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * Quit the given driver in background if enabled, or immediately otherwise.
+     *
+     * @param webDriver driver to quit
+     */
+    public void quit(final WebDriver webDriver) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    webDriver.quit();
+                } catch (WebDriverException e) {
+                    // Driver is already dead.
+                }
+            }
+        });
+    }
+
+    /**
+     * Quit the given shared driver in background if enabled, or immediately otherwise.
+     *
+     * @param driver shared driver to quit
+     */
+    public void quit(final SharedWebDriver driver) {
+        execute(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    driver.quitDriver();
+                } catch (WebDriverException e) {
+                    // Driver is already dead.
+                }
+            }
+        });
+    }
+
+    private void execute(Runnable task) {
+        ThreadPoolExecutor executor = getExecutor();
+        if (executor == null) {
+            task.run();
+        } else {
+            executor.execute(task);
+        }
+    }
+
+    private synchronized ThreadPoolExecutor getExecutor() {
+        if (maxInFlight == 0) {
+            return null;
+        }
+        if (executor == null) {
+            executor = new ThreadPoolExecutor(maxInFlight, maxInFlight, 1, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<Runnable>(queueSize),
+                    new ThreadFactoryBuilder().setNameFormat("fluentlenium-reaper-%d").setDaemon(true).build(),
+                    new RejectedExecutionHandler() {
+                        @Override
+                        public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+                            // Queue is full or reaper is draining: quit the driver in calling thread.
+                            task.run();
+                        }
+                    });
+            executor.allowCoreThreadTimeOut(true);
+        }
+        return executor;
+    }
+
+    /**
+     * Wait for all pending drivers to be quit.
+     */
+    public void drain() {
+        drain(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Wait for all pending drivers to be quit, or until timeout.
+     *
+     * @param timeout maximum time to wait
+     * @param unit    time unit of the timeout
+     * @return true if all pending drivers have been quit, false if timeout has been reached
+     */
+    public boolean drain(long timeout, TimeUnit unit) {
+        ThreadPoolExecutor executor;
+        synchronized (this) {
+            executor = this.executor;
+            this.executor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                return executor.awaitTermination(timeout, unit);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package org.fluentlenium.adapter;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides if a shared {@link WebDriver} instance should be replaced by a new one before being given to the next test.
+ * <p>
+ * A driver is recycled when it has been used by the maximum number of tests, when it is older than the maximum age,
+ * or when it doesn't answer to a liveness probe. All limits are disabled by default.
+ * <p>
+ * The policy only applies to drivers owned by a single test at a time, so a driver is never quit while another test
+ * is running on it.
+ */
+public class SharedWebDriverRecyclingPolicy {
+    private volatile int maxUses;
+
+    private volatile long maxAge;
+
+    private volatile boolean healthCheck;
+
+    /**
+     * Get the maximum number of tests using a driver.
+     *
+     * @return maximum number of uses, 0 if unlimited
+     */
+    public int getMaxUses() {
+        return maxUses;
+    }
+
+    /**
+     * Set the maximum number of tests using a driver.
+     *
+     * @param maxUses maximum number of uses, 0 if unlimited
+     */
+    public void setMaxUses(int maxUses) {
+        if (maxUses < 0) {
+            throw new IllegalArgumentException("Max uses should be positive");
+        }
+        this.maxUses = maxUses;
+    }
+
+    /**
+     * Get the maximum age of a driver.
+     *
+     * @return maximum age in milliseconds, 0 if unlimited
+     */
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Set the maximum age of a driver.
+     *
+     * @param maxAge maximum age in milliseconds, 0 if unlimited
+     */
+    public void setMaxAge(long maxAge) {
+        if (maxAge < 0) {
+            throw new IllegalArgumentException("Max age should be positive");
+        }
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Check if a liveness probe is sent to the driver before it is reused.
+     *
+     * @return true if liveness probe is enabled, false otherwise
+     */
+    public boolean isHealthCheck() {
+        return healthCheck;
+    }
+
+    /**
+     * Enable or disable the liveness probe sent to the driver before it is reused.
+     *
+     * @param healthCheck true to enable liveness probe, false otherwise
+     */
+    public void setHealthCheck(boolean healthCheck) {
+        this.healthCheck = healthCheck;
+    }
+
+    /**
+     * Check if the given driver should be replaced by a new one before being reused.
+     *
+     * @param driver driver to reuse
+     * @return true if the driver should be replaced, false if it can be reused
+     */
+    public boolean shouldRecycle(SharedWebDriver driver) {
+        if (driver.getDriver() == null) {
+            return false;
+        }
+        int maxUses = this.maxUses;
+        if (maxUses > 0 && driver.getUseCount() >= maxUses) {
+            return true;
+        }
+        long maxAge = this.maxAge;
+        if (maxAge > 0 && driver.getAge(TimeUnit.MILLISECONDS) >= maxAge) {
+            return true;
+        }
+        return healthCheck && !isAlive(driver.getDriver());
+    }
+
+    /**
+     * Liveness probe of a driver, doing a single round trip with the browser.
+     *
+     * @param webDriver driver to probe
+     * @return true if the driver is alive, false otherwise
+     */
+    protected boolean isAlive(WebDriver webDriver) {
+        try {
+            webDriver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.fluentlenium.adapter.metrics;
+
+import org.fluentlenium.adapter.SharedWebDriver;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A singleton recording the time spent in driver operations, and dispatching timings to registered
+ * {@link DriverMetricsListener}.
+ * <p>
+ * Timings are always aggregated in a {@link DriverMetricsSummary}, which is written as JSON at JVM exit when a
+ * summary file is defined.
+ */
+public enum DriverMetrics {
+    INSTANCE;
+
+    private final DriverMetricsSummary summary = new DriverMetricsSummary();
+
+    private final List<DriverMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile File summaryFile;
+
+    DriverMetrics() {
+        listeners.add(summary);
+        for (DriverMetricsListener listener : ServiceLoader.load(DriverMetricsListener.class)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Register a listener.
+     *
+     * @param listener listener to register
+     */
+    public void addListener(DriverMetricsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener.
+     *
+     * @param listener listener to unregister
+     */
+    public void removeListener(DriverMetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Get the summary aggregating all timings.
+     *
+     * @return metrics summary
+     */
+    public DriverMetricsSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Get the file where the JSON summary is written at JVM exit.
+     *
+     * @return summary file, or null if summary is not written
+     */
+    public File getSummaryFile() {
+        return summaryFile;
+    }
+
+    /**
+     * Set the file where the JSON summary is written at JVM exit.
+     *
+     * @param summaryFile summary file, or null to not write summary
+     */
+    public void setSummaryFile(File summaryFile) {
+        this.summaryFile = summaryFile;
+    }
+
+    /**
+     * Write the JSON summary to the summary file, if defined.
+     *
+     * @throws IOException if the summary file can't be written
+     */
+    public void writeSummary() throws IOException {
+        File summaryFile = this.summaryFile;
+        if (summaryFile != null) {
+            summary.write(summaryFile);
+        }
+    }
+
+    /**
+     * Record the time spent in a driver operation.
+     *
+     * @param operation       driver operation
+     * @param testClass       Test class
+     * @param testName        Test name
+     * @param driverLifecycle WebDriver lifecycle
+     * @param duration        duration of the operation, in nanoseconds
+     */
+    public void record(DriverOperation operation, Class<?> testClass, String testName, DriverLifecycle driverLifecycle,
+                       long duration) {
+        DriverTiming timing = new DriverTiming(operation, testClass, testName, driverLifecycle, duration);
+        for (DriverMetricsListener listener : listeners) {
+            try {
+                listener.timed(timing);
+            } catch (RuntimeException e) {
+                // A failing listener should never break the test run.
+            }
+        }
+    }
+
+    /**
+     * Record the time spent in a driver operation.
+     *
+     * @param operation driver operation
+     * @param driver    shared driver
+     * @param duration  duration of the operation, in nanoseconds
+     */
+    public void record(DriverOperation operation, SharedWebDriver driver, long duration) {
+        record(operation, driver.getTestClass(), driver.getTestName(), driver.getDriverLifecycle(), duration);
+    }
+}
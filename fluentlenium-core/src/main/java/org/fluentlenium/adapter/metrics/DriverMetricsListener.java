@@ -0,0 +1,19 @@
+package org.fluentlenium.adapter.metrics;
+
+/**
+ * Listener notified each time a driver operation has been timed.
+ * <p>
+ * Listeners can be registered with {@link DriverMetrics#addListener(DriverMetricsListener)}, or declared in a
+ * {@code META-INF/services/org.fluentlenium.adapter.metrics.DriverMetricsListener} file to be loaded with
+ * {@link java.util.ServiceLoader}.
+ * <p>
+ * Listeners are notified from the thread running the operation, which may be a background thread.
+ */
+public interface DriverMetricsListener {
+    /**
+     * Invoked when a driver operation has been timed.
+     *
+     * @param timing timing of the operation
+     */
+    void timed(DriverTiming timing);
+}
@@ -0,0 +1,185 @@
+package org.fluentlenium.adapter.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.io.FileUtils;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates driver timings per lifecycle and per test, and renders them as a JSON summary.
+ */
+public class DriverMetricsSummary implements DriverMetricsListener {
+    private final Map<DriverLifecycle, Map<DriverOperation, Stats>> lifecycleStats = new LinkedHashMap<>();
+
+    private final Map<String, TestStats> testStats = new LinkedHashMap<>();
+
+    private static class Stats {
+        private long count;
+
+        private long total;
+
+        private long max;
+
+        void add(long duration) {
+            count++;
+            total += duration;
+            max = Math.max(max, duration);
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("count", count);
+            json.addProperty("totalMillis", TimeUnit.NANOSECONDS.toMillis(total));
+            json.addProperty("meanMillis", TimeUnit.NANOSECONDS.toMillis(total / count));
+            json.addProperty("maxMillis", TimeUnit.NANOSECONDS.toMillis(max));
+            return json;
+        }
+    }
+
+    private static class TestStats {
+        private final String testClass;
+
+        private final String testName;
+
+        private final DriverLifecycle driverLifecycle;
+
+        private final Map<DriverOperation, Stats> operations = new EnumMap<>(DriverOperation.class);
+
+        TestStats(String testClass, String testName, DriverLifecycle driverLifecycle) {
+            this.testClass = testClass;
+            this.testName = testName;
+            this.driverLifecycle = driverLifecycle;
+        }
+    }
+
+    @Override
+    public synchronized void timed(DriverTiming timing) {
+        Map<DriverOperation, Stats> operations = lifecycleStats.get(timing.getDriverLifecycle());
+        if (operations == null) {
+            operations = new EnumMap<>(DriverOperation.class);
+            lifecycleStats.put(timing.getDriverLifecycle(), operations);
+        }
+        getStats(operations, timing.getOperation()).add(timing.getDuration());
+
+        if (timing.getTestClass() != null || timing.getTestName() != null) {
+            String testClass = timing.getTestClass() == null ? null : timing.getTestClass().getName();
+            String key = testClass + "#" + timing.getTestName() + "#" + timing.getDriverLifecycle();
+            TestStats test = testStats.get(key);
+            if (test == null) {
+                test = new TestStats(testClass, timing.getTestName(), timing.getDriverLifecycle());
+                testStats.put(key, test);
+            }
+            getStats(test.operations, timing.getOperation()).add(timing.getDuration());
+        }
+    }
+
+    private static Stats getStats(Map<DriverOperation, Stats> operations, DriverOperation operation) {
+        Stats stats = operations.get(operation);
+        if (stats == null) {
+            stats = new Stats();
+            operations.put(operation, stats);
+        }
+        return stats;
+    }
+
+    /**
+     * Get the total time spent in the given operation, for all lifecycles and tests.
+     *
+     * @param operation driver operation
+     * @param unit      time unit of the returned value
+     * @return total time spent in the operation
+     */
+    public synchronized long getTotalDuration(DriverOperation operation, TimeUnit unit) {
+        long total = 0;
+        for (Map<DriverOperation, Stats> operations : lifecycleStats.values()) {
+            Stats stats = operations.get(operation);
+            if (stats != null) {
+                total += stats.total;
+            }
+        }
+        return unit.convert(total, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the number of times the given operation has been timed, for all lifecycles and tests.
+     *
+     * @param operation driver operation
+     * @return number of operations
+     */
+    public synchronized long getCount(DriverOperation operation) {
+        long count = 0;
+        for (Map<DriverOperation, Stats> operations : lifecycleStats.values()) {
+            Stats stats = operations.get(operation);
+            if (stats != null) {
+                count += stats.count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Clear all aggregated timings.
+     */
+    public synchronized void reset() {
+        lifecycleStats.clear();
+        testStats.clear();
+    }
+
+    /**
+     * Render aggregated timings as JSON.
+     *
+     * @return JSON summary
+     */
+    public synchronized String toJson() {
+        JsonObject json = new JsonObject();
+
+        JsonArray lifecycles = new JsonArray();
+        for (Map.Entry<DriverLifecycle, Map<DriverOperation, Stats>> entry : lifecycleStats.entrySet()) {
+            JsonObject lifecycle = new JsonObject();
+            lifecycle.addProperty("driverLifecycle", entry.getKey() == null ? null : entry.getKey().name());
+            lifecycle.add("operations", toJson(entry.getValue()));
+            lifecycles.add(lifecycle);
+        }
+        json.add("lifecycles", lifecycles);
+
+        JsonArray tests = new JsonArray();
+        for (TestStats test : testStats.values()) {
+            JsonObject testJson = new JsonObject();
+            testJson.addProperty("testClass", test.testClass);
+            testJson.addProperty("testName", test.testName);
+            testJson.addProperty("driverLifecycle", test.driverLifecycle == null ? null : test.driverLifecycle.name());
+            testJson.add("operations", toJson(test.operations));
+            tests.add(testJson);
+        }
+        json.add("tests", tests);
+
+        return new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(json);
+    }
+
+    private static JsonObject toJson(Map<DriverOperation, Stats> operations) {
+        JsonObject json = new JsonObject();
+        for (Map.Entry<DriverOperation, Stats> entry : operations.entrySet()) {
+            json.add(entry.getKey().name(), entry.getValue().toJson());
+        }
+        return json;
+    }
+
+    /**
+     * Write the JSON summary to the given file.
+     *
+     * @param file destination file
+     * @throws IOException if the file can't be written
+     */
+    public void write(File file) throws IOException {
+        FileUtils.writeStringToFile(file, toJson(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,31 @@
+package org.fluentlenium.adapter.metrics;
+
+/**
+ * Driver operations timed by {@link DriverMetrics}.
+ */
+public enum DriverOperation {
+    /**
+     * Creation of a new WebDriver instance.
+     */
+    NEW_WEB_DRIVER,
+    /**
+     * Quit of a WebDriver instance.
+     */
+    QUIT,
+    /**
+     * Quit of a WebDriver instance abandoned after timeout, timed until it was abandoned.
+     */
+    QUIT_ABANDONED,
+    /**
+     * Deletion of all cookies between tests.
+     */
+    DELETE_COOKIES,
+    /**
+     * Screenshot capture of a failed test.
+     */
+    SCREENSHOT,
+    /**
+     * HTML dump capture of a failed test.
+     */
+    HTML_DUMP
+}
@@ -0,0 +1,40 @@
+package org.fluentlenium.adapter.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent in a driver operation for a given test.
+ */
+@Getter
+@AllArgsConstructor
+public class DriverTiming {
+    private final DriverOperation operation;
+
+    private final Class<?> testClass;
+
+    private final String testName;
+
+    private final DriverLifecycle driverLifecycle;
+
+    private final long duration;
+
+    /**
+     * Get the time spent in the operation.
+     *
+     * @param unit time unit of the returned value
+     * @return duration of the operation
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "DriverTiming{" + "operation=" + operation + ", testClass=" + testClass + ", testName='" + testName + '\''
+                + ", driverLifecycle=" + driverLifecycle + ", duration=" + getDuration(TimeUnit.MILLISECONDS) + "ms}";
+    }
+}
@@ -64,6 +64,16 @@ public abstract class AbstractPropertiesConfiguration implements ConfigurationPr
         }
     }
 
+    private Integer getIntegerProperty(String propertyName) {
+        String property = getProperty(propertyName);
+        if (!isValidProperty(property)) return null;
+        try {
+            return Integer.parseInt(property);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
     private Boolean getBooleanProperty(String propertyName) {
         String property = getProperty(propertyName);
         if (!isValidProperty(property)) return null;
@@ -154,6 +164,61 @@ public abstract class AbstractPropertiesConfiguration implements ConfigurationPr
         return getBooleanProperty("deleteCookies");
     }
 
+    @Override
+    public Integer getDriverPoolSize() {
+        return getIntegerProperty("driverPoolSize");
+    }
+
+    @Override
+    public Integer getDriverPreWarmSize() {
+        return getIntegerProperty("driverPreWarmSize");
+    }
+
+    @Override
+    public Integer getDriverReaperMaxInFlight() {
+        return getIntegerProperty("driverReaperMaxInFlight");
+    }
+
+    @Override
+    public Integer getDriverMaxUses() {
+        return getIntegerProperty("driverMaxUses");
+    }
+
+    @Override
+    public Long getDriverMaxAge() {
+        return getLongProperty("driverMaxAge");
+    }
+
+    @Override
+    public Boolean getDriverHealthCheck() {
+        return getBooleanProperty("driverHealthCheck");
+    }
+
+    @Override
+    public Long getDriverQuitTimeout() {
+        return getLongProperty("driverQuitTimeout");
+    }
+
+    @Override
+    public Long getDriverQuitAllTimeout() {
+        return getLongProperty("driverQuitAllTimeout");
+    }
+
+    @Override
+    public String getDriverMetricsFile() {
+        return getStringProperty("driverMetricsFile");
+    }
+
+    @Override
+    public String getWaitMetricsFile() {
+        return getStringProperty("waitMetricsFile");
+    }
+
+    @Override
+    public Integer getParallelThreadCount() {
+        return getIntegerProperty("parallelThreadCount");
+    }
+
 
     @Override
     public String getBaseUrl() {
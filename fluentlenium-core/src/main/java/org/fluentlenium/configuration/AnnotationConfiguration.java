@@ -87,6 +87,11 @@ public class AnnotationConfiguration implements ConfigurationProperties {
         return property;
     }
 
+    private Integer getIntegerValue(int property) {
+        if (property < 0) return null;
+        return property;
+    }
+
     private TriggerMode getTriggerModeValue(TriggerMode triggerMode) {
         if (triggerMode == TriggerMode.DEFAULT) return null;
         return triggerMode;
@@ -133,6 +138,72 @@ public class AnnotationConfiguration implements ConfigurationProperties {
         return configuration.deleteCookies().asBoolean();
     }
 
+    @Override
+    public Integer getDriverPoolSize() {
+        if (configuration == null) return null;
+        return getIntegerValue(configuration.driverPoolSize());
+    }
+
+    @Override
+    public Integer getDriverPreWarmSize() {
+        if (configuration == null) return null;
+        return getIntegerValue(configuration.driverPreWarmSize());
+    }
+
+    @Override
+    public Integer getDriverReaperMaxInFlight() {
+        if (configuration == null) return null;
+        return getIntegerValue(configuration.driverReaperMaxInFlight());
+    }
+
+    @Override
+    public Integer getDriverMaxUses() {
+        if (configuration == null) return null;
+        return getIntegerValue(configuration.driverMaxUses());
+    }
+
+    @Override
+    public Long getDriverMaxAge() {
+        if (configuration == null) return null;
+        return getLongValue(configuration.driverMaxAge());
+    }
+
+    @Override
+    public Boolean getDriverHealthCheck() {
+        if (configuration == null) return null;
+        return configuration.driverHealthCheck().asBoolean();
+    }
+
+    @Override
+    public Long getDriverQuitTimeout() {
+        if (configuration == null) return null;
+        return getLongValue(configuration.driverQuitTimeout());
+    }
+
+    @Override
+    public Long getDriverQuitAllTimeout() {
+        if (configuration == null) return null;
+        return getLongValue(configuration.driverQuitAllTimeout());
+    }
+
+    @Override
+    public String getDriverMetricsFile() {
+        if (configuration == null) return null;
+        return getStringValue(configuration.driverMetricsFile());
+    }
+
+    @Override
+    public String getWaitMetricsFile() {
+        if (configuration == null) return null;
+        return getStringValue(configuration.waitMetricsFile());
+    }
+
+    @Override
+    public Integer getParallelThreadCount() {
+        if (configuration == null) return null;
+        return getIntegerValue(configuration.parallelThreadCount());
+    }
+
     @Override
     public String getBaseUrl() {
         if (configuration == null) return null;
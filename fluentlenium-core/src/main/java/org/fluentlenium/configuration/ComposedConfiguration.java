@@ -84,6 +84,105 @@ public class ComposedConfiguration implements Configuration {
         return null;
     }
 
+    @Override
+    public Integer getDriverPoolSize() {
+        for (ConfigurationProperties configuration : configurations) {
+            Integer driverPoolSize = configuration.getDriverPoolSize();
+            if (driverPoolSize != null) return driverPoolSize;
+        }
+        return null;
+    }
+
+    @Override
+    public Integer getDriverPreWarmSize() {
+        for (ConfigurationProperties configuration : configurations) {
+            Integer driverPreWarmSize = configuration.getDriverPreWarmSize();
+            if (driverPreWarmSize != null) return driverPreWarmSize;
+        }
+        return null;
+    }
+
+    @Override
+    public Integer getDriverReaperMaxInFlight() {
+        for (ConfigurationProperties configuration : configurations) {
+            Integer driverReaperMaxInFlight = configuration.getDriverReaperMaxInFlight();
+            if (driverReaperMaxInFlight != null) return driverReaperMaxInFlight;
+        }
+        return null;
+    }
+
+    @Override
+    public Integer getDriverMaxUses() {
+        for (ConfigurationProperties configuration : configurations) {
+            Integer driverMaxUses = configuration.getDriverMaxUses();
+            if (driverMaxUses != null) return driverMaxUses;
+        }
+        return null;
+    }
+
+    @Override
+    public Long getDriverMaxAge() {
+        for (ConfigurationProperties configuration : configurations) {
+            Long driverMaxAge = configuration.getDriverMaxAge();
+            if (driverMaxAge != null) return driverMaxAge;
+        }
+        return null;
+    }
+
+    @Override
+    public Boolean getDriverHealthCheck() {
+        for (ConfigurationProperties configuration : configurations) {
+            Boolean driverHealthCheck = configuration.getDriverHealthCheck();
+            if (driverHealthCheck != null) return driverHealthCheck;
+        }
+        return null;
+    }
+
+    @Override
+    public Long getDriverQuitTimeout() {
+        for (ConfigurationProperties configuration : configurations) {
+            Long driverQuitTimeout = configuration.getDriverQuitTimeout();
+            if (driverQuitTimeout != null) return driverQuitTimeout;
+        }
+        return null;
+    }
+
+    @Override
+    public Long getDriverQuitAllTimeout() {
+        for (ConfigurationProperties configuration : configurations) {
+            Long driverQuitAllTimeout = configuration.getDriverQuitAllTimeout();
+            if (driverQuitAllTimeout != null) return driverQuitAllTimeout;
+        }
+        return null;
+    }
+
+    @Override
+    public String getDriverMetricsFile() {
+        for (ConfigurationProperties configuration : configurations) {
+            String driverMetricsFile = configuration.getDriverMetricsFile();
+            if (driverMetricsFile != null) return driverMetricsFile;
+        }
+        return null;
+    }
+
+    @Override
+    public String getWaitMetricsFile() {
+        for (ConfigurationProperties configuration : configurations) {
+            String waitMetricsFile = configuration.getWaitMetricsFile();
+            if (waitMetricsFile != null) return waitMetricsFile;
+        }
+        return null;
+    }
+
+    @Override
+    public Integer getParallelThreadCount() {
+        for (ConfigurationProperties configuration : configurations) {
+            Integer parallelThreadCount = configuration.getParallelThreadCount();
+            if (parallelThreadCount != null) return parallelThreadCount;
+        }
+        return null;
+    }
+
     @Override
     public String getBaseUrl() {
         for (ConfigurationProperties configuration : configurations) {
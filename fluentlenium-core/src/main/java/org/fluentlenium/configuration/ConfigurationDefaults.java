@@ -43,6 +43,61 @@ public class ConfigurationDefaults implements ConfigurationProperties {
         return false;
     }
 
+    @Override
+    public Integer getDriverPoolSize() {
+        return null;
+    }
+
+    @Override
+    public Integer getDriverPreWarmSize() {
+        return null;
+    }
+
+    @Override
+    public Integer getDriverReaperMaxInFlight() {
+        return null;
+    }
+
+    @Override
+    public Integer getDriverMaxUses() {
+        return null;
+    }
+
+    @Override
+    public Long getDriverMaxAge() {
+        return null;
+    }
+
+    @Override
+    public Boolean getDriverHealthCheck() {
+        return null;
+    }
+
+    @Override
+    public Long getDriverQuitTimeout() {
+        return null;
+    }
+
+    @Override
+    public Long getDriverQuitAllTimeout() {
+        return null;
+    }
+
+    @Override
+    public String getDriverMetricsFile() {
+        return null;
+    }
+
+    @Override
+    public String getWaitMetricsFile() {
+        return null;
+    }
+
+    @Override
+    public Integer getParallelThreadCount() {
+        return null;
+    }
+
     @Override
     public String getBaseUrl() {
         return null;
@@ -56,6 +56,94 @@ public interface ConfigurationMutator {
      */
     void setDeleteCookies(Boolean deleteCookies);
 
+    /**
+     * Sets the value of <pre>driverPoolSize</pre> property.
+     *
+     * @param driverPoolSize property value
+     * @see ConfigurationProperties#getDriverPoolSize()
+     */
+    void setDriverPoolSize(Integer driverPoolSize);
+
+    /**
+     * Sets the value of <pre>driverPreWarmSize</pre> property.
+     *
+     * @param driverPreWarmSize property value
+     * @see ConfigurationProperties#getDriverPreWarmSize()
+     */
+    void setDriverPreWarmSize(Integer driverPreWarmSize);
+
+    /**
+     * Sets the value of <pre>driverReaperMaxInFlight</pre> property.
+     *
+     * @param driverReaperMaxInFlight property value
+     * @see ConfigurationProperties#getDriverReaperMaxInFlight()
+     */
+    void setDriverReaperMaxInFlight(Integer driverReaperMaxInFlight);
+
+    /**
+     * Sets the value of <pre>driverMaxUses</pre> property.
+     *
+     * @param driverMaxUses property value
+     * @see ConfigurationProperties#getDriverMaxUses()
+     */
+    void setDriverMaxUses(Integer driverMaxUses);
+
+    /**
+     * Sets the value of <pre>driverMaxAge</pre> property.
+     *
+     * @param driverMaxAge property value
+     * @see ConfigurationProperties#getDriverMaxAge()
+     */
+    void setDriverMaxAge(Long driverMaxAge);
+
+    /**
+     * Sets the value of <pre>driverHealthCheck</pre> property.
+     *
+     * @param driverHealthCheck property value
+     * @see ConfigurationProperties#getDriverHealthCheck()
+     */
+    void setDriverHealthCheck(Boolean driverHealthCheck);
+
+    /**
+     * Sets the value of <pre>driverQuitTimeout</pre> property.
+     *
+     * @param driverQuitTimeout property value
+     * @see ConfigurationProperties#getDriverQuitTimeout()
+     */
+    void setDriverQuitTimeout(Long driverQuitTimeout);
+
+    /**
+     * Sets the value of <pre>driverQuitAllTimeout</pre> property.
+     *
+     * @param driverQuitAllTimeout property value
+     * @see ConfigurationProperties#getDriverQuitAllTimeout()
+     */
+    void setDriverQuitAllTimeout(Long driverQuitAllTimeout);
+
+    /**
+     * Sets the value of <pre>driverMetricsFile</pre> property.
+     *
+     * @param driverMetricsFile property value
+     * @see ConfigurationProperties#getDriverMetricsFile()
+     */
+    void setDriverMetricsFile(String driverMetricsFile);
+
+    /**
+     * Sets the value of <pre>waitMetricsFile</pre> property.
+     *
+     * @param waitMetricsFile property value
+     * @see ConfigurationProperties#getWaitMetricsFile()
+     */
+    void setWaitMetricsFile(String waitMetricsFile);
+
+    /**
+     * Sets the value of <pre>parallelThreadCount</pre> property.
+     *
+     * @param parallelThreadCount property value
+     * @see ConfigurationProperties#getParallelThreadCount()
+     */
+    void setParallelThreadCount(Integer parallelThreadCount);
+
 
     /**
      * Sets the value of <pre>baseUrl</pre> property.
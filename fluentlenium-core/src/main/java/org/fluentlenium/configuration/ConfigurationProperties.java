@@ -99,6 +99,18 @@ public interface ConfigurationProperties {
          * WebDriver is created for each test method, and this instance is used only for one test method.
          */
         METHOD,
+        /**
+         * WebDriver is leased from a bounded pool of running instances for each test method, and given back to the
+         * pool once the test method has finished. Cookies, local storage and session storage are cleared, and
+         * browser is navigated to about:blank before the instance is given to another test method.
+         */
+        POOL,
+        /**
+         * WebDriver is created for each thread running tests, and same instance is used for each test class and method
+         * run by this thread. It should be used with {@link org.fluentlenium.adapter.ThreadLocalFluentControlContainer}
+         * when tests are run in parallel.
+         */
+        THREAD,
         /**
          * Default value.
          */
@@ -186,6 +198,139 @@ public interface ConfigurationProperties {
      */
     Boolean getDeleteCookies();
 
+    /**
+     * <pre>driverPoolSize</pre> property.
+     *
+     * When using POOL <pre>driverLifecycle</pre> configuration property, sets the maximum number of WebDriver instances
+     * running in the pool. When all instances are leased, tests wait for an instance to be given back to the pool.
+     *
+     * Default value is the number of available processors.
+     *
+     * @return driverPoolSize property value.
+     */
+    Integer getDriverPoolSize();
+
+    /**
+     * <pre>driverPreWarmSize</pre> property.
+     *
+     * Sets the number of WebDriver instances created in background, so tests using METHOD or CLASS
+     * <pre>driverLifecycle</pre> configuration property don't wait for the browser startup. Pre-warmed instances are
+     * created with the configuration of the test that has taken the previous instance.
+     *
+     * Default value is null, which disables pre-warming.
+     *
+     * @return driverPreWarmSize property value.
+     */
+    Integer getDriverPreWarmSize();
+
+    /**
+     * <pre>driverReaperMaxInFlight</pre> property.
+     *
+     * Sets the maximum number of WebDriver instances being quit at the same time in background, so the next test doesn't
+     * wait for the browser to exit. Pending instances are quit before the JVM exits.
+     *
+     * Default value is null, which quits WebDriver instances synchronously.
+     *
+     * @return driverReaperMaxInFlight property value.
+     */
+    Integer getDriverReaperMaxInFlight();
+
+    /**
+     * <pre>driverMaxUses</pre> property.
+     *
+     * Sets the maximum number of tests using a shared WebDriver instance. When this limit is reached, the instance is quit
+     * and replaced by a new one when the next test starts.
+     *
+     * Default value is null, which means unlimited.
+     *
+     * @return driverMaxUses property value.
+     */
+    Integer getDriverMaxUses();
+
+    /**
+     * <pre>driverMaxAge</pre> property.
+     *
+     * Sets the maximum age in milliseconds of a shared WebDriver instance. When this age is reached, the instance is quit
+     * and replaced by a new one when the next test starts.
+     *
+     * Default value is null, which means unlimited.
+     *
+     * @return driverMaxAge property value.
+     */
+    Long getDriverMaxAge();
+
+    /**
+     * <pre>driverHealthCheck</pre> property.
+     *
+     * Enables a liveness probe sent to a shared WebDriver instance before it is reused by another test. When the probe
+     * fails, the instance is quit and replaced by a new one.
+     *
+     * Default value is false.
+     *
+     * @return driverHealthCheck property value.
+     */
+    Boolean getDriverHealthCheck();
+
+    /**
+     * <pre>driverQuitTimeout</pre> property.
+     *
+     * Sets the maximum time in milliseconds to wait for a single WebDriver to quit when all drivers are quit at JVM
+     * shutdown. Drivers still quitting after this time are abandoned.
+     *
+     * Default value is 30000.
+     *
+     * @return driverQuitTimeout property value.
+     */
+    Long getDriverQuitTimeout();
+
+    /**
+     * <pre>driverQuitAllTimeout</pre> property.
+     *
+     * Sets the maximum time in milliseconds to wait for all WebDriver instances to quit at JVM shutdown. Drivers are quit
+     * in parallel, and drivers still quitting after this time are abandoned.
+     *
+     * Default value is 60000.
+     *
+     * @return driverQuitAllTimeout property value.
+     */
+    Long getDriverQuitAllTimeout();
+
+    /**
+     * <pre>driverMetricsFile</pre> property.
+     *
+     * Sets the path of a JSON file where a summary of the time spent in WebDriver creation, quit, cookies deletion
+     * and failure screenshot/HTML dump is written when the JVM exits.
+     *
+     * Default value is null, which means no summary is written.
+     *
+     * @return driverMetricsFile property value.
+     */
+    String getDriverMetricsFile();
+
+    /**
+     * <pre>waitMetricsFile</pre> property.
+     *
+     * Sets the path of a file where histograms of the duration and polls of waits, per call site, are written when
+     * the JVM exits. The summary is written as CSV if the file name ends with .csv, as JSON otherwise.
+     *
+     * Default value is null, which means no summary is written.
+     *
+     * @return waitMetricsFile property value.
+     */
+    String getWaitMetricsFile();
+
+    /**
+     * <pre>parallelThreadCount</pre> property.
+     *
+     * Sets the number of threads running test methods in parallel, when using a parallel test runner like
+     * FluentParallelRunner for JUnit.
+     *
+     * Default value is null, which means the number of available processors.
+     *
+     * @return parallelThreadCount property value.
+     */
+    Integer getParallelThreadCount();
+
     /**
      * <pre>pageLoadTimeout</pre> property.
      *
@@ -90,6 +90,94 @@ public @interface FluentConfiguration {
      */
     BooleanValue deleteCookies() default BooleanValue.DEFAULT;
 
+    /**
+     * <i>driverPoolSize</i> property.
+     *
+     * @return driverPoolSize
+     * @see ConfigurationProperties#getDriverPoolSize()
+     */
+    int driverPoolSize() default -1;
+
+    /**
+     * <i>driverPreWarmSize</i> property.
+     *
+     * @return driverPreWarmSize
+     * @see ConfigurationProperties#getDriverPreWarmSize()
+     */
+    int driverPreWarmSize() default -1;
+
+    /**
+     * <i>driverReaperMaxInFlight</i> property.
+     *
+     * @return driverReaperMaxInFlight
+     * @see ConfigurationProperties#getDriverReaperMaxInFlight()
+     */
+    int driverReaperMaxInFlight() default -1;
+
+    /**
+     * <i>driverMaxUses</i> property.
+     *
+     * @return driverMaxUses
+     * @see ConfigurationProperties#getDriverMaxUses()
+     */
+    int driverMaxUses() default -1;
+
+    /**
+     * <i>driverMaxAge</i> property.
+     *
+     * @return driverMaxAge
+     * @see ConfigurationProperties#getDriverMaxAge()
+     */
+    long driverMaxAge() default -1;
+
+    /**
+     * <i>driverHealthCheck</i> property.
+     *
+     * @return driverHealthCheck
+     * @see ConfigurationProperties#getDriverHealthCheck()
+     */
+    BooleanValue driverHealthCheck() default BooleanValue.DEFAULT;
+
+    /**
+     * <i>driverQuitTimeout</i> property.
+     *
+     * @return driverQuitTimeout
+     * @see ConfigurationProperties#getDriverQuitTimeout()
+     */
+    long driverQuitTimeout() default -1;
+
+    /**
+     * <i>driverQuitAllTimeout</i> property.
+     *
+     * @return driverQuitAllTimeout
+     * @see ConfigurationProperties#getDriverQuitAllTimeout()
+     */
+    long driverQuitAllTimeout() default -1;
+
+    /**
+     * <i>driverMetricsFile</i> property.
+     *
+     * @return driverMetricsFile
+     * @see ConfigurationProperties#getDriverMetricsFile()
+     */
+    String driverMetricsFile() default "";
+
+    /**
+     * <i>waitMetricsFile</i> property.
+     *
+     * @return waitMetricsFile
+     * @see ConfigurationProperties#getWaitMetricsFile()
+     */
+    String waitMetricsFile() default "";
+
+    /**
+     * <i>parallelThreadCount</i> property.
+     *
+     * @return parallelThreadCount
+     * @see ConfigurationProperties#getParallelThreadCount()
+     */
+    int parallelThreadCount() default -1;
+
     /**
      * <i>baseUrl</i> property.
      *
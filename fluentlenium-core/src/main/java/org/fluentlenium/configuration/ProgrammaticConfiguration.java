@@ -23,6 +23,28 @@ public class ProgrammaticConfiguration implements Configuration {
 
     private Boolean deleteCookies;
 
+    private Integer driverPoolSize;
+
+    private Integer driverPreWarmSize;
+
+    private Integer driverReaperMaxInFlight;
+
+    private Integer driverMaxUses;
+
+    private Long driverMaxAge;
+
+    private Boolean driverHealthCheck;
+
+    private Long driverQuitTimeout;
+
+    private Long driverQuitAllTimeout;
+
+    private String driverMetricsFile;
+
+    private String waitMetricsFile;
+
+    private Integer parallelThreadCount;
+
     private String baseUrl;
 
     private Boolean eventsEnabled;
@@ -91,6 +113,116 @@ public class ProgrammaticConfiguration implements Configuration {
         this.deleteCookies = deleteCookies;
     }
 
+    @Override
+    public Integer getDriverPoolSize() {
+        return driverPoolSize;
+    }
+
+    @Override
+    public void setDriverPoolSize(Integer driverPoolSize) {
+        this.driverPoolSize = driverPoolSize;
+    }
+
+    @Override
+    public Integer getDriverPreWarmSize() {
+        return driverPreWarmSize;
+    }
+
+    @Override
+    public void setDriverPreWarmSize(Integer driverPreWarmSize) {
+        this.driverPreWarmSize = driverPreWarmSize;
+    }
+
+    @Override
+    public Integer getDriverReaperMaxInFlight() {
+        return driverReaperMaxInFlight;
+    }
+
+    @Override
+    public void setDriverReaperMaxInFlight(Integer driverReaperMaxInFlight) {
+        this.driverReaperMaxInFlight = driverReaperMaxInFlight;
+    }
+
+    @Override
+    public Integer getDriverMaxUses() {
+        return driverMaxUses;
+    }
+
+    @Override
+    public void setDriverMaxUses(Integer driverMaxUses) {
+        this.driverMaxUses = driverMaxUses;
+    }
+
+    @Override
+    public Long getDriverMaxAge() {
+        return driverMaxAge;
+    }
+
+    @Override
+    public void setDriverMaxAge(Long driverMaxAge) {
+        this.driverMaxAge = driverMaxAge;
+    }
+
+    @Override
+    public Boolean getDriverHealthCheck() {
+        return driverHealthCheck;
+    }
+
+    @Override
+    public void setDriverHealthCheck(Boolean driverHealthCheck) {
+        this.driverHealthCheck = driverHealthCheck;
+    }
+
+    @Override
+    public Long getDriverQuitTimeout() {
+        return driverQuitTimeout;
+    }
+
+    @Override
+    public void setDriverQuitTimeout(Long driverQuitTimeout) {
+        this.driverQuitTimeout = driverQuitTimeout;
+    }
+
+    @Override
+    public Long getDriverQuitAllTimeout() {
+        return driverQuitAllTimeout;
+    }
+
+    @Override
+    public void setDriverQuitAllTimeout(Long driverQuitAllTimeout) {
+        this.driverQuitAllTimeout = driverQuitAllTimeout;
+    }
+
+    @Override
+    public String getDriverMetricsFile() {
+        return driverMetricsFile;
+    }
+
+    @Override
+    public void setDriverMetricsFile(String driverMetricsFile) {
+        this.driverMetricsFile = driverMetricsFile;
+    }
+
+    @Override
+    public String getWaitMetricsFile() {
+        return waitMetricsFile;
+    }
+
+    @Override
+    public void setWaitMetricsFile(String waitMetricsFile) {
+        this.waitMetricsFile = waitMetricsFile;
+    }
+
+    @Override
+    public Integer getParallelThreadCount() {
+        return parallelThreadCount;
+    }
+
+    @Override
+    public void setParallelThreadCount(Integer parallelThreadCount) {
+        this.parallelThreadCount = parallelThreadCount;
+    }
+
     @Override
     public Class<? extends ConfigurationFactory> getConfigurationFactory() {
         return configurationFactory;
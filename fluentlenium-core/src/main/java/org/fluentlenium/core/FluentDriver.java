@@ -19,6 +19,7 @@ import org.fluentlenium.core.hook.DefaultHookChainBuilder;
 import org.fluentlenium.core.hook.HookChainBuilder;
 import org.fluentlenium.core.inject.DefaultContainerInstanciator;
 import org.fluentlenium.core.inject.FluentInjector;
+import org.fluentlenium.core.proxy.LocatorProxies;
 import org.fluentlenium.core.script.FluentJavascript;
 import org.fluentlenium.core.search.Search;
 import org.fluentlenium.core.wait.FluentWait;
@@ -244,7 +245,7 @@ public class FluentDriver implements FluentControl {
 
     @Override
     public FluentWait await() {
-        return new FluentWait(this, getSearch());
+        return new FluentWait(this, getSearch(), configuration.getScriptTimeout());
     }
 
     @Override
@@ -294,6 +295,7 @@ public class FluentDriver implements FluentControl {
             }
         }
         getDriver().get(url);
+        LocatorProxies.invalidateStaleness(getDriver());
     }
 
     @Override
@@ -319,16 +321,21 @@ public class FluentDriver implements FluentControl {
         }
 
         getDriver().switchTo().window(newTab);
+        LocatorProxies.invalidateStaleness(getDriver());
     }
 
     @Override
     public FluentJavascript executeScript(String script, Object... args) {
-        return new FluentJavascript((JavascriptExecutor) getDriver(), false, script, args);
+        FluentJavascript fluentJavascript = new FluentJavascript((JavascriptExecutor) getDriver(), false, script, args);
+        LocatorProxies.invalidateStaleness(getDriver());
+        return fluentJavascript;
     }
 
     @Override
     public FluentJavascript executeAsyncScript(String script, Object... args) {
-        return new FluentJavascript((JavascriptExecutor) getDriver(), true, script, args);
+        FluentJavascript fluentJavascript = new FluentJavascript((JavascriptExecutor) getDriver(), true, script, args);
+        LocatorProxies.invalidateStaleness(getDriver());
+        return fluentJavascript;
     }
 
     @Override
@@ -422,6 +429,7 @@ public class FluentDriver implements FluentControl {
             }
             getDriver().switchTo().frame(target);
         }
+        LocatorProxies.invalidateStaleness(getDriver());
     }
 
     @Override
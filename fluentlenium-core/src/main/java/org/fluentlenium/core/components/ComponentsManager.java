@@ -88,11 +88,13 @@ public class ComponentsManager extends AbstractComponentInstantiator implements
 
     @Override
     public void proxyElementFound(Object proxy, ElementLocator locator, List<WebElement> elements) {
-        for (WebElement element : elements) {
-            Object component = components.remove(proxy);
-            if (component != null) {
-                components.put(unwrapElement(element), component);
-            }
+        if (elements.isEmpty()) {
+            // Keep the component of the proxy, so it's still found when the element appears later.
+            return;
+        }
+        Object component = components.remove(proxy);
+        if (component != null) {
+            components.put(unwrapElement(elements.get(0)), component);
         }
     }
 
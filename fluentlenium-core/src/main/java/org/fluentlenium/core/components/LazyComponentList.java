@@ -1,21 +1,24 @@
 package org.fluentlenium.core.components;
 
-import lombok.Getter;
-import lombok.experimental.Delegate;
 import org.fluentlenium.core.domain.WrapsElements;
+import org.fluentlenium.core.proxy.LocatorProxies;
 import org.openqa.selenium.WebElement;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
  * A list of component that lazy initialize from it's related list of elements.
+ * <p>
+ * Each component is created on first access to its index. The whole list is initialized when it's modified.
  *
  * @param <T> type of component.
  */
-public class LazyComponentList<T> implements List<T>, WrapsElements, LazyComponents<T> {
+public class LazyComponentList<T> extends AbstractList<T> implements WrapsElements, LazyComponents<T> {
     private final ComponentInstantiator instantiator;
     private final Class<T> componentClass;
 
@@ -23,9 +26,11 @@ public class LazyComponentList<T> implements List<T>, WrapsElements, LazyCompone
 
     private List<LazyComponentsListener<T>> lazyComponentsListeners = new ArrayList<>();
 
-    @Delegate
-    @Getter(lazy = true)
-    private final List<T> list = transformList();
+    private List<WebElement> loadedElements;
+
+    private Object[] components;
+
+    private List<T> list;
 
     public LazyComponentList(ComponentInstantiator instantiator, Class<T> componentClass, List<WebElement> elements) {
         this.componentClass = componentClass;
@@ -33,15 +38,53 @@ public class LazyComponentList<T> implements List<T>, WrapsElements, LazyCompone
         this.elements = elements;
     }
 
+    private void loadElements() {
+        if (loadedElements == null) {
+            loadedElements = LocatorProxies.getLocatorResult(elements);
+            components = new Object[loadedElements.size()];
+        }
+    }
+
+    private T getComponent(int index) {
+        T component = (T) components[index];
+        if (component == null) {
+            WebElement element = loadedElements.get(index);
+            component = this.instantiator.newComponent(componentClass, element);
+            components[index] = component;
+            fireLazyComponentsInitialized(Collections.singletonMap(element, component));
+        }
+        return component;
+    }
+
+    /**
+     * Get the list of all components, initializing the ones that are not initialized yet.
+     *
+     * @return list of components
+     */
+    protected List<T> getList() {
+        if (list == null) {
+            list = transformList();
+        }
+        return list;
+    }
+
     protected List<T> transformList() {
+        loadElements();
         List<T> components = new ArrayList<>();
         Map<WebElement, T> componentMap = new LinkedHashMap<>();
-        for (WebElement element : this.elements) {
-            T component = this.instantiator.newComponent(componentClass, element);
+        for (int i = 0; i < this.components.length; i++) {
+            T component = (T) this.components[i];
+            if (component == null) {
+                WebElement element = loadedElements.get(i);
+                component = this.instantiator.newComponent(componentClass, element);
+                componentMap.put(element, component);
+            }
             components.add(component);
-            componentMap.put(element, component);
         }
-        fireLazyComponentsInitialized(componentMap);
+        this.components = null;
+        if (!componentMap.isEmpty()) {
+            fireLazyComponentsInitialized(componentMap);
+        }
         return components;
     }
 
@@ -51,6 +94,42 @@ public class LazyComponentList<T> implements List<T>, WrapsElements, LazyCompone
         }
     }
 
+    @Override
+    public T get(int index) {
+        if (list != null) {
+            return list.get(index);
+        }
+        loadElements();
+        return getComponent(index);
+    }
+
+    @Override
+    public int size() {
+        if (list != null) {
+            return list.size();
+        }
+        loadElements();
+        return components.length;
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return getList().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        getList().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        T removed = getList().remove(index);
+        modCount++;
+        return removed;
+    }
+
     @Override
     public boolean addLazyComponentsListener(LazyComponentsListener<T> listener) {
         return lazyComponentsListeners.add(listener);
@@ -66,9 +145,15 @@ public class LazyComponentList<T> implements List<T>, WrapsElements, LazyCompone
         return true;
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The whole list is initialized when it's modified. Reading components by index or iterating the list keeps it
+     * lazy.
+     */
     @Override
     public boolean isLazyInitialized() {
-        return list == null;
+        return list != null;
     }
 
     @Override
@@ -1,8 +1,27 @@
 package org.fluentlenium.core.components;
 
+/**
+ * A collection of components lazily created from elements.
+ *
+ * @param <T> type of component
+ */
 public interface LazyComponents<T> {
+    /**
+     * Check if components are created lazily.
+     *
+     * @return true if components are created lazily, false otherwise
+     */
     boolean isLazy();
 
+    /**
+     * Check if all components have been initialized, so that the collection no longer reflects the lazily found
+     * elements. Components created one by one on index access don't initialize the whole collection.
+     * <p>
+     * While this returns false, the collection can be counted or read from its underlying elements, and
+     * {@link LazyComponentsListener} are notified of components created later.
+     *
+     * @return true if all components have been initialized, false otherwise
+     */
     boolean isLazyInitialized();
 
     boolean addLazyComponentsListener(LazyComponentsListener<T> listener);
@@ -1,6 +1,7 @@
 package org.fluentlenium.core.conditions;
 
 import com.google.common.base.Predicate;
+import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
 
 import java.util.List;
@@ -17,25 +18,37 @@ public abstract class AbstractFluentListConditions implements FluentListConditio
         this.elements = elements;
     }
 
+    /**
+     * Count the elements, without retrieving them when the list is not loaded yet.
+     *
+     * @return number of elements
+     */
+    protected int count() {
+        if (elements instanceof FluentList) {
+            return ((FluentList<?>) elements).count();
+        }
+        return elements.size();
+    }
+
     @Override
     public boolean isPresent() {
         if (negation) {
-            return elements.size() <= 0;
+            return count() <= 0;
         }
-        return elements.size() > 0;
+        return count() > 0;
     }
 
     @Override
     public boolean hasSize(int size) {
         if (negation) {
-            return elements.size() != size;
+            return count() != size;
         }
-        return elements.size() == size;
+        return count() == size;
     }
 
     @Override
     public IntegerConditions hasSize() {
-        IntegerConditionsImpl conditions = new IntegerConditionsImpl(elements.size());
+        IntegerConditionsImpl conditions = new IntegerConditionsImpl(count());
         if (negation) {
             conditions = conditions.not();
         }
@@ -37,6 +37,16 @@ public interface FluentList<E extends FluentWebElement> extends List<E>, FluentA
      */
     E index(int index);
 
+    /**
+     * Count elements of the list.
+     * <p>
+     * When the list is not loaded yet, elements are counted without being retrieved, and the list is still searched
+     * on next access.
+     *
+     * @return number of elements
+     */
+    int count();
+
     /**
      * Creates a list of Selenium {@link WebElement} from this list
      *
@@ -14,10 +14,17 @@ import org.fluentlenium.core.hook.DefaultHookChainBuilder;
 import org.fluentlenium.core.hook.FluentHook;
 import org.fluentlenium.core.hook.HookChainBuilder;
 import org.fluentlenium.core.hook.HookDefinition;
+import org.fluentlenium.core.inject.ElementLocatorSearchContext;
 import org.fluentlenium.core.proxy.LocatorProxies;
+import org.fluentlenium.core.search.Search;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -112,9 +119,24 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
         return get(index);
     }
 
+    @Override
+    public int count() {
+        if (proxy != null && isLazy() && !isLazyInitialized()) {
+            return LocatorProxies.count(proxy);
+        }
+        return size();
+    }
+
     @Override
     public boolean isPresent() {
         if (LocatorProxies.getLocatorHandler(proxy) != null) {
+            if (isLazy() && !isLazyInitialized() && !LocatorProxies.isLoaded(proxy)) {
+                try {
+                    return count() > 0;
+                } catch (NoSuchElementException | StaleElementReferenceException e) {
+                    return false;
+                }
+            }
             return LocatorProxies.isPresent(this);
         }
         return this.size() > 0;
@@ -241,6 +263,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public List<String> getIds() {
+        List<String> values = readProperties(ListPropertiesScript.ID, "getId");
+        if (values != null) {
+            return values;
+        }
         return Lists.transform(this, new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getId();
@@ -259,6 +285,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public List<String> getNames() {
+        List<String> values = readProperties(ListPropertiesScript.NAME, "getName");
+        if (values != null) {
+            return values;
+        }
         return Lists.transform(this, new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getName();
@@ -268,6 +298,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public List<String> getTagNames() {
+        List<String> values = readProperties(ListPropertiesScript.TAG_NAME, "getTagName");
+        if (values != null) {
+            return values;
+        }
         return Lists.transform(this, new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getTagName();
@@ -277,6 +311,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public List<String> getTextContents() {
+        List<String> values = readProperties(ListPropertiesScript.TEXT_CONTENT, "getTextContent");
+        if (values != null) {
+            return values;
+        }
         return Lists.transform(this, new Function<E, String>() {
             public String apply(E webElement) {
                 return webElement.getTextContent();
@@ -293,6 +331,43 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
         });
     }
 
+    /**
+     * Read a property of all elements with a single script execution.
+     *
+     * @param property property to read, supported by {@link ListPropertiesScript}
+     * @param getter   name of the component method reading this property from a single element
+     * @return values, or null if they can't be read with a single script and should be read element by element
+     */
+    private List<String> readProperties(String property, String getter) {
+        if (!isLazy() || isLazyInitialized() || isOverridden(getter)) {
+            return null;
+        }
+        WebDriver driver = fluentControl == null ? null : fluentControl.getDriver();
+        if (!(driver instanceof JavascriptExecutor)) {
+            return null;
+        }
+        List<WebElement> elements = LocatorProxies.getFoundElements(proxy);
+        if (elements == null || elements.size() != this.size()) {
+            return null;
+        }
+        if (elements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return ListPropertiesScript.read((JavascriptExecutor) driver, elements, property);
+        } catch (WebDriverException | UnsupportedOperationException | IllegalStateException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private boolean isOverridden(String method) {
+        try {
+            return componentClass.getMethod(method).getDeclaringClass() != FluentWebElement.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     @Override
     public String getValue() {
         if (this.size() > 0) {
@@ -369,8 +444,47 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
         return find(index, filters);
     }
 
+    /**
+     * Get a search of the children of all elements of this list, sending a single command to find children of all
+     * elements.
+     *
+     * @return search of children, or null if this list is not built from a locator or has been modified
+     */
+    private Search getChildrenSearch() {
+        if (LocatorProxies.getLocatorHandler(proxy) == null || !isLazy() || isLazyInitialized()) {
+            return null;
+        }
+        final List<WebElement> parents = proxy;
+        ElementLocator parentsLocator = new ElementLocator() {
+            @Override
+            public WebElement findElement() {
+                List<WebElement> elements = findElements();
+                if (elements.isEmpty()) {
+                    throw new NoSuchElementException("Element not found");
+                }
+                return elements.get(0);
+            }
+
+            @Override
+            public List<WebElement> findElements() {
+                List<WebElement> foundElements = LocatorProxies.getFoundElements(parents);
+                return foundElements != null ? foundElements : LocatorProxies.getLocatorResult(parents);
+            }
+        };
+        return new Search(new ElementLocatorSearchContext(parentsLocator), instantiator, hookChainBuilder);
+    }
+
+    private FluentList<E> asChildrenList(FluentList<FluentWebElement> children) {
+        return instantiator.asComponentList(getClass(), FluentWebElement.class,
+                ((WrapsElements) children).getWrappedElements());
+    }
+
     @Override
     public FluentList<E> find(String selector, Filter... filters) {
+        Search childrenSearch = getChildrenSearch();
+        if (childrenSearch != null) {
+            return asChildrenList(childrenSearch.find(selector, filters));
+        }
         List<E> finds = new ArrayList<>();
         for (FluentWebElement e : this) {
             finds.addAll((Collection<E>) e.find(selector, filters));
@@ -380,6 +494,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public FluentList<E> find(By locator, Filter... filters) {
+        Search childrenSearch = getChildrenSearch();
+        if (childrenSearch != null) {
+            return asChildrenList(childrenSearch.find(locator, filters));
+        }
         List<E> finds = new ArrayList<E>();
         for (FluentWebElement e : this) {
             finds.addAll((Collection<E>) e.find(locator, filters));
@@ -389,6 +507,10 @@ public class FluentListImpl<E extends FluentWebElement> extends ComponentList<E>
 
     @Override
     public FluentList<E> find(Filter... filters) {
+        Search childrenSearch = getChildrenSearch();
+        if (childrenSearch != null) {
+            return asChildrenList(childrenSearch.find(filters));
+        }
         List<E> finds = new ArrayList<E>();
         for (FluentWebElement e : this) {
             finds.addAll((Collection<E>) e.find(filters));
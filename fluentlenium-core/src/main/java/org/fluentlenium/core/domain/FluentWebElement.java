@@ -34,25 +34,31 @@ import java.util.List;
  */
 public class FluentWebElement extends Component implements WrapsElement, FluentActions<FluentWebElement, FluentWebElement>,
         FluentProxyState<FluentWebElement>, SearchControl<FluentWebElement>, HookControl<FluentWebElement> {
-    private final Search search;
-    private final Axes axes;
-    private final MouseElementActions mouseActions;
-    private final KeyboardElementActions keyboardActions;
-    private final WebElementConditions conditions;
+    private Search search;
+    private Axes axes;
+    private MouseElementActions mouseActions;
+    private KeyboardElementActions keyboardActions;
+    private WebElementConditions conditions;
 
     private final List<HookDefinition<?>> hookDefinitions = new ArrayList<>();
-    private final HookChainBuilder hookChainBuilder;
+    private HookChainBuilder hookChainBuilder;
 
     public FluentWebElement(WebElement webElement, FluentControl fluentControl, ComponentInstantiator instantiator) {
         super(webElement, fluentControl, instantiator);
+    }
 
-        this.hookChainBuilder = new DefaultHookChainBuilder(this.fluentControl, this.instantiator);
+    private HookChainBuilder getHookChainBuilder() {
+        if (hookChainBuilder == null) {
+            hookChainBuilder = new DefaultHookChainBuilder(this.fluentControl, this.instantiator);
+        }
+        return hookChainBuilder;
+    }
 
-        this.search = new Search(webElement, this.instantiator, this.hookChainBuilder);
-        this.axes = new Axes(webElement, this.instantiator, this.hookChainBuilder);
-        this.mouseActions = new MouseElementActions(this.fluentControl.getDriver(), webElement);
-        this.keyboardActions = new KeyboardElementActions(this.fluentControl.getDriver(), webElement);
-        this.conditions = new WebElementConditions(this);
+    private Search getSearch() {
+        if (search == null) {
+            search = new Search(webElement, this.instantiator, getHookChainBuilder());
+        }
+        return search;
     }
 
     /**
@@ -93,10 +99,16 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return object to perform XPath Axes transformations.
      */
     public Axes axes() {
+        if (axes == null) {
+            axes = new Axes(webElement, this.instantiator, getHookChainBuilder());
+        }
         return axes;
     }
 
     public WebElementConditions conditions() {
+        if (conditions == null) {
+            conditions = new WebElementConditions(this);
+        }
         return conditions;
     }
 
@@ -106,6 +118,9 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return mouse actions object
      */
     public MouseElementActions mouse() {
+        if (mouseActions == null) {
+            mouseActions = new MouseElementActions(this.fluentControl.getDriver(), webElement);
+        }
         return mouseActions;
     }
 
@@ -115,6 +130,9 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return keyboard actions object
      */
     public KeyboardElementActions keyboard() {
+        if (keyboardActions == null) {
+            keyboardActions = new KeyboardElementActions(this.fluentControl.getDriver(), webElement);
+        }
         return keyboardActions;
     }
 
@@ -330,7 +348,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(By locator, Filter... filters) {
-        return search.find(locator, filters);
+        return getSearch().find(locator, filters);
     }
 
     /**
@@ -341,7 +359,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(String selector, Filter... filters) {
-        return search.find(selector, filters);
+        return getSearch().find(selector, filters);
     }
 
     /**
@@ -351,7 +369,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return list of Fluent web elements
      */
     public FluentList<FluentWebElement> find(Filter... filters) {
-        return search.find(filters);
+        return getSearch().find(filters);
     }
 
     /**
@@ -362,7 +380,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return fluent web element
      */
     public FluentWebElement find(String selector, Integer index, Filter... filters) {
-        return search.find(selector, filters).index(index);
+        return getSearch().find(selector, filters).index(index);
     }
 
     /**
@@ -373,7 +391,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return fluent web element
      */
     public FluentWebElement find(By locator, Integer index, Filter... filters) {
-        return search.find(locator, filters).index(index);
+        return getSearch().find(locator, filters).index(index);
     }
 
     @Override
@@ -395,7 +413,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      */
     @Override
     public FluentWebElement find(Integer index, Filter... filters) {
-        return search.find(filters).index(index);
+        return getSearch().find(filters).index(index);
     }
 
     @Override
@@ -412,7 +430,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      */
     @Override
     public FluentWebElement findFirst(String selector, Filter... filters) {
-        return search.findFirst(selector, filters);
+        return getSearch().findFirst(selector, filters);
     }
 
     /**
@@ -423,7 +441,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      * @return fluent web element
      */
     public FluentWebElement findFirst(By locator, Filter... filters) {
-        return search.findFirst(locator, filters);
+        return getSearch().findFirst(locator, filters);
     }
 
     /**
@@ -434,7 +452,7 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
      */
     @Override
     public FluentWebElement findFirst(Filter... filters) {
-        return search.findFirst(filters);
+        return getSearch().findFirst(filters);
     }
 
     /**
@@ -483,21 +501,21 @@ public class FluentWebElement extends Component implements WrapsElement, FluentA
     @Override
     public FluentWebElement noHook() {
         hookDefinitions.clear();
-        LocatorProxies.setHooks(getElement(), hookChainBuilder, hookDefinitions);
+        LocatorProxies.setHooks(getElement(), getHookChainBuilder(), hookDefinitions);
         return this;
     }
 
     @Override
     public <O, H extends FluentHook<O>> FluentWebElement withHook(Class<H> hook) {
         hookDefinitions.add(new HookDefinition<>(hook));
-        LocatorProxies.setHooks(getElement(), hookChainBuilder, hookDefinitions);
+        LocatorProxies.setHooks(getElement(), getHookChainBuilder(), hookDefinitions);
         return this;
     }
 
     @Override
     public <O, H extends FluentHook<O>> FluentWebElement withHook(Class<H> hook, O options) {
         hookDefinitions.add(new HookDefinition<>(hook, options));
-        LocatorProxies.setHooks(getElement(), hookChainBuilder, hookDefinitions);
+        LocatorProxies.setHooks(getElement(), getHookChainBuilder(), hookDefinitions);
         return this;
     }
 }
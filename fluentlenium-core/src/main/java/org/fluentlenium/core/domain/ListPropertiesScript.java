@@ -0,0 +1,71 @@
+package org.fluentlenium.core.domain;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the same property of many elements with a single script execution.
+ * <p>
+ * Only properties whose value in the browser is exactly the one returned by WebDriver are supported. Visible text and
+ * arbitrary attributes are computed by WebDriver with rules that can't be reproduced by a script (line breaks,
+ * text-transform, boolean attributes, resolved URLs), so they must be read element by element.
+ */
+final class ListPropertiesScript {
+    /**
+     * Tag name of elements, as returned by {@link WebElement#getTagName()}.
+     */
+    static final String TAG_NAME = "tagName";
+
+    /**
+     * Id of elements, as returned by {@link WebElement#getAttribute(String)} for {@code id}.
+     */
+    static final String ID = "id";
+
+    /**
+     * Name of elements, as returned by {@link WebElement#getAttribute(String)} for {@code name}.
+     */
+    static final String NAME = "name";
+
+    /**
+     * Text content of elements, as returned by {@link WebElement#getAttribute(String)} for {@code textContent}.
+     */
+    static final String TEXT_CONTENT = "textContent";
+
+    static final String SCRIPT = "var elements = arguments[0], property = arguments[1], values = [];\n"
+            + "for (var i = 0; i < elements.length; i++) {\n"
+            + "  var element = elements[i];\n"
+            + "  if (property === 'tagName') { values.push(element.tagName.toLowerCase()); continue; }\n"
+            + "  var value = element[property];\n"
+            + "  if (value === undefined || value === null || typeof value === 'object') {\n"
+            + "    value = element.getAttribute(property);\n"
+            + "  }\n"
+            + "  values.push(value === undefined || value === null ? null : String(value));\n"
+            + "}\n"
+            + "return values;";
+
+    private ListPropertiesScript() {
+    }
+
+    /**
+     * Read the given property of all elements.
+     *
+     * @param executor javascript executor of the driver owning the elements
+     * @param elements elements to read
+     * @param property property to read, one of {@link #ID}, {@link #NAME}, {@link #TAG_NAME} or {@link #TEXT_CONTENT}
+     * @return values, in the order of elements
+     */
+    static List<String> read(JavascriptExecutor executor, List<WebElement> elements, String property) {
+        List<?> result = (List<?>) executor.executeScript(SCRIPT, elements, property);
+        if (result == null || result.size() != elements.size()) {
+            throw new IllegalStateException("Script returned " + result + " for " + elements.size() + " elements");
+        }
+        List<String> values = new ArrayList<>(result.size());
+        for (Object value : result) {
+            values.add(value == null ? null : value.toString());
+        }
+        return values;
+    }
+}
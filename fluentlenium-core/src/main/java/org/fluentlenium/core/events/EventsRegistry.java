@@ -16,6 +16,8 @@ public class EventsRegistry {
 
     private final EventsSupport support;
 
+    private final StalenessEventListener stalenessListener;
+
     private final DefaultComponentInstantiator instantiator;
 
     List<NavigateToListener> beforeNavigateTo = new ArrayList<NavigateToListener>();
@@ -61,6 +63,8 @@ public class EventsRegistry {
         this.support = new EventsSupport(this);
         this.instantiator = new DefaultComponentInstantiator(fluentControl);
         this.register(this.support);
+        this.stalenessListener = new StalenessEventListener();
+        this.register(this.stalenessListener);
     }
 
     public EventsRegistry register(final WebDriverEventListener eventListener) {
@@ -86,6 +90,7 @@ public class EventsRegistry {
 
     public void close() {
         this.unregister(this.support);
+        this.unregister(this.stalenessListener);
     }
 
     public WebDriver getWrappedDriver() {
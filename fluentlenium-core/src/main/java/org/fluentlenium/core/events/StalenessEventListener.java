@@ -0,0 +1,48 @@
+package org.fluentlenium.core.events;
+
+import org.fluentlenium.core.proxy.LocatorProxies;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.AbstractWebDriverEventListener;
+
+/**
+ * Invalidates the staleness policy of element proxies on events that may change the page.
+ *
+ * @see LocatorProxies#invalidateStaleness(WebDriver)
+ */
+public class StalenessEventListener extends AbstractWebDriverEventListener {
+    @Override
+    public void afterNavigateTo(String url, WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterNavigateBack(WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterNavigateForward(WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterNavigateRefresh(WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterClickOn(WebElement element, WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterChangeValueOf(WebElement element, WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+
+    @Override
+    public void afterScript(String script, WebDriver driver) {
+        LocatorProxies.invalidateStaleness(driver);
+    }
+}
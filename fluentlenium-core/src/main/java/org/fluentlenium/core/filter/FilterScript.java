@@ -0,0 +1,206 @@
+package org.fluentlenium.core.filter;
+
+import org.fluentlenium.core.filter.matcher.ContainsMatcher;
+import org.fluentlenium.core.filter.matcher.ContainsWordMatcher;
+import org.fluentlenium.core.filter.matcher.EndsWithMatcher;
+import org.fluentlenium.core.filter.matcher.EqualMatcher;
+import org.fluentlenium.core.filter.matcher.Matcher;
+import org.fluentlenium.core.filter.matcher.NotContainsMatcher;
+import org.fluentlenium.core.filter.matcher.NotEndsWithMatcher;
+import org.fluentlenium.core.filter.matcher.NotStartsWithMatcher;
+import org.fluentlenium.core.filter.matcher.StartsWithMatcher;
+import org.fluentlenium.core.script.ElementScripts;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Post filters compiled to a single script evaluated by the browser.
+ * <p>
+ * Instead of retrieving the text or attribute of each element with one command per element and per filter, the whole
+ * filter chain is sent with the elements to filter in a single {@link JavascriptExecutor#executeScript} call, and
+ * only matching elements are returned.
+ * <p>
+ * Only filters using built-in matchers and regular expressions having the same meaning in Java and JavaScript can be
+ * compiled. {@link #compile(Collection)} returns null for other filter chains, which should then be evaluated with
+ * {@link FilterPredicate}.
+ */
+public final class FilterScript {
+    private static final Map<Class<?>, String> OPERATIONS = new HashMap<>();
+
+    private static final Map<Class<?>, Boolean> NEGATIONS = new HashMap<>();
+
+    static {
+        register(EqualMatcher.class, "equal", false);
+        register(ContainsMatcher.class, "contains", false);
+        register(ContainsWordMatcher.class, "contains", false);
+        register(StartsWithMatcher.class, "startsWith", false);
+        register(EndsWithMatcher.class, "endsWith", false);
+        register(NotContainsMatcher.class, "contains", true);
+        register(NotStartsWithMatcher.class, "startsWith", true);
+        register(NotEndsWithMatcher.class, "endsWith", true);
+    }
+
+    private static final int SUPPORTED_FLAGS = Pattern.CASE_INSENSITIVE | Pattern.MULTILINE;
+
+    /**
+     * Java regular expression constructs without JavaScript equivalent (boundaries, quotes, unicode classes,
+     * possessive quantifiers, embedded flags and class intersections).
+     */
+    private static final Pattern UNSUPPORTED_REGEX = Pattern.compile("\\\\[AZzGQEpPhHRXk]|[+*?}]\\+|\\(\\?[a-zA-Z-]|&&");
+
+    /**
+     * Declares {@code matchesFilters(element, filters)}, returning true if the element matches all compiled filters
+     * given by {@link #getCompiledFilters()}. It requires {@link ElementScripts#TEXT_FUNCTION} and
+     * {@link ElementScripts#ATTRIBUTE_FUNCTION}.
+     */
+    public static final String FILTER_FUNCTION = "function valueOf(element, attribute) {\n"
+            + "  return attribute === 'text' ? textOf(element) : attributeOf(element, attribute);\n"
+            + "}\n"
+            + "function test(operation, reference, regex, flags, current) {\n"
+            + "  if (current === undefined || current === null) { return false; }\n"
+            + "  if (!regex) {\n"
+            + "    if (operation === 'equal') { return current === reference; }\n"
+            + "    if (operation === 'contains') { return current.indexOf(reference) >= 0; }\n"
+            + "    if (operation === 'startsWith') { return current.indexOf(reference) === 0; }\n"
+            + "    return current.length >= reference.length"
+            + " && current.lastIndexOf(reference) === current.length - reference.length;\n"
+            + "  }\n"
+            + "  if (operation === 'equal') {\n"
+            // Anchors of the whole value, as $ and ^ would match at line boundaries with multiline flag.
+            + "    var whole = new RegExp('^(?:' + reference + ')(?![\\\\s\\\\S])', flags).exec(current);\n"
+            + "    return whole !== null && whole.index === 0;\n"
+            + "  }\n"
+            + "  if (operation === 'contains') { return new RegExp(reference, flags).test(current); }\n"
+            + "  if (operation === 'startsWith') {\n"
+            + "    var first = new RegExp(reference, flags).exec(current);\n"
+            + "    return first !== null && first.index === 0;\n"
+            + "  }\n"
+            + "  var pattern = new RegExp(reference, flags + 'g'), end = 0, match;\n"
+            + "  while ((match = pattern.exec(current)) !== null) {\n"
+            + "    end = match.index + match[0].length;\n"
+            + "    if (match[0].length === 0) { pattern.lastIndex++; }\n"
+            + "  }\n"
+            + "  return current.length === end;\n"
+            + "}\n"
+            + "function matchesFilters(element, filters) {\n"
+            + "  for (var j = 0; j < filters.length; j++) {\n"
+            + "    var filter = filters[j];\n"
+            + "    var result = test(filter[1], filter[2], filter[3], filter[4], valueOf(element, filter[0]));\n"
+            + "    if (filter[5] ? result : !result) { return false; }\n"
+            + "  }\n"
+            + "  return true;\n"
+            + "}\n";
+
+    static final String SCRIPT = "var elements = arguments[0], filters = arguments[1], matched = [];\n"
+            + ElementScripts.TEXT_FUNCTION
+            + ElementScripts.ATTRIBUTE_FUNCTION
+            + FILTER_FUNCTION
+            + "for (var i = 0; i < elements.length; i++) {\n"
+            + "  if (matchesFilters(elements[i], filters)) { matched.push(i); }\n"
+            + "}\n"
+            + "return matched;";
+
+    private final List<List<Object>> compiledFilters;
+
+    private static void register(Class<? extends Matcher> matcherClass, String operation, boolean negated) {
+        OPERATIONS.put(matcherClass, operation);
+        NEGATIONS.put(matcherClass, negated);
+    }
+
+    private FilterScript(List<List<Object>> compiledFilters) {
+        this.compiledFilters = compiledFilters;
+    }
+
+    /**
+     * Compile the given filter chain to a browser script.
+     *
+     * @param filters filters to compile
+     * @return compiled script, or null if at least one filter can't be evaluated by the browser
+     */
+    public static FilterScript compile(Collection<Filter> filters) {
+        List<List<Object>> compiledFilters = new ArrayList<>(filters.size());
+        for (Filter filter : filters) {
+            List<Object> compiledFilter = compile(filter);
+            if (compiledFilter == null) {
+                return null;
+            }
+            compiledFilters.add(compiledFilter);
+        }
+        return new FilterScript(compiledFilters);
+    }
+
+    private static List<Object> compile(Filter filter) {
+        Matcher matcher = filter.getMatcher();
+        if (matcher == null || filter.getAttribut() == null) {
+            return null;
+        }
+        String operation = OPERATIONS.get(matcher.getClass());
+        if (operation == null) {
+            return null;
+        }
+        Pattern pattern = matcher.getPattern();
+        if (pattern == null) {
+            if (matcher.getValue() == null) {
+                return null;
+            }
+            return Arrays.<Object>asList(filter.getAttribut(), operation, matcher.getValue(), false, "",
+                    NEGATIONS.get(matcher.getClass()));
+        }
+        if ((pattern.flags() & ~SUPPORTED_FLAGS) != 0 || UNSUPPORTED_REGEX.matcher(pattern.pattern()).find()) {
+            return null;
+        }
+        String flags = "";
+        if ((pattern.flags() & Pattern.CASE_INSENSITIVE) != 0) {
+            flags += "i";
+        }
+        if ((pattern.flags() & Pattern.MULTILINE) != 0) {
+            flags += "m";
+        }
+        return Arrays.<Object>asList(filter.getAttribut(), operation, pattern.pattern(), true, flags,
+                NEGATIONS.get(matcher.getClass()));
+    }
+
+    /**
+     * Get the compiled filters, to be given to {@link #FILTER_FUNCTION}.
+     *
+     * @return compiled filters
+     */
+    public List<List<Object>> getCompiledFilters() {
+        return compiledFilters;
+    }
+
+    /**
+     * Filter the given elements with a single script execution.
+     *
+     * @param executor javascript executor of the driver owning the elements
+     * @param elements elements to filter
+     * @return matching elements, in their original order, or null if the browser has returned an unexpected result
+     */
+    public List<WebElement> filter(JavascriptExecutor executor, List<WebElement> elements) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Object result = executor.executeScript(SCRIPT, elements, compiledFilters);
+        if (!(result instanceof List)) {
+            return null;
+        }
+        List<WebElement> matchedElements = new ArrayList<>();
+        for (Object index : (List<?>) result) {
+            if (!(index instanceof Number) || ((Number) index).intValue() < 0
+                    || ((Number) index).intValue() >= elements.size()) {
+                return null;
+            }
+            matchedElements.add(elements.get(((Number) index).intValue()));
+        }
+        return matchedElements;
+    }
+}
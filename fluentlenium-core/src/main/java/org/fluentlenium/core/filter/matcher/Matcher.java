@@ -45,7 +45,7 @@ public abstract class Matcher {
      *
      * @return pattern
      */
-    protected Pattern getPattern() {
+    public Pattern getPattern() {
         return pattern;
     }
 
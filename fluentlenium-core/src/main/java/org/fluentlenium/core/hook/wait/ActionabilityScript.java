@@ -0,0 +1,54 @@
+package org.fluentlenium.core.hook.wait;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.UnhandledAlertException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+/**
+ * Script checking in a single command that an element can be clicked.
+ * <p>
+ * The element must be visible, enabled, have its center inside the viewport and not covered by another element. The
+ * check is conservative: any element it can't decide on is reported as not actionable, so that the caller waits for
+ * it to be clickable.
+ */
+final class ActionabilityScript {
+    static final String SCRIPT = "var element = arguments[0];\n"
+            + "if (!element || element.disabled) { return false; }\n"
+            + "var rect = element.getBoundingClientRect();\n"
+            + "if (!rect || !(rect.width > 0) || !(rect.height > 0)) { return false; }\n"
+            + "for (var e = element; e && e.nodeType === 1; e = e.parentNode) {\n"
+            + "  var style = window.getComputedStyle(e);\n"
+            + "  if (!style || style.display === 'none' || style.opacity === '0') { return false; }\n"
+            + "  if (e !== element && e.tagName === 'FIELDSET' && e.disabled) { return false; }\n"
+            + "}\n"
+            + "if (window.getComputedStyle(element).visibility !== 'visible') { return false; }\n"
+            + "var x = rect.left + rect.width / 2, y = rect.top + rect.height / 2;\n"
+            + "var width = window.innerWidth || document.documentElement.clientWidth;\n"
+            + "var height = window.innerHeight || document.documentElement.clientHeight;\n"
+            + "if (!(x >= 0 && y >= 0 && x < width && y < height)) { return false; }\n"
+            + "var target = document.elementFromPoint ? document.elementFromPoint(x, y) : null;\n"
+            + "return target === element || element.contains(target);";
+
+    private ActionabilityScript() {
+    }
+
+    /**
+     * Check if the element is actionable.
+     *
+     * @param executor javascript executor of the driver owning the element
+     * @param element  element to check
+     * @return true if the element can be clicked, false if it's not actionable or if the script can't be executed
+     */
+    static boolean isActionable(JavascriptExecutor executor, WebElement element) {
+        try {
+            return Boolean.TRUE.equals(executor.executeScript(SCRIPT, element));
+        } catch (UnhandledAlertException e) {
+            // A dialog is already open, let the wait report it.
+            return false;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Javascript is disabled or the element is stale, wait for the element to be clickable.
+            return false;
+        }
+    }
+}
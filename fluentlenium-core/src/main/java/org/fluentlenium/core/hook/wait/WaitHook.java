@@ -5,8 +5,13 @@ import com.google.common.base.Supplier;
 import org.fluentlenium.core.FluentControl;
 import org.fluentlenium.core.components.ComponentInstantiator;
 import org.fluentlenium.core.hook.BaseFluentHook;
+import org.fluentlenium.core.script.ElementScripts;
 import org.fluentlenium.core.wait.FluentWait;
+import org.fluentlenium.core.wait.metrics.WaitMetrics;
+import org.fluentlenium.core.wait.metrics.WaitOutcome;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
@@ -27,12 +32,40 @@ public class WaitHook extends BaseFluentHook<WaitHookOptions> {
         return getOptions().configureAwait(await());
     }
 
+    /**
+     * Click the element once it's clickable.
+     * <p>
+     * A single script first checks that the element is visible, enabled, inside the viewport and not covered. If it's
+     * not actionable yet, or if the script can't decide, this waits for the element to be clickable. The element is
+     * then clicked natively.
+     */
     @Override
     public void click() {
-        buildAwait().until(getFluentWebElement()).isClickable();
+        if (!isActionable()) {
+            buildAwait().until(getFluentWebElement()).isClickable();
+        }
         super.click();
     }
 
+    private boolean isActionable() {
+        long start = System.nanoTime();
+        WebElement element;
+        try {
+            element = getElement();
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
+        }
+        JavascriptExecutor executor = ElementScripts.getJavascriptExecutor(element);
+        if (executor == null || !ActionabilityScript.isActionable(executor, element)) {
+            return false;
+        }
+        if (WaitMetrics.INSTANCE.isEnabled()) {
+            WaitMetrics.INSTANCE.record("clickability of element located by " + getElementLocator(),
+                    System.nanoTime() - start, 1, WaitOutcome.SUCCESS);
+        }
+        return true;
+    }
+
     @Override
     public void sendKeys(CharSequence... keysToSend) {
         buildAwait().until(getFluentWebElement()).isEnabled();
@@ -61,6 +94,11 @@ public class WaitHook extends BaseFluentHook<WaitHookOptions> {
                     if (elements.size() == 0) throw new NoSuchElementException("No such element");
                     return elements;
                 }
+
+                @Override
+                public String toString() {
+                    return "presence of elements located by " + getElementLocator();
+                }
             });
         } catch (TimeoutException e) {
             throw new NoSuchElementException("No such element", e);
@@ -78,6 +116,11 @@ public class WaitHook extends BaseFluentHook<WaitHookOptions> {
                     if (element == null) throw new NoSuchElementException("No such element");
                     return element;
                 }
+
+                @Override
+                public String toString() {
+                    return "presence of element located by " + getElementLocator();
+                }
             });
         } catch (TimeoutException e) {
             throw new NoSuchElementException("No such element", e);
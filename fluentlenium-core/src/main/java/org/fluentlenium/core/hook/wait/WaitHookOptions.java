@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
 import org.fluentlenium.core.wait.FluentWait;
+import org.fluentlenium.core.wait.PollingStrategy;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -21,6 +22,7 @@ public class WaitHookOptions {
     private Long atMost;
     private TimeUnit pollingTimeUnit = TimeUnit.MILLISECONDS;
     private Long pollingEvery;
+    private PollingStrategy pollingStrategy;
     private java.util.Collection<Class<? extends Throwable>> ignoreAll;
     private boolean withNoDefaultsException;
 
@@ -45,6 +47,10 @@ public class WaitHookOptions {
             await.pollingEvery(pollingEvery, pollingTimeUnit);
         }
 
+        if (pollingStrategy != null) {
+            await.pollingWith(pollingStrategy);
+        }
+
         if (withNoDefaultsException) {
             await.withNoDefaultsException();
         }
@@ -1,14 +1,50 @@
 package org.fluentlenium.core.inject;
 
+import org.fluentlenium.core.proxy.LocatorProxies;
+import org.fluentlenium.core.script.ElementScripts;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+/**
+ * Search context searching the children of all elements found by an element locator.
+ * <p>
+ * Children found from many parents are returned once, in the order of their first parent. When the driver supports
+ * javascript and the locator can be evaluated by the browser (CSS selector, XPath, id, name, class name or tag name),
+ * children of all parents are searched with a single command. Duplicates are removed by marking the children already
+ * found, so the script runs in linear time in the number of children.
+ */
 public class ElementLocatorSearchContext implements SearchContext {
+    static final String SCRIPT = "var parents = arguments[0], using = arguments[1], value = arguments[2], found = [];\n"
+            + "var mark = '__fluentleniumFound' + new Date().getTime() + Math.random();\n"
+            + "function add(child) {\n"
+            + "  if (child.nodeType === 1 && !child[mark]) { child[mark] = true; found.push(child); }\n"
+            + "}\n"
+            + "try {\n"
+            + "  for (var i = 0; i < parents.length; i++) {\n"
+            + "    var parent = parents[i];\n"
+            + "    if (using === 'css') {\n"
+            + "      var children = parent.querySelectorAll(value);\n"
+            + "      for (var j = 0; j < children.length; j++) { add(children[j]); }\n"
+            + "    } else {\n"
+            + "      var document = parent.ownerDocument || parent;\n"
+            + "      var snapshot = document.evaluate(value, parent, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n"
+            + "      for (var k = 0; k < snapshot.snapshotLength; k++) { add(snapshot.snapshotItem(k)); }\n"
+            + "    }\n"
+            + "  }\n"
+            + "} finally {\n"
+            + "  for (var l = 0; l < found.length; l++) { delete found[l][mark]; }\n"
+            + "}\n"
+            + "return found;";
+
     private final ElementLocator locator;
 
     public ElementLocatorSearchContext(ElementLocator locator) {
@@ -17,15 +53,54 @@ public class ElementLocatorSearchContext implements SearchContext {
 
     @Override
     public List<WebElement> findElements(By by) {
-        List<WebElement> elements = new ArrayList<>();
-
         List<WebElement> baseElements = locator.findElements();
 
+        if (baseElements.size() > 1) {
+            List<WebElement> elements = findElementsWithScript(baseElements, by);
+            if (elements != null) {
+                return elements;
+            }
+        }
+
+        Set<WebElement> elements = new LinkedHashSet<>();
         for (WebElement element : baseElements) {
             elements.addAll(element.findElements(by));
         }
 
-        return elements;
+        return new ArrayList<>(elements);
+    }
+
+    private List<WebElement> findElementsWithScript(List<WebElement> baseElements, By by) {
+        String[] selector = ElementScripts.toSelector(by);
+        if (selector == null) {
+            return null;
+        }
+        for (WebElement element : baseElements) {
+            if (element == null || LocatorProxies.getLocatorHandler(element) != null) {
+                return null;
+            }
+        }
+        JavascriptExecutor executor = ElementScripts.getJavascriptExecutor(baseElements.get(0));
+        if (executor == null) {
+            return null;
+        }
+        try {
+            Object result = executor.executeScript(SCRIPT, baseElements, selector[0], selector[1]);
+            if (!(result instanceof List)) {
+                return null;
+            }
+            List<WebElement> elements = new ArrayList<>(((List<?>) result).size());
+            for (Object element : (List<?>) result) {
+                if (!(element instanceof WebElement)) {
+                    return null;
+                }
+                elements.add((WebElement) element);
+            }
+            return elements;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Javascript is disabled or the selector is not supported by this browser, search from each element.
+            return null;
+        }
     }
 
     @Override
@@ -6,7 +6,9 @@ import org.fluentlenium.core.hook.HookChainBuilder;
 import org.fluentlenium.core.hook.HookDefinition;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.lang.reflect.InvocationHandler;
@@ -25,6 +27,12 @@ public abstract class AbstractLocatorHandler<T> implements InvocationHandler, Lo
     private static final Method EQUALS = getMethod(Object.class, "equals", Object.class);
     private static final Method HASH_CODE = getMethod(Object.class, "hashCode");
 
+    /**
+     * Maximum number of attempts of a call on the underlying object when it raises
+     * {@link StaleElementReferenceException}, with the default {@link StaleRetryStrategy}.
+     */
+    public static final int MAX_STALE_ATTEMPTS = 5;
+
     protected HookChainBuilder hookChainBuilder = null;
     protected List<HookDefinition<?>> hookDefinitions = null;
 
@@ -60,6 +68,14 @@ public abstract class AbstractLocatorHandler<T> implements InvocationHandler, Lo
         }
     }
 
+    protected void fireProxyElementRetry(StaleElementReferenceException e, int retryCount) {
+        for (ProxyElementListener listener : listeners) {
+            if (listener instanceof ProxyElementRetryListener) {
+                ((ProxyElementRetryListener) listener).proxyElementRetry(proxy, locator, e, retryCount);
+            }
+        }
+    }
+
     protected abstract List<WebElement> resultToList(T result);
 
     protected T proxy;
@@ -68,8 +84,58 @@ public abstract class AbstractLocatorHandler<T> implements InvocationHandler, Lo
 
     private List<FluentHook> hooks;
 
+    private StalenessPolicy stalenessPolicy;
+
+    private long stalenessMark;
+
+    private WebDriver stalenessDriver;
+
+    private int staleRetryCount;
+
     public AbstractLocatorHandler(ElementLocator locator) {
         this.locator = locator;
+        markFresh();
+    }
+
+    private void markFresh() {
+        stalenessPolicy = LocatorProxies.getStalenessPolicy();
+        if (stalenessDriver != null && stalenessPolicy instanceof DriverStalenessPolicy) {
+            stalenessMark = ((DriverStalenessPolicy) stalenessPolicy).mark(stalenessDriver);
+        } else {
+            stalenessMark = stalenessPolicy.mark();
+        }
+    }
+
+    private boolean isProbeRequired() {
+        StalenessPolicy stalenessPolicy = LocatorProxies.getStalenessPolicy();
+        if (stalenessPolicy != this.stalenessPolicy) {
+            return true;
+        }
+        if (stalenessDriver != null && stalenessPolicy instanceof DriverStalenessPolicy) {
+            return ((DriverStalenessPolicy) stalenessPolicy).isProbeRequired(stalenessDriver, stalenessMark);
+        }
+        return stalenessPolicy.isProbeRequired(stalenessMark);
+    }
+
+    private void updateStalenessDriver() {
+        if (stalenessDriver == null && result != null) {
+            for (WebElement element : resultToList(result)) {
+                if (element instanceof WrapsDriver) {
+                    stalenessDriver = ((WrapsDriver) element).getWrappedDriver();
+                    if (stalenessDriver != null) {
+                        markFresh();
+                    }
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Notify the staleness policy that elements owned by the driver of this proxy may be stale.
+     */
+    void invalidateStaleness() {
+        LocatorProxies.invalidateStaleness(stalenessDriver);
     }
 
     public void setProxy(T proxy) {
@@ -79,14 +145,17 @@ public abstract class AbstractLocatorHandler<T> implements InvocationHandler, Lo
     abstract public T getLocatorResultImpl();
 
     public synchronized T getLocatorResult() {
-        if (result != null) {
+        if (result != null && isProbeRequired()) {
+            markFresh();
             if (isStale()) {
                 result = null;
             }
         }
         if (result == null) {
             fireProxyElementSearch();
+            markFresh();
             result = getLocatorResultImpl();
+            updateStalenessDriver();
             fireProxyElementFound(result);
         }
         return result;
@@ -170,57 +239,147 @@ public abstract class AbstractLocatorHandler<T> implements InvocationHandler, Lo
 
     protected abstract T getInvocationTarget();
 
+    /**
+     * Load the result if required, and get the object calls on the proxy should be delegated to.
+     *
+     * @return invocation target, with hooks applied
+     */
+    public T getTarget() {
+        getLocatorResult();
+        return getInvocationTarget();
+    }
+
+    /**
+     * Handle a {@link StaleElementReferenceException} raised by a call on the invocation target. The result is reset
+     * so the next call to {@link #getTarget()} searches the element again, after the delay given by the
+     * {@link StaleRetryStrategy}. The exception is thrown back when the strategy doesn't retry the call.
+     *
+     * @param e       stale exception raised by the invocation target
+     * @param attempt zero-based index of the attempt that has failed
+     */
+    public void handleStale(StaleElementReferenceException e, int attempt) {
+        reset();
+        long delay = LocatorProxies.getStaleRetryStrategy().getRetryDelay(attempt);
+        if (delay < 0) {
+            throw e;
+        }
+        int retryCount;
+        synchronized (this) {
+            retryCount = ++staleRetryCount;
+        }
+        fireProxyElementRetry(e, retryCount);
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException interruptedException) {
+                Thread.currentThread().interrupt();
+                throw e;
+            }
+        }
+    }
+
     @Override
-    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+    public synchronized int getStaleRetryCount() {
+        return staleRetryCount;
+    }
+
+    /**
+     * Implementation of {@link Object#toString()} for the proxy.
+     *
+     * @return string representation of the proxy
+     */
+    public String proxyToString() {
         if (result == null) {
-            if (TO_STRING.equals(method)) {
-                return toString();
+            return toString();
+        }
+        for (int attempt = 0; ; attempt++) {
+            T target = getTarget();
+            try {
+                return target.toString();
+            } catch (StaleElementReferenceException e) {
+                handleStale(e, attempt);
             }
+        }
+    }
 
-            if (EQUALS.equals(method)) {
-                LocatorHandler otherLocatorHandler = LocatorProxies.getLocatorHandler(args[0]);
-                if (otherLocatorHandler != null) {
-                    if (!otherLocatorHandler.isLoaded() || args[0] == null) {
-                        return this.equals(otherLocatorHandler);
-                    } else {
-                        return args[0].equals(proxy);
-                    }
-                }
+    /**
+     * Implementation of {@link Object#hashCode()} for the proxy.
+     *
+     * @return hash code of the proxy
+     */
+    public int proxyHashCode() {
+        if (result == null) {
+            return 2048 + locator.hashCode();
+        }
+        for (int attempt = 0; ; attempt++) {
+            T target = getTarget();
+            try {
+                return target.hashCode();
+            } catch (StaleElementReferenceException e) {
+                handleStale(e, attempt);
+            }
+        }
+    }
+
+    /**
+     * Implementation of {@link Object#equals(Object)} for the proxy.
+     *
+     * @param other object to compare with the proxy
+     * @return true if the proxy is equal to the given object, false otherwise
+     */
+    public boolean proxyEquals(Object other) {
+        LocatorHandler otherLocatorHandler = LocatorProxies.getLocatorHandler(other);
+        if (result == null && otherLocatorHandler != null) {
+            if (!otherLocatorHandler.isLoaded() || other == null) {
+                return this.equals(otherLocatorHandler);
+            } else {
+                return other.equals(proxy);
             }
+        }
 
-            if (HASH_CODE.equals(method)) {
-                return 2048 + locator.hashCode();
+        if (otherLocatorHandler != null && !otherLocatorHandler.isLoaded()) {
+            otherLocatorHandler.now();
+            return otherLocatorHandler.equals(this);
+        }
+
+        for (int attempt = 0; ; attempt++) {
+            T target = getTarget();
+            try {
+                return target.equals(other);
+            } catch (StaleElementReferenceException e) {
+                handleStale(e, attempt);
             }
         }
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (TO_STRING.equals(method)) {
+            return proxyToString();
+        }
 
         if (EQUALS.equals(method)) {
-            LocatorHandler otherLocatorHandler = LocatorProxies.getLocatorHandler(args[0]);
-            if (otherLocatorHandler != null && !otherLocatorHandler.isLoaded()) {
-                otherLocatorHandler.now();
-                return otherLocatorHandler.equals(this);
-            }
+            return proxyEquals(args[0]);
         }
 
-        getLocatorResult();
+        if (HASH_CODE.equals(method)) {
+            return proxyHashCode();
+        }
 
-        Throwable lastThrowable = null;
-        for (int i = 0; i < 5; i++) {
+        for (int attempt = 0; ; attempt++) {
+            T target = getTarget();
             try {
-                return invoke(method, args);
+                return invokeTarget(target, method, args);
             } catch (StaleElementReferenceException e) {
-                lastThrowable = e;
-                reset();
-                getLocatorResult(); // Reload the stale element
+                handleStale(e, attempt);
             }
         }
-
-        throw lastThrowable;
     }
 
-    private Object invoke(Method method, Object[] args) throws Throwable {
+    private Object invokeTarget(T target, Method method, Object[] args) throws Throwable {
         Object returnValue;
         try {
-            returnValue = method.invoke(getInvocationTarget(), args);
+            returnValue = method.invoke(target, args);
         } catch (InvocationTargetException e) {
             // Unwrap the underlying exception
             throw e.getCause();
@@ -0,0 +1,21 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Staleness policy probing the element before each call. This is the default policy.
+ */
+public class AlwaysCheckStalenessPolicy implements StalenessPolicy {
+    @Override
+    public long mark() {
+        return 0;
+    }
+
+    @Override
+    public boolean isProbeRequired(long mark) {
+        return true;
+    }
+
+    @Override
+    public void invalidate() {
+        // Elements are always probed.
+    }
+}
@@ -9,6 +9,9 @@ import java.util.List;
 
 /**
  * {@link ElementLocator} retrieving a particular index element from another locator.
+ * <p>
+ * When the other locator is a {@link SearchContextElementLocator}, only the element at this index is retrieved from
+ * the driver. Otherwise, all elements are found and the element at this index is picked.
  */
 public class AtIndexElementLocator implements ElementLocator {
     private final int index;
@@ -21,6 +24,12 @@ public class AtIndexElementLocator implements ElementLocator {
 
     @Override
     public WebElement findElement() {
+        if (listLocator instanceof SearchContextElementLocator) {
+            List<WebElement> elements = ((SearchContextElementLocator) listLocator).findElementsAt(index);
+            if (elements != null) {
+                return elements.isEmpty() ? null : elements.get(0);
+            }
+        }
         List<WebElement> elements = this.listLocator.findElements();
         if (index >= elements.size()) return null;
         return elements.get(index);
@@ -0,0 +1,79 @@
+package org.fluentlenium.core.proxy;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stale retry strategy retrying a call up to a maximum number of attempts, waiting a delay doubled after each attempt.
+ * <p>
+ * A jitter removes a random part of each delay, so proxies waiting for the same page to render again don't retry at
+ * the same time. With a single attempt, the stale element exception is thrown immediately.
+ */
+public class BackoffStaleRetryStrategy implements StaleRetryStrategy {
+    private final int maxAttempts;
+
+    private final long initialDelay;
+
+    private final long maxDelay;
+
+    private final double jitter;
+
+    /**
+     * Creates a new strategy retrying the call immediately.
+     *
+     * @param maxAttempts maximum number of attempts of the call, including the first one
+     */
+    public BackoffStaleRetryStrategy(int maxAttempts) {
+        this(maxAttempts, 0, 0, TimeUnit.MILLISECONDS, 0);
+    }
+
+    /**
+     * Creates a new strategy retrying the call with exponential backoff.
+     *
+     * @param maxAttempts  maximum number of attempts of the call, including the first one
+     * @param initialDelay delay before the first retry
+     * @param maxDelay     maximum delay between two attempts
+     * @param unit         time unit of delays
+     * @param jitter       maximum part of each delay randomly removed, between 0 and 1
+     */
+    public BackoffStaleRetryStrategy(int maxAttempts, long initialDelay, long maxDelay, TimeUnit unit, double jitter) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Max attempts should be at least 1");
+        }
+        if (initialDelay < 0 || maxDelay < 0) {
+            throw new IllegalArgumentException("Delays should be positive");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter should be between 0 and 1");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialDelay = unit.toMillis(initialDelay);
+        this.maxDelay = unit.toMillis(maxDelay);
+        this.jitter = jitter;
+    }
+
+    /**
+     * Get the maximum number of attempts of a call, including the first one.
+     *
+     * @return maximum number of attempts
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public long getRetryDelay(int attempt) {
+        if (attempt + 1 >= maxAttempts) {
+            return FAIL;
+        }
+        long delay = initialDelay;
+        for (int i = 0; i < attempt && delay < maxDelay; i++) {
+            delay *= 2;
+        }
+        delay = Math.min(delay, maxDelay);
+        if (jitter > 0 && delay > 0) {
+            delay -= (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
+        }
+        return delay;
+    }
+}
@@ -1,5 +1,6 @@
 package org.fluentlenium.core.proxy;
 
+import com.google.common.collect.ImmutableSet;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebElement;
@@ -10,6 +11,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Proxy handler for {@link WebElement}.
@@ -17,6 +19,12 @@ import java.util.List;
 public class ComponentHandler extends AbstractLocatorHandler<WebElement> implements InvocationHandler, LocatorHandler<WebElement> {
     private static final Method GET_WRAPPED_ELEMENT = getMethod(WrapsElement.class, "getWrappedElement");
 
+    private static final Set<Method> DOM_CHANGING_METHODS = ImmutableSet.of(
+            getMethod(WebElement.class, "click"),
+            getMethod(WebElement.class, "submit"),
+            getMethod(WebElement.class, "sendKeys", CharSequence[].class),
+            getMethod(WebElement.class, "clear"));
+
     public ComponentHandler(ElementLocator locator) {
         super(locator);
         if (this.locator instanceof WrapsElement) {
@@ -64,11 +72,24 @@ public class ComponentHandler extends AbstractLocatorHandler<WebElement> impleme
         return getHookElement();
     }
 
+    /**
+     * Implementation of {@link WrapsElement#getWrappedElement()} for the proxy.
+     *
+     * @return underlying element if loaded, the proxy itself otherwise
+     */
+    public WebElement proxyWrappedElement() {
+        return isLoaded() ? getLocatorResult() : proxy;
+    }
+
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         if (GET_WRAPPED_ELEMENT.equals(method)) {
-            return isLoaded() ? getLocatorResult() : proxy;
+            return proxyWrappedElement();
+        }
+        Object returnValue = super.invoke(proxy, method, args);
+        if (DOM_CHANGING_METHODS.contains(method)) {
+            invalidateStaleness();
         }
-        return super.invoke(proxy, method, args);
+        return returnValue;
     }
 
 
@@ -0,0 +1,15 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Proxy created by the {@link ProxyBackend#DELEGATE} backend.
+ *
+ * @param <T> type of the proxied object
+ */
+interface DelegatingProxy<T> {
+    /**
+     * Get the locator handler of this proxy.
+     *
+     * @return locator handler
+     */
+    AbstractLocatorHandler<T> getLocatorHandler();
+}
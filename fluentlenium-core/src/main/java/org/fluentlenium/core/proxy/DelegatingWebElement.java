@@ -0,0 +1,277 @@
+package org.fluentlenium.core.proxy;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.Point;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.interactions.internal.Coordinates;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+
+import java.util.List;
+
+/**
+ * Proxy of {@link WebElement} created by {@link ProxyBackend#DELEGATE} backend.
+ * <p>
+ * Each method is a direct call on the element found by the {@link ComponentHandler}, with the same lazy loading and
+ * stale element handling as the dynamic proxy.
+ */
+final class DelegatingWebElement implements WebElement, Locatable, WrapsElement, DelegatingProxy<WebElement> {
+    private final ComponentHandler handler;
+
+    DelegatingWebElement(ComponentHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public AbstractLocatorHandler<WebElement> getLocatorHandler() {
+        return handler;
+    }
+
+    @Override
+    public void click() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                target.click();
+                handler.invalidateStaleness();
+                return;
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public void submit() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                target.submit();
+                handler.invalidateStaleness();
+                return;
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public void sendKeys(CharSequence... keysToSend) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                target.sendKeys(keysToSend);
+                handler.invalidateStaleness();
+                return;
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                target.clear();
+                handler.invalidateStaleness();
+                return;
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public String getTagName() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getTagName();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public String getAttribute(String name) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getAttribute(name);
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public boolean isSelected() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.isSelected();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.isEnabled();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public String getText() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getText();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public List<WebElement> findElements(By by) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.findElements(by);
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public WebElement findElement(By by) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.findElement(by);
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.isDisplayed();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public Point getLocation() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getLocation();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public Dimension getSize() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getSize();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public Rectangle getRect() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getRect();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public String getCssValue(String propertyName) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getCssValue(propertyName);
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public <X> X getScreenshotAs(OutputType<X> outputType) {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return target.getScreenshotAs(outputType);
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public Coordinates getCoordinates() {
+        for (int attempt = 0; ; attempt++) {
+            WebElement target = handler.getTarget();
+            try {
+                return ((Locatable) target).getCoordinates();
+            } catch (StaleElementReferenceException e) {
+                handler.handleStale(e, attempt);
+            }
+        }
+    }
+
+    @Override
+    public WebElement getWrappedElement() {
+        return handler.proxyWrappedElement();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return handler.proxyEquals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return handler.proxyHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return handler.proxyToString();
+    }
+}
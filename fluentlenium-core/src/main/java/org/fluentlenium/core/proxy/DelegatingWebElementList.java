@@ -0,0 +1,163 @@
+package org.fluentlenium.core.proxy;
+
+import org.fluentlenium.core.domain.WrapsElements;
+import org.openqa.selenium.WebElement;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Proxy of {@link List} of {@link WebElement} created by {@link ProxyBackend#DELEGATE} backend.
+ * <p>
+ * Each method is a direct call on the list found by the {@link ListHandler}. This list only contains element proxies
+ * and never reaches the browser, so calls are not retried on stale elements.
+ */
+final class DelegatingWebElementList implements List<WebElement>, WrapsElements, DelegatingProxy<List<WebElement>> {
+    private final ListHandler handler;
+
+    DelegatingWebElementList(ListHandler handler) {
+        this.handler = handler;
+    }
+
+    @Override
+    public AbstractLocatorHandler<List<WebElement>> getLocatorHandler() {
+        return handler;
+    }
+
+    @Override
+    public List<WebElement> getWrappedElements() {
+        return handler.proxyWrappedElements();
+    }
+
+    @Override
+    public int size() {
+        return handler.getTarget().size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return handler.getTarget().isEmpty();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return handler.getTarget().contains(o);
+    }
+
+    @Override
+    public Iterator<WebElement> iterator() {
+        return handler.getTarget().iterator();
+    }
+
+    @Override
+    public Object[] toArray() {
+        return handler.getTarget().toArray();
+    }
+
+    @Override
+    public <T> T[] toArray(T[] a) {
+        return handler.getTarget().toArray(a);
+    }
+
+    @Override
+    public boolean add(WebElement webElement) {
+        return handler.getTarget().add(webElement);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return handler.getTarget().remove(o);
+    }
+
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        return handler.getTarget().containsAll(c);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends WebElement> c) {
+        return handler.getTarget().addAll(c);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends WebElement> c) {
+        return handler.getTarget().addAll(index, c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return handler.getTarget().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return handler.getTarget().retainAll(c);
+    }
+
+    @Override
+    public void clear() {
+        handler.getTarget().clear();
+    }
+
+    @Override
+    public WebElement get(int index) {
+        return handler.getTarget().get(index);
+    }
+
+    @Override
+    public WebElement set(int index, WebElement element) {
+        return handler.getTarget().set(index, element);
+    }
+
+    @Override
+    public void add(int index, WebElement element) {
+        handler.getTarget().add(index, element);
+    }
+
+    @Override
+    public WebElement remove(int index) {
+        return handler.getTarget().remove(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return handler.getTarget().indexOf(o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return handler.getTarget().lastIndexOf(o);
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator() {
+        return handler.getTarget().listIterator();
+    }
+
+    @Override
+    public ListIterator<WebElement> listIterator(int index) {
+        return handler.getTarget().listIterator(index);
+    }
+
+    @Override
+    public List<WebElement> subList(int fromIndex, int toIndex) {
+        return handler.getTarget().subList(fromIndex, toIndex);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return handler.proxyEquals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        return handler.proxyHashCode();
+    }
+
+    @Override
+    public String toString() {
+        return handler.proxyToString();
+    }
+}
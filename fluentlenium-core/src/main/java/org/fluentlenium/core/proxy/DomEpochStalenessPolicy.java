@@ -0,0 +1,224 @@
+package org.fluentlenium.core.proxy;
+
+import com.google.common.collect.MapMaker;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Staleness policy tracking a DOM epoch for each driver, and probing elements only when they have been found in a
+ * previous epoch.
+ * <p>
+ * The epoch of a driver is bumped each time the policy is invalidated for this driver, which happens on navigation,
+ * script execution and interactions that may change the page (click, submit, keyboard input). An invalidation of a
+ * driver doesn't force probes of elements owned by other drivers, so tests running in parallel don't interfere.
+ * <p>
+ * Changes performed asynchronously by the page itself are detected by a {@code MutationObserver} injected in the
+ * page: when an element is checked, the policy synchronizes with the observer of its driver, at most once per
+ * synchronize interval, and bumps the epoch if nodes have been added or removed since the previous synchronization.
+ * Changes happening between two synchronizations are still caught by the stale element retry.
+ */
+public class DomEpochStalenessPolicy implements DriverStalenessPolicy {
+    /**
+     * Default interval between two synchronizations with the mutation observer of a driver, in milliseconds.
+     */
+    public static final long DEFAULT_SYNCHRONIZE_INTERVAL = 500;
+
+    /**
+     * Script installing the mutation observer if it's missing, and returning the number of mutations since the
+     * previous call, or -1 if the observer has just been installed.
+     */
+    static final String SYNCHRONIZE_SCRIPT = "var w = window;"
+            + "if (!w.__fluentleniumDomObserver) {"
+            + "w.__fluentleniumDomMutations = 0;"
+            + "w.__fluentleniumDomObserver = new MutationObserver(function() { w.__fluentleniumDomMutations++; });"
+            + "w.__fluentleniumDomObserver.observe(document, {childList: true, subtree: true});"
+            + "return -1;"
+            + "}"
+            + "var mutations = w.__fluentleniumDomMutations;"
+            + "w.__fluentleniumDomMutations = 0;"
+            + "return mutations;";
+
+    private final long synchronizeInterval;
+
+    private final AtomicLong epoch = new AtomicLong();
+
+    private final ConcurrentMap<WebDriver, DriverEpoch> driverEpochs = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * Creates a new DOM epoch staleness policy, synchronizing with the mutation observer at most every
+     * {@link #DEFAULT_SYNCHRONIZE_INTERVAL} milliseconds.
+     */
+    public DomEpochStalenessPolicy() {
+        this(DEFAULT_SYNCHRONIZE_INTERVAL, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new DOM epoch staleness policy.
+     *
+     * @param synchronizeInterval minimum time between two synchronizations with the mutation observer of a driver.
+     *                            Use {@link Long#MAX_VALUE} to never synchronize.
+     * @param unit                time unit of the synchronize interval
+     */
+    public DomEpochStalenessPolicy(long synchronizeInterval, TimeUnit unit) {
+        if (synchronizeInterval < 0) {
+            throw new IllegalArgumentException("Synchronize interval should be positive");
+        }
+        this.synchronizeInterval = unit.toNanos(synchronizeInterval);
+    }
+
+    /**
+     * Get the synchronize interval.
+     *
+     * @param unit time unit
+     * @return synchronize interval in the given unit
+     */
+    public long getSynchronizeInterval(TimeUnit unit) {
+        return unit.convert(synchronizeInterval, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the current epoch shared by all drivers, bumped by invalidations not bound to a driver.
+     *
+     * @return current epoch
+     */
+    public long getEpoch() {
+        return epoch.get();
+    }
+
+    /**
+     * Get the current epoch of the given driver, including invalidations not bound to a driver.
+     *
+     * @param driver driver
+     * @return current epoch of the driver
+     */
+    public long getEpoch(WebDriver driver) {
+        return epoch.get() + getDriverEpoch(driver).epoch.get();
+    }
+
+    @Override
+    public long mark() {
+        return epoch.get();
+    }
+
+    @Override
+    public boolean isProbeRequired(long mark) {
+        return epoch.get() != mark;
+    }
+
+    @Override
+    public void invalidate() {
+        epoch.incrementAndGet();
+    }
+
+    @Override
+    public long mark(WebDriver driver) {
+        return getEpoch(driver);
+    }
+
+    @Override
+    public boolean isProbeRequired(WebDriver driver, long mark) {
+        DriverEpoch driverEpoch = getDriverEpoch(driver);
+        if (driverEpoch.isSynchronizeRequired(synchronizeInterval)) {
+            WebDriver unwrapped = unwrap(driver);
+            if (unwrapped instanceof JavascriptExecutor) {
+                try {
+                    synchronize(driverEpoch, (JavascriptExecutor) unwrapped);
+                } catch (WebDriverException | UnsupportedOperationException e) {
+                    // The page can't be observed, consider it has changed.
+                    driverEpoch.epoch.incrementAndGet();
+                }
+            }
+        }
+        return epoch.get() + driverEpoch.epoch.get() != mark;
+    }
+
+    @Override
+    public void invalidate(WebDriver driver) {
+        getDriverEpoch(driver).epoch.incrementAndGet();
+    }
+
+    /**
+     * Install the mutation observer in the current page if it's missing, and bump the epoch if the page is new or
+     * if nodes have been added or removed since the previous call. This performs a single script execution.
+     * <p>
+     * When the javascript executor is a driver, only the epoch of this driver is bumped.
+     *
+     * @param javascriptExecutor javascript executor of the driver
+     * @return true if the epoch has been bumped, false otherwise
+     */
+    public boolean synchronize(JavascriptExecutor javascriptExecutor) {
+        if (javascriptExecutor instanceof WebDriver) {
+            WebDriver driver = (WebDriver) javascriptExecutor;
+            WebDriver unwrapped = unwrap(driver);
+            return synchronize(getDriverEpoch(driver),
+                    unwrapped instanceof JavascriptExecutor ? (JavascriptExecutor) unwrapped : javascriptExecutor);
+        }
+        if (hasMutations(javascriptExecutor)) {
+            invalidate();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean synchronize(DriverEpoch driverEpoch, JavascriptExecutor javascriptExecutor) {
+        if (hasMutations(javascriptExecutor)) {
+            driverEpoch.epoch.incrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean hasMutations(JavascriptExecutor javascriptExecutor) {
+        Object mutations = javascriptExecutor.executeScript(SYNCHRONIZE_SCRIPT);
+        return !(mutations instanceof Number) || ((Number) mutations).longValue() != 0;
+    }
+
+    private DriverEpoch getDriverEpoch(WebDriver driver) {
+        WebDriver unwrapped = unwrap(driver);
+        DriverEpoch driverEpoch = driverEpochs.get(unwrapped);
+        if (driverEpoch == null) {
+            driverEpoch = new DriverEpoch();
+            DriverEpoch existing = driverEpochs.putIfAbsent(unwrapped, driverEpoch);
+            if (existing != null) {
+                driverEpoch = existing;
+            }
+        }
+        return driverEpoch;
+    }
+
+    /**
+     * Unwrap event firing drivers, so that the epoch is shared by all wrappers of a driver, and so that the
+     * synchronization script doesn't fire script events invalidating the epoch.
+     */
+    private static WebDriver unwrap(WebDriver driver) {
+        while (driver instanceof WrapsDriver) {
+            WebDriver wrapped = ((WrapsDriver) driver).getWrappedDriver();
+            if (wrapped == null || wrapped == driver) {
+                break;
+            }
+            driver = wrapped;
+        }
+        return driver;
+    }
+
+    private static class DriverEpoch {
+        private final AtomicLong epoch = new AtomicLong();
+
+        private final AtomicLong synchronizeTime = new AtomicLong(System.nanoTime());
+
+        /**
+         * Check if the synchronize interval has elapsed since the last synchronization, and reserve the next one.
+         */
+        private boolean isSynchronizeRequired(long synchronizeInterval) {
+            long now = System.nanoTime();
+            long last = synchronizeTime.get();
+            return now - last >= synchronizeInterval && synchronizeTime.compareAndSet(last, now);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package org.fluentlenium.core.proxy;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Staleness policy keeping a separate state for each driver.
+ * <p>
+ * Proxies call the driver variants of the methods when they know the driver owning their element, so that an
+ * invalidation triggered by a driver doesn't force probes of elements owned by other drivers. The methods inherited
+ * from {@link StalenessPolicy} still apply to all drivers.
+ *
+ * @see LocatorProxies#invalidateStaleness(WebDriver)
+ */
+public interface DriverStalenessPolicy extends StalenessPolicy {
+    /**
+     * Get a mark representing the current state of the given driver, to be given back to
+     * {@link #isProbeRequired(WebDriver, long)}.
+     *
+     * @param driver driver owning the element
+     * @return mark of the current state
+     */
+    long mark(WebDriver driver);
+
+    /**
+     * Check if an element owned by the given driver and found at the given mark should be probed before its next use.
+     *
+     * @param driver driver owning the element
+     * @param mark   mark taken when the element was found or probed for the last time
+     * @return true if the element should be probed, false otherwise
+     */
+    boolean isProbeRequired(WebDriver driver, long mark);
+
+    /**
+     * Notify the policy that elements owned by the given driver and found before this call may be stale.
+     *
+     * @param driver driver which performed the navigation, the script or the interaction
+     */
+    void invalidate(WebDriver driver);
+}
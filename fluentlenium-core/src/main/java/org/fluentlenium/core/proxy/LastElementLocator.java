@@ -9,6 +9,8 @@ import java.util.List;
 
 /**
  * {@link ElementLocator} retrieving the last element from another locator.
+ * <p>
+ * When the other locator is a {@link SearchContextElementLocator}, only the last element is retrieved from the driver.
  */
 public class LastElementLocator implements ElementLocator {
     private ElementLocator listLocator;
@@ -19,6 +21,13 @@ public class LastElementLocator implements ElementLocator {
 
     @Override
     public WebElement findElement() {
+        if (listLocator instanceof SearchContextElementLocator) {
+            List<WebElement> elements = ((SearchContextElementLocator) listLocator)
+                    .findElementsAt(SearchContextElementLocator.LAST);
+            if (elements != null) {
+                return elements.isEmpty() ? null : elements.get(0);
+            }
+        }
         List<WebElement> elements = this.listLocator.findElements();
         if (elements.size() == 0) return null;
         return elements.get(elements.size() - 1);
@@ -0,0 +1,50 @@
+package org.fluentlenium.core.proxy;
+
+import org.fluentlenium.core.hook.HookChainBuilder;
+import org.fluentlenium.core.hook.HookDefinition;
+import org.openqa.selenium.WebElement;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Read-only list of element proxies, each proxy being created on first access to its index.
+ */
+class LazyElementProxyList extends AbstractList<WebElement> {
+    private final List<WebElement> elements;
+    private final WebElement[] proxies;
+    private final HookChainBuilder hookChainBuilder;
+    private final List<HookDefinition<?>> hookDefinitions;
+
+    LazyElementProxyList(List<WebElement> elements, HookChainBuilder hookChainBuilder, List<HookDefinition<?>> hookDefinitions) {
+        this.elements = elements;
+        this.proxies = new WebElement[elements.size()];
+        this.hookChainBuilder = hookChainBuilder;
+        this.hookDefinitions = hookDefinitions;
+    }
+
+    /**
+     * Get the underlying elements, without proxies.
+     *
+     * @return underlying elements
+     */
+    List<WebElement> getElements() {
+        return elements;
+    }
+
+    @Override
+    public synchronized WebElement get(int index) {
+        WebElement proxy = proxies[index];
+        if (proxy == null) {
+            proxy = LocatorProxies.createWebElement(new ElementInstanceLocator(elements.get(index)));
+            LocatorProxies.setHooks(proxy, hookChainBuilder, hookDefinitions);
+            proxies[index] = proxy;
+        }
+        return proxy;
+    }
+
+    @Override
+    public int size() {
+        return proxies.length;
+    }
+}
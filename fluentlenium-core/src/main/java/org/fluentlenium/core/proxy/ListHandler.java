@@ -6,7 +6,6 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -47,6 +46,26 @@ public class ListHandler extends AbstractLocatorHandler<List<WebElement>> {
         return super.isPresent() && result.size() > 0;
     }
 
+    /**
+     * Count the elements of the list.
+     * <p>
+     * When the list is not loaded yet, elements are counted without being loaded nor wrapped, so the next call on the
+     * proxy still searches the elements.
+     *
+     * @return number of elements
+     */
+    public synchronized int count() {
+        if (result != null) {
+            return getLocatorResult().size();
+        }
+        ElementLocator hookLocator = getHookLocator();
+        if (hookLocator instanceof SearchContextElementLocator) {
+            return ((SearchContextElementLocator) hookLocator).countElements();
+        }
+        List<WebElement> foundElements = hookLocator.findElements();
+        return foundElements == null ? 0 : foundElements.size();
+    }
+
     @Override
     protected boolean isStale() {
         if (result.size() > 0) {
@@ -67,19 +86,22 @@ public class ListHandler extends AbstractLocatorHandler<List<WebElement>> {
     }
 
     protected List<WebElement> wrapElements(List<WebElement> foundElements) {
-        List<WebElement> proxyElements = new ArrayList<>();
-        for (WebElement element : foundElements) {
-            WebElement proxyElement = LocatorProxies.createWebElement(new ElementInstanceLocator(element));
-            LocatorProxies.setHooks(proxyElement, hookChainBuilder, hookDefinitions);
-            proxyElements.add(proxyElement);
-        }
-        return proxyElements;
+        return new LazyElementProxyList(foundElements, hookChainBuilder, hookDefinitions);
+    }
+
+    /**
+     * Implementation of {@link WrapsElements#getWrappedElements()} for the proxy.
+     *
+     * @return underlying elements if loaded, the proxy itself otherwise
+     */
+    public List<WebElement> proxyWrappedElements() {
+        return result != null ? getLocatorResult() : proxy;
     }
 
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         if (GET_WRAPPED_ELEMENTS.equals(method)) {
-            return result != null ? getLocatorResult() : proxy;
+            return proxyWrappedElements();
         }
         return super.invoke(proxy, method, args);
     }
@@ -74,6 +74,13 @@ public interface LocatorHandler<T> {
      */
     boolean isPresent();
 
+    /**
+     * Get the number of times a call on this proxy has been retried because the element was stale.
+     *
+     * @return number of stale retries
+     */
+    int getStaleRetryCount();
+
     /**
      * Add a listener for this locator handler.
      *
@@ -4,6 +4,7 @@ import com.google.common.base.Supplier;
 import org.fluentlenium.core.domain.WrapsElements;
 import org.fluentlenium.core.hook.HookChainBuilder;
 import org.fluentlenium.core.hook.HookDefinition;
+import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.internal.Locatable;
 import org.openqa.selenium.internal.WrapsElement;
@@ -17,10 +18,122 @@ import java.util.List;
  * Utility class to create proxies of WebElement, Component, FluentList and List of Components based on their locators.
  */
 public class LocatorProxies {
+    private static volatile ProxyBackend backend = ProxyBackend.DYNAMIC_PROXY;
+
+    private static volatile StalenessPolicy stalenessPolicy = new AlwaysCheckStalenessPolicy();
+
+    private static volatile StaleRetryStrategy staleRetryStrategy = new BackoffStaleRetryStrategy(
+            AbstractLocatorHandler.MAX_STALE_ATTEMPTS);
+
+    /**
+     * Get the backend used to create new proxies.
+     *
+     * @return proxy backend
+     */
+    public static ProxyBackend getBackend() {
+        return backend;
+    }
+
+    /**
+     * Set the backend used to create new proxies. Proxies already created are not affected.
+     *
+     * @param backend proxy backend
+     */
+    public static void setBackend(ProxyBackend backend) {
+        if (backend == null) {
+            throw new IllegalArgumentException("Proxy backend can't be null");
+        }
+        LocatorProxies.backend = backend;
+    }
+
+    /**
+     * Get the policy deciding when found elements are probed to check if they are stale.
+     *
+     * @return staleness policy
+     */
+    public static StalenessPolicy getStalenessPolicy() {
+        return stalenessPolicy;
+    }
+
+    /**
+     * Set the policy deciding when found elements are probed to check if they are stale.
+     *
+     * @param stalenessPolicy staleness policy
+     */
+    public static void setStalenessPolicy(StalenessPolicy stalenessPolicy) {
+        if (stalenessPolicy == null) {
+            throw new IllegalArgumentException("Staleness policy can't be null");
+        }
+        LocatorProxies.stalenessPolicy = stalenessPolicy;
+    }
+
+    /**
+     * Get the strategy deciding if a call raising a stale element exception is retried, and when.
+     *
+     * @return stale retry strategy
+     */
+    public static StaleRetryStrategy getStaleRetryStrategy() {
+        return staleRetryStrategy;
+    }
+
+    /**
+     * Set the strategy deciding if a call raising a stale element exception is retried, and when.
+     *
+     * @param staleRetryStrategy stale retry strategy
+     */
+    public static void setStaleRetryStrategy(StaleRetryStrategy staleRetryStrategy) {
+        if (staleRetryStrategy == null) {
+            throw new IllegalArgumentException("Stale retry strategy can't be null");
+        }
+        LocatorProxies.staleRetryStrategy = staleRetryStrategy;
+    }
+
+    /**
+     * Get the number of times calls on a proxy have been retried because its element was stale.
+     *
+     * @param proxy proxy
+     * @return number of stale retries, or 0 if the given object is not a proxy
+     */
+    public static int getStaleRetryCount(Object proxy) {
+        LocatorHandler<?> handler = getLocatorHandler(proxy);
+        return handler == null ? 0 : handler.getStaleRetryCount();
+    }
+
+    /**
+     * Notify the staleness policy that elements found before this call may be stale.
+     */
+    public static void invalidateStaleness() {
+        stalenessPolicy.invalidate();
+    }
+
+    /**
+     * Notify the staleness policy that elements owned by the given driver and found before this call may be stale.
+     * <p>
+     * When the policy is not a {@link DriverStalenessPolicy}, or when the driver is unknown, elements owned by all
+     * drivers are invalidated.
+     *
+     * @param driver driver which performed the navigation, the script or the interaction. May be null.
+     */
+    public static void invalidateStaleness(WebDriver driver) {
+        StalenessPolicy stalenessPolicy = LocatorProxies.stalenessPolicy;
+        if (driver != null && stalenessPolicy instanceof DriverStalenessPolicy) {
+            ((DriverStalenessPolicy) stalenessPolicy).invalidate(driver);
+        } else {
+            stalenessPolicy.invalidate();
+        }
+    }
+
+    private static boolean isProxy(Object proxy) {
+        return proxy instanceof DelegatingProxy || Proxy.isProxyClass(proxy.getClass());
+    }
+
     public static LocatorHandler getLocatorHandler(Object proxy) {
-        while (proxy instanceof WrapsElements && !Proxy.isProxyClass(proxy.getClass())) {
+        while (proxy instanceof WrapsElements && !isProxy(proxy)) {
             proxy = ((WrapsElements) proxy).getWrappedElements();
         }
+        if (proxy instanceof DelegatingProxy) {
+            return ((DelegatingProxy<?>) proxy).getLocatorHandler();
+        }
         if (proxy != null && Proxy.isProxyClass(proxy.getClass())) {
             InvocationHandler proxyHandler = Proxy.getInvocationHandler(proxy);
             if (proxyHandler instanceof LocatorHandler) {
@@ -38,6 +151,47 @@ public class LocatorProxies {
         return proxy;
     }
 
+    /**
+     * Get the elements found by a list proxy, as returned by the underlying search context.
+     * <p>
+     * The list is located if it's not loaded yet. Reading those elements directly bypasses hooks, so null is returned
+     * if hooks are registered on the proxy, if the given object is not a list proxy, or if it wraps other proxies.
+     *
+     * @param proxy list proxy
+     * @return found elements, or null if they can't be read directly
+     */
+    public static List<WebElement> getFoundElements(Object proxy) {
+        LocatorHandler<?> handler = getLocatorHandler(proxy);
+        if (!(handler instanceof ListHandler) || ((ListHandler) handler).hookDefinitions != null) {
+            return null;
+        }
+        Object result = handler.getLocatorResult();
+        if (!(result instanceof LazyElementProxyList)) {
+            return null;
+        }
+        List<WebElement> elements = ((LazyElementProxyList) result).getElements();
+        for (WebElement element : elements) {
+            if (element == null || isProxy(element)) {
+                return null;
+            }
+        }
+        return elements;
+    }
+
+    /**
+     * Count the elements of a list proxy. When the list is not loaded yet, elements are counted without being loaded.
+     *
+     * @param proxy list proxy
+     * @return number of elements
+     */
+    public static int count(List<WebElement> proxy) {
+        LocatorHandler<?> handler = getLocatorHandler(proxy);
+        if (handler instanceof ListHandler) {
+            return ((ListHandler) handler).count();
+        }
+        return proxy.size();
+    }
+
     public static void reset(Object proxy) {
         LocatorHandler handler = getLocatorHandler(proxy);
         if (handler != null) {
@@ -67,6 +221,9 @@ public class LocatorProxies {
     }
 
     public static boolean addProxyListener(Object proxy, ProxyElementListener listener) {
+        if (proxy instanceof DelegatingProxy) {
+            return ((DelegatingProxy<?>) proxy).getLocatorHandler().addListener(listener);
+        }
         if (Proxy.isProxyClass(proxy.getClass())) {
             InvocationHandler invocationHandler = Proxy.getInvocationHandler(proxy);
             if (invocationHandler instanceof LocatorHandler) {
@@ -77,6 +234,9 @@ public class LocatorProxies {
     }
 
     public static boolean removeProxyListener(Object proxy, ProxyElementListener listener) {
+        if (proxy instanceof DelegatingProxy) {
+            return ((DelegatingProxy<?>) proxy).getLocatorHandler().removeListener(listener);
+        }
         if (Proxy.isProxyClass(proxy.getClass())) {
             InvocationHandler invocationHandler = Proxy.getInvocationHandler(proxy);
             if (invocationHandler instanceof LocatorHandler) {
@@ -96,7 +256,12 @@ public class LocatorProxies {
 
     public static WebElement createWebElement(ElementLocator locator) {
         final ComponentHandler handler = new ComponentHandler(locator);
-        WebElement proxy = (WebElement) Proxy.newProxyInstance(locator.getClass().getClassLoader(), new Class[]{WebElement.class, Locatable.class, WrapsElement.class}, handler);
+        WebElement proxy;
+        if (backend == ProxyBackend.DELEGATE) {
+            proxy = new DelegatingWebElement(handler);
+        } else {
+            proxy = (WebElement) Proxy.newProxyInstance(locator.getClass().getClassLoader(), new Class[]{WebElement.class, Locatable.class, WrapsElement.class}, handler);
+        }
         handler.setProxy(proxy);
         return proxy;
     }
@@ -111,7 +276,12 @@ public class LocatorProxies {
 
     public static List<WebElement> createWebElementList(ElementLocator locator) {
         final ListHandler handler = new ListHandler(locator);
-        List<WebElement> proxy = (List<WebElement>) Proxy.newProxyInstance(locator.getClass().getClassLoader(), new Class[]{List.class, WrapsElements.class}, handler);
+        List<WebElement> proxy;
+        if (backend == ProxyBackend.DELEGATE) {
+            proxy = new DelegatingWebElementList(handler);
+        } else {
+            proxy = (List<WebElement>) Proxy.newProxyInstance(locator.getClass().getClassLoader(), new Class[]{List.class, WrapsElements.class}, handler);
+        }
         handler.setProxy(proxy);
         return proxy;
     }
@@ -0,0 +1,22 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Staleness policy never probing the element. Stale elements are only detected when a call raises
+ * {@link org.openqa.selenium.StaleElementReferenceException}.
+ */
+public class NeverCheckStalenessPolicy implements StalenessPolicy {
+    @Override
+    public long mark() {
+        return 0;
+    }
+
+    @Override
+    public boolean isProbeRequired(long mark) {
+        return false;
+    }
+
+    @Override
+    public void invalidate() {
+        // Elements are never probed.
+    }
+}
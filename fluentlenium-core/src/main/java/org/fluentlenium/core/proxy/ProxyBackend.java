@@ -0,0 +1,19 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Implementation used by {@link LocatorProxies} to create proxies of {@link org.openqa.selenium.WebElement} and
+ * {@link java.util.List} of {@link org.openqa.selenium.WebElement}.
+ */
+public enum ProxyBackend {
+    /**
+     * Hand-written classes delegating each method directly to the locator handler, without reflection. This backend
+     * is experimental and must be enabled explicitly.
+     */
+    DELEGATE,
+
+    /**
+     * JDK dynamic proxies ({@link java.lang.reflect.Proxy}), dispatching each method through
+     * {@link java.lang.reflect.InvocationHandler}. This is the default backend.
+     */
+    DYNAMIC_PROXY
+}
@@ -0,0 +1,20 @@
+package org.fluentlenium.core.proxy;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+/**
+ * {@link ProxyElementListener} also notified of the retries of calls raising stale element exceptions.
+ */
+public interface ProxyElementRetryListener extends ProxyElementListener {
+    /**
+     * Called when a call on the proxy has raised a stale element exception and is going to be retried.
+     *
+     * @param proxy      proxy
+     * @param locator    locator of the proxy, searched again before retrying the call
+     * @param exception  stale element exception raised by the call
+     * @param retryCount number of stale retries of this proxy, including this one
+     */
+    void proxyElementRetry(Object proxy, ElementLocator locator, StaleElementReferenceException exception,
+            int retryCount);
+}
@@ -0,0 +1,172 @@
+package org.fluentlenium.core.proxy;
+
+import org.fluentlenium.core.script.ElementScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ElementLocator} finding elements from a search context with a Selenium locator.
+ * <p>
+ * Locators retrieving a single index of those elements ({@link AtIndexElementLocator}, {@link FirstElementLocator},
+ * {@link LastElementLocator}) use {@link #findElementsAt(int)} to retrieve only this element from the driver, and
+ * {@link ListHandler#count()} uses {@link #countElements()} to count elements without retrieving them.
+ */
+public class SearchContextElementLocator implements ElementLocator {
+    /**
+     * Index of the last element, for {@link #findElementsAt(int)}.
+     */
+    public static final int LAST = -1;
+
+    static final String INDEX_SCRIPT = "var context = arguments[0] || document, using = arguments[1],"
+            + " value = arguments[2], index = arguments[3];\n"
+            + "if (using === 'css') {\n"
+            + "  var elements = context.querySelectorAll(value);\n"
+            + "  if (index < 0) { index = elements.length - 1; }\n"
+            + "  return index >= 0 && index < elements.length ? elements[index] : null;\n"
+            + "}\n"
+            + "var owner = context.ownerDocument || context, found = [];\n"
+            + "var snapshot = owner.evaluate(value, context, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n"
+            + "for (var i = 0; i < snapshot.snapshotLength; i++) {\n"
+            + "  if (snapshot.snapshotItem(i).nodeType === 1) { found.push(snapshot.snapshotItem(i)); }\n"
+            + "}\n"
+            + "if (index < 0) { index = found.length - 1; }\n"
+            + "return index >= 0 && index < found.length ? found[index] : null;";
+
+    static final String COUNT_SCRIPT = "var context = arguments[0] || document, using = arguments[1],"
+            + " value = arguments[2];\n"
+            + "if (using === 'css') { return context.querySelectorAll(value).length; }\n"
+            + "var owner = context.ownerDocument || context, count = 0;\n"
+            + "var snapshot = owner.evaluate(value, context, null, XPathResult.UNORDERED_NODE_SNAPSHOT_TYPE, null);\n"
+            + "for (var i = 0; i < snapshot.snapshotLength; i++) {\n"
+            + "  if (snapshot.snapshotItem(i).nodeType === 1) { count++; }\n"
+            + "}\n"
+            + "return count;";
+
+    private final SearchContext searchContext;
+
+    private final By by;
+
+    public SearchContextElementLocator(SearchContext searchContext, By by) {
+        this.searchContext = searchContext;
+        this.by = by;
+    }
+
+    public SearchContext getSearchContext() {
+        return searchContext;
+    }
+
+    public By getBy() {
+        return by;
+    }
+
+    @Override
+    public WebElement findElement() {
+        return searchContext.findElement(by);
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return searchContext.findElements(by);
+    }
+
+    /**
+     * Find the element at given index without retrieving all elements matching the locator.
+     * <p>
+     * The first element is found with {@link SearchContext#findElement(By)}. Other indexes are resolved by the
+     * browser with a single script when the driver supports javascript and the locator can be evaluated by the browser.
+     * <p>
+     * As the script doesn't wait for elements, it only returns the element when it's already there. When it's not,
+     * null is returned so that all elements are found with {@link SearchContext#findElements(By)}, honoring the
+     * implicit wait of the driver.
+     *
+     * @param index index of the element, or {@link #LAST} for the last element
+     * @return singleton list of the element, empty list if there's no first element, or null if the element can't be
+     * found without retrieving all elements
+     */
+    public List<WebElement> findElementsAt(int index) {
+        if (!(searchContext instanceof WebDriver) && !(searchContext instanceof WebElement)) {
+            // Other search contexts may not find the same first element as their findElements method.
+            return null;
+        }
+        if (index == 0) {
+            WebElement element;
+            try {
+                element = searchContext.findElement(by);
+            } catch (NoSuchElementException e) {
+                return Collections.emptyList();
+            }
+            return element == null ? null : Collections.singletonList(element);
+        }
+        return findElementsAtWithScript(index);
+    }
+
+    private List<WebElement> findElementsAtWithScript(int index) {
+        String[] selector = ElementScripts.toSelector(by);
+        JavascriptExecutor executor = getJavascriptExecutor();
+        if (selector == null || executor == null) {
+            return null;
+        }
+        try {
+            Object result = executor.executeScript(INDEX_SCRIPT, getScriptContext(), selector[0], selector[1], index);
+            if (!(result instanceof WebElement)) {
+                // Not found yet, or unexpected result: find all elements, waiting for them if required.
+                return null;
+            }
+            return Collections.singletonList((WebElement) result);
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Javascript is disabled or the selector is not supported by this browser, find all elements.
+            return null;
+        }
+    }
+
+    /**
+     * Count the elements matching the locator without retrieving them.
+     * <p>
+     * Elements are counted by the browser with a single script when the driver supports javascript and the locator
+     * can be evaluated by the browser. Otherwise, elements are found and counted without being wrapped.
+     * <p>
+     * As the script doesn't wait for elements, a count of 0 is checked with {@link SearchContext#findElements(By)},
+     * honoring the implicit wait of the driver.
+     *
+     * @return number of elements matching the locator
+     */
+    public int countElements() {
+        String[] selector = ElementScripts.toSelector(by);
+        JavascriptExecutor executor = getJavascriptExecutor();
+        if (selector != null && executor != null) {
+            try {
+                Object result = executor.executeScript(COUNT_SCRIPT, getScriptContext(), selector[0], selector[1]);
+                if (result instanceof Number && ((Number) result).intValue() > 0) {
+                    return ((Number) result).intValue();
+                }
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                // Javascript is disabled or the selector is not supported by this browser, find all elements.
+            }
+        }
+        List<WebElement> elements = findElements();
+        return elements == null ? 0 : elements.size();
+    }
+
+    private JavascriptExecutor getJavascriptExecutor() {
+        if (searchContext instanceof WebDriver) {
+            return searchContext instanceof JavascriptExecutor ? (JavascriptExecutor) searchContext : null;
+        }
+        if (searchContext instanceof WebElement && LocatorProxies.getLocatorHandler(searchContext) == null) {
+            return ElementScripts.getJavascriptExecutor((WebElement) searchContext);
+        }
+        return null;
+    }
+
+    private Object getScriptContext() {
+        return searchContext instanceof WebDriver ? "" : searchContext;
+    }
+}
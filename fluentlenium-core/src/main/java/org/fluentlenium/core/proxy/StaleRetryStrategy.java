@@ -0,0 +1,26 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Decides if a call on a proxy raising {@link org.openqa.selenium.StaleElementReferenceException} should be retried,
+ * and how long to wait before searching the element again.
+ * <p>
+ * When the call is retried, the proxy searches the element again after the delay, then retries the call. Otherwise,
+ * the exception is thrown back to the caller.
+ *
+ * @see LocatorProxies#setStaleRetryStrategy(StaleRetryStrategy)
+ */
+public interface StaleRetryStrategy {
+    /**
+     * Value returned by {@link #getRetryDelay(int)} when the call should not be retried.
+     */
+    long FAIL = -1;
+
+    /**
+     * Get the delay to wait before retrying a call that has raised a stale element exception.
+     *
+     * @param attempt zero-based index of the attempt that has failed
+     * @return delay in milliseconds before searching the element again and retrying the call, or {@link #FAIL} to
+     * throw the exception
+     */
+    long getRetryDelay(int attempt);
+}
@@ -0,0 +1,34 @@
+package org.fluentlenium.core.proxy;
+
+/**
+ * Decides when an element already found by a proxy should be probed against the browser to check if it's stale.
+ * <p>
+ * Each time a proxy finds its element, it takes a mark from the policy. Before the next call on the element, the
+ * proxy asks the policy if a probe is required for this mark. When the probe is skipped and the element is really
+ * stale, the call raises {@link org.openqa.selenium.StaleElementReferenceException} and the proxy searches the
+ * element again before retrying it.
+ *
+ * @see LocatorProxies#setStalenessPolicy(StalenessPolicy)
+ */
+public interface StalenessPolicy {
+    /**
+     * Get a mark representing the current state, to be given back to {@link #isProbeRequired(long)}.
+     *
+     * @return mark of the current state
+     */
+    long mark();
+
+    /**
+     * Check if an element found at the given mark should be probed before its next use.
+     *
+     * @param mark mark taken when the element was found or probed for the last time
+     * @return true if the element should be probed, false otherwise
+     */
+    boolean isProbeRequired(long mark);
+
+    /**
+     * Notify the policy that elements found before this call may be stale, because of a navigation, a script or an
+     * interaction with the page.
+     */
+    void invalidate();
+}
@@ -0,0 +1,52 @@
+package org.fluentlenium.core.proxy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Staleness policy probing the element when it has not been checked for a given time, or when it has been found
+ * before the last invalidation.
+ */
+public class TimeToLiveStalenessPolicy implements StalenessPolicy {
+    private final long timeToLive;
+
+    private volatile long invalidationTime;
+
+    /**
+     * Creates a new time to live staleness policy.
+     *
+     * @param timeToLive time an element is considered fresh after it has been found or probed
+     * @param unit       time unit of the time to live
+     */
+    public TimeToLiveStalenessPolicy(long timeToLive, TimeUnit unit) {
+        if (timeToLive < 0) {
+            throw new IllegalArgumentException("Time to live should be positive");
+        }
+        this.timeToLive = unit.toNanos(timeToLive);
+        this.invalidationTime = System.nanoTime();
+    }
+
+    /**
+     * Get the time to live.
+     *
+     * @param unit time unit
+     * @return time to live in the given unit
+     */
+    public long getTimeToLive(TimeUnit unit) {
+        return unit.convert(timeToLive, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public long mark() {
+        return System.nanoTime();
+    }
+
+    @Override
+    public boolean isProbeRequired(long mark) {
+        return mark - invalidationTime <= 0 || System.nanoTime() - mark >= timeToLive;
+    }
+
+    @Override
+    public void invalidate() {
+        invalidationTime = System.nanoTime();
+    }
+}
@@ -0,0 +1,124 @@
+package org.fluentlenium.core.script;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+/**
+ * Javascript functions reading values of elements in the browser, the same way {@link org.openqa.selenium.WebElement}
+ * getters do.
+ * <p>
+ * Those functions are meant to be prepended to scripts reading values of many elements in a single command. Locators
+ * can also be converted to selectors evaluated by those scripts.
+ */
+public final class ElementScripts {
+    /**
+     * Selector type of CSS selectors returned by {@link #toSelector(By)}.
+     */
+    public static final String CSS = "css";
+
+    /**
+     * Selector type of XPath expressions returned by {@link #toSelector(By)}.
+     */
+    public static final String XPATH = "xpath";
+
+    /**
+     * Declares {@code isDisplayed(element)}, returning true if the element is rendered, like
+     * {@link org.openqa.selenium.WebElement#isDisplayed()}.
+     */
+    public static final String DISPLAYED_FUNCTION = "function isDisplayed(element) {\n"
+            + "  if (element.tagName.toLowerCase() === 'input' && element.type === 'hidden') { return false; }\n"
+            + "  var visibility = window.getComputedStyle(element).visibility;\n"
+            + "  if (visibility === 'hidden' || visibility === 'collapse') { return false; }\n"
+            + "  for (var parent = element; parent && parent.nodeType === 1; parent = parent.parentNode) {\n"
+            + "    var style = window.getComputedStyle(parent);\n"
+            + "    if (style.display === 'none' || style.opacity === '0') { return false; }\n"
+            + "  }\n"
+            + "  return true;\n"
+            + "}\n";
+
+    /**
+     * Declares {@code textOf(element)}, returning the rendered text of an element with whitespaces collapsed, or an
+     * empty string if the element is not displayed, like {@link org.openqa.selenium.WebElement#getText()}. It also
+     * declares {@code isDisplayed(element)} from {@link #DISPLAYED_FUNCTION}.
+     */
+    public static final String TEXT_FUNCTION = DISPLAYED_FUNCTION
+            + "function textOf(element) {\n"
+            + "  if (!isDisplayed(element)) { return ''; }\n"
+            + "  var text = element.innerText;\n"
+            + "  if (text === undefined || text === null) { text = element.textContent; }\n"
+            + "  if (text === undefined || text === null) { return null; }\n"
+            + "  return text.replace(/\\u00a0/g, ' ').replace(/[ \\t\\f\\v\\r]+/g, ' ')"
+            + ".replace(/ ?\\n ?/g, '\\n').replace(/^\\s+|\\s+$/g, '');\n"
+            + "}\n";
+
+    /**
+     * Declares {@code attributeOf(element, name)}, returning the property of an element, or the attribute if there's
+     * no such property, like {@link org.openqa.selenium.WebElement#getAttribute(String)}.
+     */
+    public static final String ATTRIBUTE_FUNCTION = "function attributeOf(element, name) {\n"
+            + "  var value = element[name];\n"
+            + "  if (typeof value === 'boolean') { return value ? 'true' : null; }\n"
+            + "  if ((typeof value === 'string' || typeof value === 'number')"
+            + " && (value !== '' || element.hasAttribute(name))) {\n"
+            + "    return String(value);\n"
+            + "  }\n"
+            + "  return element.getAttribute(name);\n"
+            + "}\n";
+
+    private ElementScripts() {
+    }
+
+    /**
+     * Get the javascript executor of the driver owning the given element.
+     *
+     * @param element element found by a driver
+     * @return javascript executor, or null if the element doesn't expose its driver or if the driver doesn't support
+     * javascript
+     */
+    public static JavascriptExecutor getJavascriptExecutor(WebElement element) {
+        if (element instanceof WrapsDriver) {
+            WebDriver driver = ((WrapsDriver) element).getWrappedDriver();
+            if (driver instanceof JavascriptExecutor) {
+                return (JavascriptExecutor) driver;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Converts a Selenium locator to a selector that can be evaluated by the browser.
+     *
+     * @param by Selenium locator
+     * @return array containing the selector type ({@link #CSS} or {@link #XPATH}) and the selector, or null if the
+     * locator can't be evaluated by the browser
+     */
+    public static String[] toSelector(By by) {
+        String value = by.toString();
+        if (by.getClass() == By.ByCssSelector.class) {
+            return new String[] {CSS, value.substring("By.cssSelector: ".length())};
+        }
+        if (by.getClass() == By.ByTagName.class) {
+            return new String[] {CSS, value.substring("By.tagName: ".length())};
+        }
+        if (by.getClass() == By.ByXPath.class) {
+            return new String[] {XPATH, value.substring("By.xpath: ".length())};
+        }
+        if (by.getClass() == By.ById.class) {
+            return new String[] {CSS, attributeSelector("id", "=", value.substring("By.id: ".length()))};
+        }
+        if (by.getClass() == By.ByName.class) {
+            return new String[] {CSS, attributeSelector("name", "=", value.substring("By.name: ".length()))};
+        }
+        if (by.getClass() == By.ByClassName.class) {
+            return new String[] {CSS, attributeSelector("class", "~=", value.substring("By.className: ".length()))};
+        }
+        return null;
+    }
+
+    private static String attributeSelector(String attribute, String operator, String value) {
+        return "[" + attribute + operator + "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"]";
+    }
+}
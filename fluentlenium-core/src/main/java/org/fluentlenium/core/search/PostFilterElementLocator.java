@@ -0,0 +1,129 @@
+package org.fluentlenium.core.search;
+
+import org.fluentlenium.core.components.ComponentInstantiator;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterPredicate;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.proxy.LocatorProxies;
+import org.fluentlenium.core.script.ElementScripts;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Element locator applying post filters on a list of elements.
+ * <p>
+ * Filters are evaluated once for each element each time the filtered list is located. Matched elements are then
+ * reused by other locators built from this one (first, last, index) until the filtered list is reset.
+ * <p>
+ * When the driver supports javascript and the filter chain can be compiled to a {@link FilterScript}, all filters are
+ * evaluated by the browser in a single command. Otherwise, text and attributes are retrieved element by element. The
+ * script is no longer used once the driver reports that javascript is not supported, or returns an unexpected result.
+ */
+class PostFilterElementLocator implements ElementLocator {
+    private final ElementLocator locator;
+    private final List<FilterPredicate> predicates;
+    private FilterScript script;
+    private final ComponentInstantiator instantiator;
+
+    private List<WebElement> proxy;
+
+    private List<WebElement> matchedElements;
+
+    /**
+     * Creates a new post filter locator.
+     *
+     * @param locator      locator of the elements to filter
+     * @param filters      post filters
+     * @param instantiator component instantiator
+     */
+    PostFilterElementLocator(ElementLocator locator, List<Filter> filters, ComponentInstantiator instantiator) {
+        this.locator = locator;
+        this.instantiator = instantiator;
+        this.predicates = new ArrayList<>(filters.size());
+        for (Filter filter : filters) {
+            this.predicates.add(new FilterPredicate(filter));
+        }
+        this.script = FilterScript.compile(filters);
+    }
+
+    /**
+     * Set the proxy of the filtered list using this locator.
+     *
+     * @param proxy proxy of the filtered list
+     */
+    void setProxy(List<WebElement> proxy) {
+        this.proxy = proxy;
+    }
+
+    @Override
+    public synchronized WebElement findElement() {
+        List<WebElement> matchedElements = findElements();
+        if (matchedElements.isEmpty()) {
+            throw new NoSuchElementException("Element not found");
+        }
+        return matchedElements.get(0);
+    }
+
+    @Override
+    public synchronized List<WebElement> findElements() {
+        if (matchedElements == null || proxy == null || !LocatorProxies.isLoaded(proxy)) {
+            matchedElements = Collections.unmodifiableList(filterElements());
+        }
+        return matchedElements;
+    }
+
+    private List<WebElement> filterElements() {
+        List<WebElement> elements = locator.findElements();
+        if (elements == null || elements.isEmpty()) {
+            return new ArrayList<>();
+        }
+        JavascriptExecutor executor = script == null ? null : ElementScripts.getJavascriptExecutor(elements.get(0));
+        if (executor != null) {
+            List<WebElement> filteredElements = null;
+            try {
+                filteredElements = script.filter(executor, elements);
+                if (filteredElements == null) {
+                    // The script is not supported by this browser, filter with predicates from now on.
+                    script = null;
+                }
+            } catch (StaleElementReferenceException e) {
+                // As for predicates, stale elements are reported to the caller.
+                throw e;
+            } catch (UnsupportedOperationException e) {
+                // Javascript is disabled, filter with predicates from now on.
+                script = null;
+            } catch (WebDriverException e) {
+                // The page may be changing, filter this time with predicates and keep the script.
+            }
+            if (filteredElements != null) {
+                return filteredElements;
+            }
+        }
+        List<WebElement> filteredElements = new ArrayList<>();
+        for (WebElement element : elements) {
+            FluentWebElement fluentElement = instantiator.newFluent(element);
+            if (matches(fluentElement)) {
+                filteredElements.add(element);
+            }
+        }
+        return filteredElements;
+    }
+
+    private boolean matches(FluentWebElement fluentElement) {
+        for (FilterPredicate predicate : predicates) {
+            if (!predicate.apply(fluentElement)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
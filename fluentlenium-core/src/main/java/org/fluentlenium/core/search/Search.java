@@ -1,22 +1,20 @@
 package org.fluentlenium.core.search;
 
-import com.google.common.base.Supplier;
-import com.google.common.collect.Collections2;
 import org.fluentlenium.core.components.ComponentInstantiator;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentListImpl;
 import org.fluentlenium.core.domain.FluentWebElement;
 import org.fluentlenium.core.filter.Filter;
-import org.fluentlenium.core.filter.FilterPredicate;
 import org.fluentlenium.core.hook.HookChainBuilder;
 import org.fluentlenium.core.proxy.LocatorProxies;
+import org.fluentlenium.core.proxy.SearchContextElementLocator;
 import org.openqa.selenium.By;
 import org.openqa.selenium.SearchContext;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.List;
 
 public class Search implements SearchControl<FluentWebElement> {
@@ -58,50 +56,24 @@ public class Search implements SearchControl<FluentWebElement> {
                 }
             }
         }
-        List<WebElement> select = selectList(sb.toString());
-        final FluentListImpl fluentList = instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, select);
-        if (postFilterSelector.size() == 0) {
-            return fluentList;
+        List<WebElement> select;
+        if (postFilterSelector.size() > 0) {
+            select = postFilterList(By.cssSelector(sb.toString()), postFilterSelector);
+        } else {
+            select = selectList(sb.toString());
         }
-
-        Collection<FluentWebElement> postFiltered = fluentList;
-        for (Filter filter : postFilterSelector) {
-            postFiltered = Collections2.filter(postFiltered, new FilterPredicate(filter));
-        }
-
-        List<WebElement> postFilteredElements = LocatorProxies.createWebElementList(new Supplier<List<WebElement>>() {
-            @Override
-            public List<WebElement> get() {
-                Collection<FluentWebElement> postFiltered = fluentList;
-                for (Filter filter : postFilterSelector) {
-                    postFiltered = Collections2.filter(postFiltered, new FilterPredicate(filter));
-                }
-
-                ArrayList<WebElement> webElements = new ArrayList<>();
-                for (FluentWebElement element : postFiltered) {
-                    webElements.add(element.getElement());
-                }
-
-                return webElements;
-            }
-        });
-
-        return instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, postFilteredElements);
+        return instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, select);
     }
 
+    private List<WebElement> postFilterList(By by, List<Filter> filters) {
+        PostFilterElementLocator locator = new PostFilterElementLocator(locator(by), filters, instantiator);
+        List<WebElement> postFilteredElements = LocatorProxies.createWebElementList(locator);
+        locator.setProxy(postFilteredElements);
+        return postFilteredElements;
+    }
 
-    private ElementLocator locator(final By by) {
-        return new ElementLocator() {
-            @Override
-            public WebElement findElement() {
-                return searchContext.findElement(by);
-            }
-
-            @Override
-            public List<WebElement> findElements() {
-                return searchContext.findElements(by);
-            }
-        };
+    private ElementLocator locator(By by) {
+        return new SearchContextElementLocator(searchContext, by);
     }
 
     private List<WebElement> selectList(final String cssSelector) {
@@ -163,31 +135,13 @@ public class Search implements SearchControl<FluentWebElement> {
      */
     @Override
     public FluentList<FluentWebElement> find(By locator, final Filter... filters) {
-        List<WebElement> select = selectList(locator);
-
-        final FluentListImpl fluentList = instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, select);
-        if (filters.length == 0) {
-            return fluentList;
+        List<WebElement> select;
+        if (filters.length > 0) {
+            select = postFilterList(locator, Arrays.asList(filters));
+        } else {
+            select = selectList(locator);
         }
-
-        List<WebElement> postFilteredElements = LocatorProxies.createWebElementList(new Supplier<List<WebElement>>() {
-            @Override
-            public List<WebElement> get() {
-                Collection<FluentWebElement> postFiltered = fluentList;
-                for (Filter selector : filters) {
-                    postFiltered = Collections2.filter(postFiltered, new FilterPredicate(selector));
-                }
-
-                List<WebElement> webElements = new ArrayList<>();
-                for (FluentWebElement element : postFiltered) {
-                    webElements.add(element.getElement());
-                }
-
-                return webElements;
-            }
-        });
-
-        return instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, postFilteredElements);
+        return instantiator.asComponentList(FluentListImpl.class, FluentWebElement.class, select);
     }
 
     @Override
@@ -63,6 +63,25 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
         return conditions;
     }
 
+    /**
+     * Find the elements from configured matcher, for conditions that only count elements.
+     * <p>
+     * Matchers able to count elements without retrieving them return a list that is not loaded yet.
+     *
+     * @return fluent list of matching elements.
+     */
+    protected FluentList<? extends FluentWebElement> findToCount() {
+        return find();
+    }
+
+    protected FluentListConditions countCondition() {
+        FluentListConditions conditions = findToCount().one();
+        if (negation) {
+            conditions = conditions.not();
+        }
+        return conditions;
+    }
+
     @Override
     public boolean isVerified(final Predicate<FluentWebElement> predicate) {
         until(wait, new Predicate<FluentControl>() {
@@ -137,7 +156,7 @@ public abstract class AbstractWaitElementMatcher extends AbstractWaitMatcher imp
     public boolean isPresent() {
         Predicate<FluentControl> isPresent = new com.google.common.base.Predicate<FluentControl>() {
             public boolean apply(FluentControl fluent) {
-                return condition().isPresent();
+                return countCondition().isPresent();
             }
         };
         until(wait, isPresent, negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName));
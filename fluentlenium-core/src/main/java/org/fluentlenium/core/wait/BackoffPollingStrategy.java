@@ -0,0 +1,62 @@
+package org.fluentlenium.core.wait;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling strategy doubling the polling interval after each poll, up to a maximum interval.
+ * <p>
+ * A jitter removes a random part of each interval, so many waits started at the same time don't poll the driver at
+ * the same time.
+ */
+public class BackoffPollingStrategy implements PollingStrategy {
+    private final long initialInterval;
+
+    private final long maxInterval;
+
+    private final double jitter;
+
+    /**
+     * Creates a new strategy with exponential backoff.
+     *
+     * @param initialInterval interval before the second poll
+     * @param maxInterval     maximum interval between two polls
+     * @param unit            time unit of intervals
+     */
+    public BackoffPollingStrategy(long initialInterval, long maxInterval, TimeUnit unit) {
+        this(initialInterval, maxInterval, unit, 0);
+    }
+
+    /**
+     * Creates a new strategy with exponential backoff and jitter.
+     *
+     * @param initialInterval interval before the second poll
+     * @param maxInterval     maximum interval between two polls
+     * @param unit            time unit of intervals
+     * @param jitter          maximum part of each interval randomly removed, between 0 and 1
+     */
+    public BackoffPollingStrategy(long initialInterval, long maxInterval, TimeUnit unit, double jitter) {
+        if (initialInterval < 0 || maxInterval < 0) {
+            throw new IllegalArgumentException("Intervals should be positive");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new IllegalArgumentException("Jitter should be between 0 and 1");
+        }
+        this.initialInterval = unit.toMillis(initialInterval);
+        this.maxInterval = unit.toMillis(maxInterval);
+        this.jitter = jitter;
+    }
+
+    @Override
+    public long getPollingInterval(int poll, long elapsed) {
+        long interval = initialInterval;
+        for (int i = 0; i < poll && interval < maxInterval; i++) {
+            interval *= 2;
+        }
+        interval = Math.min(interval, maxInterval);
+        if (jitter > 0 && interval > 0) {
+            interval -= (long) (interval * jitter * ThreadLocalRandom.current().nextDouble());
+        }
+        return interval;
+    }
+}
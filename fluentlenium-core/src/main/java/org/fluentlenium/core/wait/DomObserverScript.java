@@ -0,0 +1,182 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.FilterScript;
+import org.fluentlenium.core.script.ElementScripts;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Condition of a wait evaluated by the browser, resolving as soon as the DOM is mutated so the condition holds.
+ * <p>
+ * The asynchronous script finds elements matching the selector and filters, checks the condition, and checks it again
+ * each time a {@code MutationObserver} reports a change of the document, until the timeout is reached. A safety poll
+ * at the wait polling interval catches changes that don't mutate the DOM, like stylesheet rules.
+ */
+final class DomObserverScript {
+    static final String PRESENT = "present";
+
+    static final String SIZE = "size";
+
+    static final String DISPLAYED = "displayed";
+
+    static final String ENABLED = "enabled";
+
+    static final String TEXT = "text";
+
+    static final String CONTAINS_TEXT = "containsText";
+
+    static final String ATTRIBUTE = "attribute";
+
+    /**
+     * Declares {@code check(using, value, filters, condition, name, expected, negated)}, returning true if the
+     * condition holds for elements matching the selector and compiled filters.
+     */
+    static final String CHECK_FUNCTION = ElementScripts.TEXT_FUNCTION
+            + ElementScripts.ATTRIBUTE_FUNCTION
+            + FilterScript.FILTER_FUNCTION
+            + "function find(using, value, filters) {\n"
+            + "  var found = [], matched = [];\n"
+            + "  if (using === 'css') {\n"
+            + "    var all = document.querySelectorAll(value);\n"
+            + "    for (var i = 0; i < all.length; i++) { found.push(all[i]); }\n"
+            + "  } else {\n"
+            + "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);\n"
+            + "    for (var k = 0; k < snapshot.snapshotLength; k++) { found.push(snapshot.snapshotItem(k)); }\n"
+            + "  }\n"
+            + "  for (var m = 0; m < found.length; m++) {\n"
+            + "    if (found[m].nodeType === 1 && matchesFilters(found[m], filters)) { matched.push(found[m]); }\n"
+            + "  }\n"
+            + "  return matched;\n"
+            + "}\n"
+            + "function holds(element, condition, name, expected) {\n"
+            + "  if (condition === 'displayed') { return isDisplayed(element); }\n"
+            + "  if (condition === 'enabled') { return !element.disabled; }\n"
+            + "  if (condition === 'text') { return textOf(element) === expected; }\n"
+            + "  if (condition === 'containsText') {\n"
+            + "    var text = textOf(element);\n"
+            + "    return text !== null && text.indexOf(expected) >= 0;\n"
+            + "  }\n"
+            + "  return attributeOf(element, name) === expected;\n"
+            + "}\n"
+            + "function check(using, value, filters, condition, name, expected, negated) {\n"
+            + "  var elements = find(using, value, filters);\n"
+            + "  if (condition === 'present') { return negated !== (elements.length > 0); }\n"
+            + "  if (condition === 'size') { return negated !== (elements.length === expected); }\n"
+            + "  if (elements.length === 0) { return negated; }\n"
+            + "  for (var i = 0; i < elements.length; i++) {\n"
+            + "    if (holds(elements[i], condition, name, expected) !== negated) { return true; }\n"
+            + "  }\n"
+            + "  return false;\n"
+            + "}\n";
+
+    static final String SCRIPT = "var using = arguments[0], value = arguments[1], filters = arguments[2],"
+            + " condition = arguments[3], name = arguments[4], expected = arguments[5], negated = arguments[6],"
+            + " timeout = arguments[7], interval = arguments[8], callback = arguments[arguments.length - 1];\n"
+            + CHECK_FUNCTION
+            + "var done = false, observer = null, poller = null, timer = null;\n"
+            + "function finish(result) {\n"
+            + "  if (done) { return; }\n"
+            + "  done = true;\n"
+            + "  if (observer) { observer.disconnect(); }\n"
+            + "  if (poller !== null) { clearInterval(poller); }\n"
+            + "  if (timer !== null) { clearTimeout(timer); }\n"
+            + "  callback(result);\n"
+            + "}\n"
+            + "function evaluate(last) {\n"
+            + "  try {\n"
+            + "    var result = check(using, value, filters, condition, name, expected, negated);\n"
+            + "    if (result || last) { finish(result); }\n"
+            + "  } catch (e) {\n"
+            + "    finish(null);\n"
+            + "  }\n"
+            + "}\n"
+            + "evaluate(timeout <= 0);\n"
+            + "if (!done) {\n"
+            + "  if (window.MutationObserver) {\n"
+            + "    observer = new MutationObserver(function () { evaluate(false); });\n"
+            + "    observer.observe(document.documentElement,"
+            + " {childList: true, subtree: true, attributes: true, characterData: true});\n"
+            + "  }\n"
+            + "  poller = setInterval(function () { evaluate(false); }, interval);\n"
+            + "  timer = setTimeout(function () { evaluate(true); }, timeout);\n"
+            + "}";
+
+    private final String[] selector;
+
+    private final List<List<Object>> filters;
+
+    private DomObserverScript(String[] selector, List<List<Object>> filters) {
+        this.selector = selector;
+        this.filters = filters;
+    }
+
+    /**
+     * Compile the given locator and filters to a script observing the DOM.
+     *
+     * @param locator locator of elements
+     * @param filters filters of elements
+     * @return script, or null if the locator or a filter can't be evaluated by the browser
+     */
+    static DomObserverScript compile(By locator, Collection<Filter> filters) {
+        String[] selector = ElementScripts.toSelector(locator);
+        if (selector == null) {
+            return null;
+        }
+        FilterScript filterScript = FilterScript.compile(filters);
+        if (filterScript == null) {
+            return null;
+        }
+        return new DomObserverScript(selector, filterScript.getCompiledFilters());
+    }
+
+    /**
+     * Get the arguments of {@code check} function declared by {@link #CHECK_FUNCTION}.
+     *
+     * @param condition condition to check
+     * @param name      attribute name, for {@link #ATTRIBUTE} condition
+     * @param expected  expected value, for {@link #SIZE}, {@link #TEXT}, {@link #CONTAINS_TEXT} and
+     *                  {@link #ATTRIBUTE} conditions
+     * @param negated   true to check that the condition doesn't hold
+     * @return arguments of check function
+     */
+    List<Object> toCheckArguments(String condition, String name, Object expected, boolean negated) {
+        return Arrays.asList(selector[0], selector[1], filters, condition, name == null ? "" : name,
+                expected == null ? "" : expected, negated);
+    }
+
+    /**
+     * Wait in the browser until the condition holds.
+     *
+     * @param executor  javascript executor
+     * @param condition condition to wait for
+     * @param name      attribute name, for {@link #ATTRIBUTE} condition
+     * @param expected  expected value, for {@link #SIZE}, {@link #TEXT}, {@link #CONTAINS_TEXT} and
+     *                  {@link #ATTRIBUTE} conditions
+     * @param negated   true to wait until the condition doesn't hold
+     * @param timeout   timeout in milliseconds
+     * @param interval  safety polling interval in milliseconds
+     * @return true if the condition holds, false if the timeout was reached, or null if the script couldn't be
+     * evaluated by the browser
+     */
+    Boolean waitFor(JavascriptExecutor executor, String condition, String name, Object expected, boolean negated,
+            long timeout, long interval) {
+        try {
+            List<Object> arguments = new ArrayList<>(toCheckArguments(condition, name, expected, negated));
+            arguments.add(timeout);
+            arguments.add(interval);
+            Object result = executor.executeAsyncScript(SCRIPT, arguments.toArray());
+            return result instanceof Boolean ? (Boolean) result : null;
+        } catch (WebDriverException | UnsupportedOperationException e) {
+            // Javascript is disabled, script timeout of the driver is shorter than the wait or the page has changed,
+            // condition will be polled instead.
+            return null;
+        }
+    }
+}
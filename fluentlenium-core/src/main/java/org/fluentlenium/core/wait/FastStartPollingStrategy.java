@@ -0,0 +1,62 @@
+package org.fluentlenium.core.wait;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polling strategy polling quickly at the beginning of the wait, then slower.
+ * <p>
+ * Most conditions become true shortly after the wait has started, so they are detected with little latency, while
+ * long waits don't send too many commands to the driver.
+ */
+public class FastStartPollingStrategy implements PollingStrategy {
+    /**
+     * Default duration of fast polling, in milliseconds.
+     */
+    public static final long DEFAULT_FAST_DURATION = 200;
+
+    /**
+     * Default interval of fast polling, in milliseconds.
+     */
+    public static final long DEFAULT_FAST_INTERVAL = 20;
+
+    private final long fastInterval;
+
+    private final long fastDuration;
+
+    private final long interval;
+
+    /**
+     * Creates a new strategy polling every 20 ms during the first 200 ms, then at the given interval.
+     *
+     * @param interval interval after the fast polling
+     * @param unit     time unit of the interval
+     */
+    public FastStartPollingStrategy(long interval, TimeUnit unit) {
+        this(DEFAULT_FAST_INTERVAL, DEFAULT_FAST_DURATION, unit.toMillis(interval), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Creates a new strategy polling at the fast interval during the fast duration, then at the given interval.
+     *
+     * @param fastInterval interval during the fast polling
+     * @param fastDuration duration of the fast polling, from the beginning of the wait
+     * @param interval     interval after the fast polling
+     * @param unit         time unit of durations
+     */
+    public FastStartPollingStrategy(long fastInterval, long fastDuration, long interval, TimeUnit unit) {
+        if (fastInterval < 0 || fastDuration < 0 || interval < 0) {
+            throw new IllegalArgumentException("Durations should be positive");
+        }
+        this.fastInterval = unit.toMillis(fastInterval);
+        this.fastDuration = unit.toMillis(fastDuration);
+        this.interval = unit.toMillis(interval);
+    }
+
+    @Override
+    public long getPollingInterval(int poll, long elapsed) {
+        if (elapsed < fastDuration) {
+            return Math.min(fastInterval, fastDuration - elapsed);
+        }
+        return interval;
+    }
+}
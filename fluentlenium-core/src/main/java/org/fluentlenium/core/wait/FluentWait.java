@@ -8,15 +8,25 @@ import org.fluentlenium.core.FluentPage;
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
 import org.fluentlenium.core.search.Search;
+import org.fluentlenium.core.wait.metrics.WaitMetrics;
+import org.fluentlenium.core.wait.metrics.WaitOutcome;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.Duration;
+import org.openqa.selenium.support.ui.Sleeper;
+import org.openqa.selenium.support.ui.SystemClock;
 
 import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
  * A Fluent wait object.
+ * <p>
+ * The duration, number of polls, message and outcome of each wait are recorded in {@link WaitMetrics} when metrics
+ * are enabled.
  */
 public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentControl> {
 
@@ -25,20 +35,67 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
     private final WebDriver driver;
     private boolean useDefaultException;
     private boolean useCustomMessage;
+    private String message;
+    private boolean observeDom;
+    private long timeout = DEFAULT_DURATION;
+    private long pollingInterval = DEFAULT_DURATION;
+    private final Long scriptTimeout;
+    private PollingStrategy pollingStrategy;
+    private int polls;
+    private long pollingStart;
+    private long pollingDeadline;
+
+    /**
+     * Default timeout and polling interval in milliseconds, the same as Selenium wait.
+     */
+    static final long DEFAULT_DURATION = 500;
+
+    /**
+     * Time given to the driver in milliseconds, on top of the wait timeout, to return the result of a condition
+     * evaluated by the browser.
+     */
+    static final long SCRIPT_TIMEOUT_MARGIN = 1000;
 
     public org.openqa.selenium.support.ui.FluentWait getWait() {
         return wait;
     }
 
     public FluentWait(FluentControl fluentControl, Search search) {
-        wait = new org.openqa.selenium.support.ui.FluentWait<FluentControl>(fluentControl);
+        this(fluentControl, search, null);
+    }
+
+    /**
+     * Creates a new fluent wait.
+     *
+     * @param fluentControl control interface
+     * @param search        search of elements
+     * @param scriptTimeout script timeout of the driver in milliseconds, restored after waiting in the browser, or
+     *                      null if not configured, which disables waiting in the browser
+     * @see #observeDom()
+     */
+    public FluentWait(FluentControl fluentControl, Search search, Long scriptTimeout) {
+        wait = new org.openqa.selenium.support.ui.FluentWait<FluentControl>(fluentControl, new SystemClock() {
+            @Override
+            public long laterBy(long durationInMillis) {
+                long deadline = super.laterBy(durationInMillis);
+                startPolling(deadline - durationInMillis, deadline);
+                return deadline;
+            }
+        }, new Sleeper() {
+            @Override
+            public void sleep(Duration duration) throws InterruptedException {
+                sleepBeforeNextPoll(duration);
+            }
+        });
         this.search = search;
+        this.scriptTimeout = scriptTimeout;
         driver = fluentControl.getDriver();
         useDefaultException = true;
     }
 
     public FluentWait atMost(long duration, java.util.concurrent.TimeUnit unit) {
         wait.withTimeout(duration, unit);
+        timeout = unit.toMillis(duration);
         return this;
     }
 
@@ -48,14 +105,51 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
      */
     public FluentWait atMost(long timeInMillis) {
         wait.withTimeout(timeInMillis, TimeUnit.MILLISECONDS);
+        timeout = timeInMillis;
         return this;
     }
 
+    /**
+     * Poll the condition at a fixed interval, replacing any polling strategy.
+     *
+     * @param duration polling interval
+     * @param unit     time unit of the polling interval
+     * @return fluent wait
+     */
     public FluentWait pollingEvery(long duration, java.util.concurrent.TimeUnit unit) {
         wait.pollingEvery(duration, unit);
+        pollingInterval = unit.toMillis(duration);
+        pollingStrategy = null;
         return this;
     }
 
+    /**
+     * Poll the condition at intervals given by a polling strategy, instead of a fixed interval.
+     * <p>
+     * Sleeps never go past the wait timeout.
+     *
+     * @param pollingStrategy polling strategy
+     * @return fluent wait
+     * @see BackoffPollingStrategy
+     * @see FastStartPollingStrategy
+     */
+    public FluentWait pollingWith(PollingStrategy pollingStrategy) {
+        if (pollingStrategy == null) {
+            throw new IllegalArgumentException("Polling strategy can't be null");
+        }
+        this.pollingStrategy = pollingStrategy;
+        return this;
+    }
+
+    /**
+     * Get the polling strategy of this wait.
+     *
+     * @return polling strategy, or null if the condition is polled at a fixed interval
+     */
+    public PollingStrategy getPollingStrategy() {
+        return pollingStrategy;
+    }
+
     public FluentWait ignoreAll(java.util.Collection<java.lang.Class<? extends Throwable>> types) {
         wait.ignoreAll(types);
         return this;
@@ -84,9 +178,17 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
      *
      * @param predicate predicate condition for wait
      */
-    public void untilPredicate(Predicate<FluentControl> predicate) {
+    public void untilPredicate(final Predicate<FluentControl> predicate) {
         updateWaitWithDefaultExceptions();
-        wait.until(predicate);
+        untilAndRecord(predicate, new Function<FluentControl, Boolean>() {
+            public Boolean apply(FluentControl input) {
+                return predicate.apply(input);
+            }
+
+            public String toString() {
+                return predicate.toString();
+            }
+        });
     }
 
     /**
@@ -95,10 +197,40 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
      */
     public FluentWait withMessage(String message) {
         wait.withMessage(message);
+        this.message = message;
         useCustomMessage = true;
         return this;
     }
 
+    /**
+     * Wait for conditions of elements matching a selector in the browser, instead of polling them from the client.
+     * <p>
+     * Present, size, displayed, enabled, text, id, name and attribute conditions of {@link #until(String)} and
+     * {@link #until(By)} matchers are then evaluated by a single asynchronous script, which resolves as soon as a
+     * mutation of the DOM makes the condition hold. Other conditions, selectors and filters that can't be evaluated
+     * by the browser, and drivers without javascript are still polled.
+     * <p>
+     * As the current script timeout of the driver can't be read, this requires the <pre>scriptTimeout</pre>
+     * configuration property: conditions are still polled when it's not set. If the configured script timeout is
+     * shorter than the wait timeout, it's extended during the evaluation, then restored to the configured value.
+     *
+     * @return fluent wait
+     */
+    public FluentWait observeDom() {
+        observeDom = true;
+        return this;
+    }
+
+    /**
+     * Check if conditions are evaluated by the browser.
+     *
+     * @return true if {@link #observeDom()} was called
+     * @see #observeDom()
+     */
+    public boolean isObservingDom() {
+        return observeDom;
+    }
+
     /**
      * Use this methods only to avoid ignoring StateElementReferenceException
      *
@@ -170,6 +302,30 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
         return new FluentWaitLocatorSelectorMatcher(search, this, locator);
     }
 
+    /**
+     * Return a matcher waiting until all the conditions added to it hold.
+     * <p>
+     * Conditions are evaluated together on each poll, with a single command when possible.
+     *
+     * @return fluent wait composite matcher
+     */
+    public FluentWaitCompositeMatcher untilAll() {
+        updateWaitWithDefaultExceptions();
+        return new FluentWaitCompositeMatcher(search, this, driver, false);
+    }
+
+    /**
+     * Return a matcher waiting until any of the conditions added to it holds.
+     * <p>
+     * Conditions are evaluated together on each poll, with a single command when possible.
+     *
+     * @return fluent wait composite matcher
+     */
+    public FluentWaitCompositeMatcher untilAny() {
+        updateWaitWithDefaultExceptions();
+        return new FluentWaitCompositeMatcher(search, this, driver, true);
+    }
+
     @SuppressWarnings("unchecked")
     public FluentWaitWindowMatcher untilWindow(String windowName) {
         return new FluentWaitWindowMatcher(this, windowName);
@@ -217,7 +373,7 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
      */
     public void until(final Supplier<Boolean> isTrue) {
         updateWaitWithDefaultExceptions();
-        wait.until(new Function<Object, Boolean>() {
+        untilAndRecord(isTrue, new Function<Object, Boolean>() {
             public Boolean apply(Object input) {
                 return isTrue.get();
             }
@@ -236,7 +392,61 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
     @Override
     public <T> T until(Function<? super FluentControl, T> isTrue) {
         updateWaitWithDefaultExceptions();
-        return wait.until(isTrue);
+        return untilAndRecord(isTrue, isTrue);
+    }
+
+    /**
+     * Wait until the function returns true or a non null value, and record the wait in {@link WaitMetrics}.
+     * <p>
+     * Without a custom message, the wait is recorded under the class name of the condition given by the user, which
+     * is stable across calls, unlike its default {@code toString()}.
+     */
+    private <T> T untilAndRecord(Object condition, Function<? super FluentControl, T> isTrue) {
+        if (!WaitMetrics.INSTANCE.isEnabled()) {
+            polls = 0;
+            return wait.until(isTrue);
+        }
+        long start = System.nanoTime();
+        polls = 0;
+        WaitOutcome outcome = WaitOutcome.FAILURE;
+        try {
+            T result = wait.until(isTrue);
+            outcome = WaitOutcome.SUCCESS;
+            return result;
+        } catch (TimeoutException e) {
+            outcome = WaitOutcome.TIMEOUT;
+            throw e;
+        } finally {
+            WaitMetrics.INSTANCE.record(useCustomMessage ? message : condition.getClass().getName(),
+                    System.nanoTime() - start, polls + 1, outcome);
+        }
+    }
+
+    private void startPolling(long start, long deadline) {
+        polls = 0;
+        pollingStart = start;
+        pollingDeadline = deadline;
+    }
+
+    private void sleepBeforeNextPoll(Duration duration) throws InterruptedException {
+        int poll = polls++;
+        if (pollingStrategy == null) {
+            Sleeper.SYSTEM_SLEEPER.sleep(duration);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long interval = Math.min(pollingStrategy.getPollingInterval(poll, now - pollingStart),
+                pollingDeadline - now);
+        if (interval > 0) {
+            Thread.sleep(interval);
+        }
+    }
+
+    private void setScriptTimeout(long timeout) {
+        WebDriver.Options options = driver.manage();
+        if (options != null && options.timeouts() != null) {
+            options.timeouts().setScriptTimeout(timeout, TimeUnit.MILLISECONDS);
+        }
     }
 
     private void updateWaitWithDefaultExceptions() {
@@ -249,4 +459,52 @@ public class FluentWait implements org.openqa.selenium.support.ui.Wait<FluentCon
         return useCustomMessage;
     }
 
+    /**
+     * Wait until the condition holds in the browser.
+     *
+     * @param script    compiled script of elements to wait for
+     * @param condition condition to wait for
+     * @param name      attribute name of the condition
+     * @param expected  expected value of the condition
+     * @param negated   true to wait until the condition doesn't hold
+     * @param message   default message of the timeout exception
+     * @return true if the condition holds, false if it couldn't be evaluated by the browser
+     * @throws TimeoutException if the condition still doesn't hold after the timeout
+     */
+    boolean untilInBrowser(DomObserverScript script, String condition, String name, Object expected,
+            boolean negated, String message) {
+        if (!(driver instanceof JavascriptExecutor) || scriptTimeout == null) {
+            // Without a configured value, the script timeout couldn't be restored.
+            return false;
+        }
+        String waitMessage = useCustomMessage ? this.message : message;
+        long start = System.nanoTime();
+        Boolean result = null;
+        boolean extendScriptTimeout = scriptTimeout < timeout + SCRIPT_TIMEOUT_MARGIN;
+        if (extendScriptTimeout) {
+            setScriptTimeout(timeout + SCRIPT_TIMEOUT_MARGIN);
+        }
+        try {
+            result = script.waitFor((JavascriptExecutor) driver, condition, name, expected, negated, timeout,
+                    pollingInterval);
+        } finally {
+            if (extendScriptTimeout) {
+                setScriptTimeout(scriptTimeout);
+            }
+            if (result != null) {
+                // The condition is evaluated by a single command, unsupported conditions are recorded when polled.
+                WaitMetrics.INSTANCE.record(waitMessage, System.nanoTime() - start, 1,
+                        result ? WaitOutcome.SUCCESS : WaitOutcome.TIMEOUT);
+            }
+        }
+        if (result == null) {
+            return false;
+        }
+        if (!result) {
+            throw new TimeoutException(String.format("Timed out after %d seconds: %s",
+                    TimeUnit.MILLISECONDS.toSeconds(timeout), waitMessage));
+        }
+        return true;
+    }
+
 }
@@ -0,0 +1,167 @@
+package org.fluentlenium.core.wait;
+
+import org.fluentlenium.core.filter.Filter;
+import org.openqa.selenium.By;
+
+import java.util.List;
+
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotSizeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasSizeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotPresentMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isPresentMessage;
+
+/**
+ * Builder of a condition of elements, added to a {@link FluentWaitCompositeMatcher}.
+ * <p>
+ * Like {@link FluentWaitLocatorSelectorMatcher}, a condition holds if at least one element matches it.
+ */
+public class FluentWaitCompositeElementMatcher {
+    private final FluentWaitCompositeMatcher composite;
+
+    private final By locator;
+
+    private final List<Filter> filters;
+
+    private final String selectionName;
+
+    private boolean negation;
+
+    protected FluentWaitCompositeElementMatcher(FluentWaitCompositeMatcher composite, By locator, List<Filter> filters,
+            String selectionName) {
+        this.composite = composite;
+        this.locator = locator;
+        this.filters = filters;
+        StringBuilder name = new StringBuilder(selectionName);
+        for (Filter filter : filters) {
+            name.append(filter.toString());
+        }
+        this.selectionName = name.toString();
+    }
+
+    /**
+     * Negates the condition.
+     *
+     * @return negated condition builder
+     */
+    public FluentWaitCompositeElementMatcher not() {
+        FluentWaitCompositeElementMatcher negatedConditions = new FluentWaitCompositeElementMatcher(composite, locator,
+                filters, selectionName);
+        negatedConditions.negation = !negation;
+        return negatedConditions;
+    }
+
+    private FluentWaitCompositeMatcher add(String condition, String name, Object expected, String message) {
+        return composite.add(new FluentWaitCompositeMatcher.Condition(locator, filters, condition, name, expected,
+                negation, message));
+    }
+
+    /**
+     * Add a condition checking that one or more element is present.
+     *
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher isPresent() {
+        return add(DomObserverScript.PRESENT, null, null,
+                negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName));
+    }
+
+    /**
+     * Add a condition checking the number of elements.
+     *
+     * @param size expected number of elements
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher hasSize(int size) {
+        return add(DomObserverScript.SIZE, null, size,
+                negation ? hasNotSizeMessage(selectionName, size) : hasSizeMessage(selectionName, size));
+    }
+
+    /**
+     * Add a condition checking that an element is displayed.
+     *
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher isDisplayed() {
+        return add(DomObserverScript.DISPLAYED, null, null,
+                negation ? isNotDisplayedMessage(selectionName) : isDisplayedMessage(selectionName));
+    }
+
+    /**
+     * Add a condition checking that an element is enabled.
+     *
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher isEnabled() {
+        return add(DomObserverScript.ENABLED, null, null,
+                negation ? isNotEnabledMessage(selectionName) : isEnabledMessage(selectionName));
+    }
+
+    /**
+     * Add a condition checking the text of an element.
+     *
+     * @param text expected text
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher hasText(String text) {
+        return add(DomObserverScript.TEXT, null, text,
+                negation ? hasNotTextMessage(selectionName, text) : hasTextMessage(selectionName, text));
+    }
+
+    /**
+     * Add a condition checking that the text of an element contains the given text.
+     *
+     * @param text expected part of the text
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher containsText(String text) {
+        return add(DomObserverScript.CONTAINS_TEXT, null, text,
+                negation ? hasNotTextMessage(selectionName, text) : hasTextMessage(selectionName, text));
+    }
+
+    /**
+     * Add a condition checking the id of an element.
+     *
+     * @param id expected id
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher hasId(String id) {
+        return add(DomObserverScript.ATTRIBUTE, "id", id,
+                negation ? hasNotIdMessage(selectionName, id) : hasIdMessage(selectionName, id));
+    }
+
+    /**
+     * Add a condition checking the name of an element.
+     *
+     * @param name expected name
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher hasName(String name) {
+        return add(DomObserverScript.ATTRIBUTE, "name", name,
+                negation ? hasNotNameMessage(selectionName, name) : hasNameMessage(selectionName, name));
+    }
+
+    /**
+     * Add a condition checking an attribute of an element.
+     *
+     * @param attribute attribute name
+     * @param value     expected value
+     * @return composite matcher
+     */
+    public FluentWaitCompositeMatcher hasAttribute(String attribute, String value) {
+        return add(DomObserverScript.ATTRIBUTE, attribute, value, negation
+                ? hasNotAttributeMessage(selectionName, attribute, value)
+                : hasAttributeMessage(selectionName, attribute, value));
+    }
+}
@@ -0,0 +1,253 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Predicate;
+import org.fluentlenium.core.FluentControl;
+import org.fluentlenium.core.conditions.FluentListConditions;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.search.Search;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Matcher waiting for several conditions of elements at once, until all of them or any of them hold.
+ * <p>
+ * On each poll, all conditions are evaluated by a single script when the driver supports javascript and all locators
+ * and filters can be evaluated by the browser. Otherwise, they are evaluated one by one. When the wait times out, the
+ * message lists the conditions still failing.
+ *
+ * @see FluentWait#untilAll()
+ * @see FluentWait#untilAny()
+ */
+public class FluentWaitCompositeMatcher {
+    static final String SCRIPT = "var conditions = arguments[0], results = [];\n"
+            + DomObserverScript.CHECK_FUNCTION
+            + "for (var c = 0; c < conditions.length; c++) {\n"
+            + "  var condition = conditions[c];\n"
+            + "  results.push(check(condition[0], condition[1], condition[2], condition[3], condition[4],"
+            + " condition[5], condition[6]));\n"
+            + "}\n"
+            + "return results;";
+
+    private final Search search;
+
+    private final FluentWait wait;
+
+    private final WebDriver driver;
+
+    private final boolean any;
+
+    private final List<Condition> conditions = new ArrayList<>();
+
+    private boolean scriptUnsupported;
+
+    protected FluentWaitCompositeMatcher(Search search, FluentWait wait, WebDriver driver, boolean any) {
+        this.search = search;
+        this.wait = wait;
+        this.driver = driver;
+        this.any = any;
+    }
+
+    /**
+     * Add a condition on elements matching the given selector.
+     *
+     * @param selector CSS selector
+     * @param filters  filters of elements
+     * @return condition builder
+     */
+    public FluentWaitCompositeElementMatcher until(String selector, Filter... filters) {
+        return new FluentWaitCompositeElementMatcher(this, By.cssSelector(selector), Arrays.asList(filters),
+                FluentWaitLocatorSelectorMatcher.SELECTOR + " " + selector);
+    }
+
+    /**
+     * Add a condition on elements matching the given locator.
+     *
+     * @param locator elements locator
+     * @param filters filters of elements
+     * @return condition builder
+     */
+    public FluentWaitCompositeElementMatcher until(By locator, Filter... filters) {
+        return new FluentWaitCompositeElementMatcher(this, locator, Arrays.asList(filters),
+                FluentWaitLocatorSelectorMatcher.SELECTOR + " " + locator);
+    }
+
+    FluentWaitCompositeMatcher add(Condition condition) {
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Wait until all conditions hold, or any of them for a matcher built by {@link FluentWait#untilAny()}.
+     *
+     * @return true
+     * @throws org.openqa.selenium.TimeoutException if the conditions still don't hold after the timeout
+     * @throws IllegalStateException                if no condition was added
+     */
+    public boolean verify() {
+        if (conditions.isEmpty()) {
+            throw new IllegalStateException("No condition to wait for");
+        }
+        wait.untilPredicate(new Predicate<FluentControl>() {
+            private List<String> failing = new ArrayList<>();
+
+            @Override
+            public boolean apply(FluentControl input) {
+                failing = getFailingConditions();
+                return any ? failing.size() < conditions.size() : failing.isEmpty();
+            }
+
+            @Override
+            public String toString() {
+                return (any ? "any condition" : "all conditions") + ", still failing: " + Joiner.on("; ").join(failing);
+            }
+        });
+        return true;
+    }
+
+    private List<String> getFailingConditions() {
+        List<Boolean> results = scriptUnsupported ? null : evaluateWithScript();
+        if (results == null) {
+            results = new ArrayList<>(conditions.size());
+            for (Condition condition : conditions) {
+                results.add(condition.apply(search));
+            }
+        }
+        List<String> failing = new ArrayList<>();
+        for (int i = 0; i < conditions.size(); i++) {
+            if (!results.get(i)) {
+                failing.add(conditions.get(i).message);
+            }
+        }
+        return failing;
+    }
+
+    /**
+     * Evaluate all conditions with a single script.
+     * <p>
+     * The script is no longer used once the driver reports that javascript is not supported, or returns an unexpected
+     * result. Other driver errors, like a page changing during the call, only fall back to client-side evaluation for
+     * the current poll.
+     *
+     * @return results of conditions, or null if they should be evaluated by the client
+     */
+    private List<Boolean> evaluateWithScript() {
+        if (!(driver instanceof JavascriptExecutor)) {
+            scriptUnsupported = true;
+            return null;
+        }
+        List<List<Object>> arguments = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            List<Object> conditionArguments = condition.toCheckArguments();
+            if (conditionArguments == null) {
+                scriptUnsupported = true;
+                return null;
+            }
+            arguments.add(conditionArguments);
+        }
+        Object result;
+        try {
+            result = ((JavascriptExecutor) driver).executeScript(SCRIPT, arguments);
+        } catch (UnsupportedOperationException e) {
+            // Javascript is disabled, evaluate each condition from now on.
+            scriptUnsupported = true;
+            return null;
+        } catch (WebDriverException e) {
+            // Page may be changing, evaluate each condition for this poll only.
+            return null;
+        }
+        if (!(result instanceof List) || ((List<?>) result).size() != conditions.size()) {
+            scriptUnsupported = true;
+            return null;
+        }
+        List<Boolean> results = new ArrayList<>(conditions.size());
+        for (Object conditionResult : (List<?>) result) {
+            results.add(Boolean.TRUE.equals(conditionResult));
+        }
+        return results;
+    }
+
+    /**
+     * Condition of elements, evaluated by the browser or by the client.
+     */
+    static class Condition {
+        private final By locator;
+
+        private final List<Filter> filters;
+
+        private final String condition;
+
+        private final String name;
+
+        private final Object expected;
+
+        private final boolean negated;
+
+        private final String message;
+
+        Condition(By locator, List<Filter> filters, String condition, String name, Object expected, boolean negated,
+                String message) {
+            this.locator = locator;
+            this.filters = filters;
+            this.condition = condition;
+            this.name = name;
+            this.expected = expected;
+            this.negated = negated;
+            this.message = message;
+        }
+
+        /**
+         * Get the arguments of the check function evaluating this condition in the browser.
+         *
+         * @return arguments, or null if this condition can't be evaluated by the browser
+         */
+        private List<Object> toCheckArguments() {
+            boolean hasValues = expected != null || DomObserverScript.PRESENT.equals(condition)
+                    || DomObserverScript.DISPLAYED.equals(condition) || DomObserverScript.ENABLED.equals(condition);
+            if (!hasValues || DomObserverScript.ATTRIBUTE.equals(condition) && name == null) {
+                return null;
+            }
+            DomObserverScript script = DomObserverScript.compile(locator, filters);
+            return script == null ? null : script.toCheckArguments(condition, name, expected, negated);
+        }
+
+        private boolean apply(Search search) {
+            FluentList<FluentWebElement> elements;
+            try {
+                elements = search.find(locator, filters.toArray(new Filter[filters.size()])).now();
+            } catch (NoSuchElementException | StaleElementReferenceException e) {
+                elements = search.getInstantiator().newFluentList();
+            }
+            FluentListConditions conditions = elements.one();
+            if (negated) {
+                conditions = conditions.not();
+            }
+            switch (condition) {
+            case DomObserverScript.PRESENT:
+                return conditions.isPresent();
+            case DomObserverScript.SIZE:
+                return conditions.hasSize((Integer) expected);
+            case DomObserverScript.DISPLAYED:
+                return conditions.isDisplayed();
+            case DomObserverScript.ENABLED:
+                return conditions.isEnabled();
+            case DomObserverScript.TEXT:
+                return conditions.hasText((String) expected);
+            case DomObserverScript.CONTAINS_TEXT:
+                return conditions.containsText((String) expected);
+            default:
+                return conditions.hasAttribute(name, (String) expected);
+            }
+        }
+    }
+}
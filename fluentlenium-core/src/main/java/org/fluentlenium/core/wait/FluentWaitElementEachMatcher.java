@@ -48,6 +48,14 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
         return conditions;
     }
 
+    protected FluentListConditions eachCountCondition() {
+        FluentListConditions conditions = matcher.findToCount().each();
+        if (matcher.negation) {
+            conditions = conditions.not();
+        }
+        return conditions;
+    }
+
     @Override
     public FluentWaitElementEachMatcher not() {
         return new FluentWaitElementEachMatcher((AbstractWaitElementListMatcher) matcher.not());
@@ -190,7 +198,7 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
         matcher.until(matcher.wait, new Predicate<FluentControl>() {
             @Override
             public boolean apply(FluentControl input) {
-                return eachCondition().isPresent();
+                return eachCountCondition().isPresent();
             }
         }, matcher.negation ? isNotPresentMessage(matcher.selectionName) : isPresentMessage(matcher.selectionName));
         return true;
@@ -201,7 +209,7 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
         matcher.until(matcher.wait, new Predicate<FluentControl>() {
             @Override
             public boolean apply(FluentControl input) {
-                return eachCondition().hasSize(size);
+                return eachCountCondition().hasSize(size);
             }
         }, matcher.negation ? hasNotSizeMessage(matcher.selectionName, size) : hasSizeMessage(matcher.selectionName, size));
         return true;
@@ -212,7 +220,7 @@ public class FluentWaitElementEachMatcher implements FluentListConditions {
         return new FluentWaitIntegerMatcher(matcher, new Supplier<IntegerConditions>() {
             @Override
             public IntegerConditions get() {
-                return matcher.find().each().hasSize();
+                return matcher.findToCount().each().hasSize();
             }
         });
     }
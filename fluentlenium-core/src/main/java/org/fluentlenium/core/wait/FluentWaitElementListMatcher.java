@@ -2,6 +2,7 @@ package org.fluentlenium.core.wait;
 
 import org.fluentlenium.core.domain.FluentList;
 import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.proxy.LocatorProxies;
 import org.fluentlenium.core.search.Search;
 import org.openqa.selenium.NoSuchElementException;
 
@@ -42,4 +43,12 @@ public class FluentWaitElementListMatcher extends AbstractWaitElementListMatcher
         }
         return elements;
     }
+
+    @Override
+    protected FluentList<? extends FluentWebElement> findToCount() {
+        if (untilElements instanceof FluentList && !LocatorProxies.isLoaded(untilElements)) {
+            return (FluentList<? extends FluentWebElement>) untilElements;
+        }
+        return find();
+    }
 }
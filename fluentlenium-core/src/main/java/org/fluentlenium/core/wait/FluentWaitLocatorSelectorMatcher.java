@@ -12,6 +12,23 @@ import org.openqa.selenium.StaleElementReferenceException;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotAttributeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotIdMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotNameMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotSizeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasNotTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasSizeMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.hasTextMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotDisplayedMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotEnabledMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isNotPresentMessage;
+import static org.fluentlenium.core.wait.FluentWaitMessages.isPresentMessage;
+
 public class FluentWaitLocatorSelectorMatcher extends AbstractWaitElementListMatcher {
     private By locator;
     private List<Filter> filters = new ArrayList<>();
@@ -74,6 +91,96 @@ public class FluentWaitLocatorSelectorMatcher extends AbstractWaitElementListMat
         }
     }
 
+    @Override
+    protected FluentList<FluentWebElement> findToCount() {
+        if (filters.size() > 0) {
+            return findWithFilter();
+        } else {
+            return search.find(locator);
+        }
+    }
+
+    /**
+     * Wait for the condition in the browser if {@link FluentWait#observeDom()} is enabled.
+     *
+     * @param condition      condition to wait for
+     * @param name           attribute name of the condition
+     * @param expected       expected value of the condition
+     * @param defaultMessage default message of the timeout exception
+     * @return true if the condition holds, false if it should be polled instead
+     */
+    private boolean untilInBrowser(String condition, String name, Object expected, String defaultMessage) {
+        if (!wait.isObservingDom()) {
+            return false;
+        }
+        DomObserverScript script = DomObserverScript.compile(locator, filters);
+        if (script == null) {
+            return false;
+        }
+        return wait.untilInBrowser(script, condition, name, expected, negation, buildMessage(defaultMessage));
+    }
+
+    @Override
+    public boolean isPresent() {
+        return untilInBrowser(DomObserverScript.PRESENT, null, null,
+                negation ? isNotPresentMessage(selectionName) : isPresentMessage(selectionName)) || super.isPresent();
+    }
+
+    @Override
+    public boolean hasSize(int size) {
+        return untilInBrowser(DomObserverScript.SIZE, null, size,
+                negation ? hasNotSizeMessage(selectionName, size) : hasSizeMessage(selectionName, size))
+                || super.hasSize(size);
+    }
+
+    @Override
+    public boolean isDisplayed() {
+        return untilInBrowser(DomObserverScript.DISPLAYED, null, null,
+                negation ? isNotDisplayedMessage(selectionName) : isDisplayedMessage(selectionName))
+                || super.isDisplayed();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return untilInBrowser(DomObserverScript.ENABLED, null, null,
+                negation ? isNotEnabledMessage(selectionName) : isEnabledMessage(selectionName)) || super.isEnabled();
+    }
+
+    @Override
+    public boolean hasText(String value) {
+        return value != null && untilInBrowser(DomObserverScript.TEXT, null, value,
+                negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value))
+                || super.hasText(value);
+    }
+
+    @Override
+    public boolean containsText(String value) {
+        return value != null && untilInBrowser(DomObserverScript.CONTAINS_TEXT, null, value,
+                negation ? hasNotTextMessage(selectionName, value) : hasTextMessage(selectionName, value))
+                || super.containsText(value);
+    }
+
+    @Override
+    public boolean hasAttribute(String attribute, String value) {
+        return attribute != null && value != null && untilInBrowser(DomObserverScript.ATTRIBUTE, attribute, value,
+                negation ? hasNotAttributeMessage(selectionName, attribute, value)
+                        : hasAttributeMessage(selectionName, attribute, value)) || super.hasAttribute(attribute, value);
+    }
+
+    @Override
+    public boolean hasId(String value) {
+        return value != null && untilInBrowser(DomObserverScript.ATTRIBUTE, "id", value,
+                negation ? hasNotIdMessage(selectionName, value) : hasIdMessage(selectionName, value))
+                || super.hasId(value);
+    }
+
+    @Override
+    public boolean hasName(String value) {
+        return value != null && untilInBrowser(DomObserverScript.ATTRIBUTE, "name", value,
+                negation ? hasNotNameMessage(selectionName, value) : hasNameMessage(selectionName, value))
+                || super.hasName(value);
+    }
+
     private FluentList<FluentWebElement> findWithFilter() {
         return search.find(locator, (Filter[]) filters.toArray(new Filter[filters.size()]));
     }
@@ -33,4 +33,13 @@ public class FluentWaitSupplierListMatcher extends AbstractWaitElementListMatche
             return search.getInstantiator().newFluentList();
         }
     }
+
+    @Override
+    protected FluentList<? extends FluentWebElement> findToCount() {
+        try {
+            return selector.get();
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return search.getInstantiator().newFluentList();
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package org.fluentlenium.core.wait;
+
+/**
+ * Decides how long a wait should sleep before polling its condition again.
+ * <p>
+ * Unlike a fixed polling interval, a strategy can poll quickly while the condition is likely to become true soon, and
+ * slow down on long waits to reduce the number of commands sent to the driver.
+ *
+ * @see FluentWait#pollingWith(PollingStrategy)
+ */
+public interface PollingStrategy {
+    /**
+     * Get the interval to wait before polling the condition again.
+     *
+     * @param poll    zero-based index of the poll that has failed
+     * @param elapsed time elapsed since the beginning of the wait, in milliseconds
+     * @return interval in milliseconds before the next poll
+     */
+    long getPollingInterval(int poll, long elapsed);
+}
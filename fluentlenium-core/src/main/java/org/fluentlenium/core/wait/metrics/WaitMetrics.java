@@ -0,0 +1,201 @@
+package org.fluentlenium.core.wait.metrics;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.security.CodeSource;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A singleton recording the time spent in waits, and dispatching timings to registered {@link WaitMetricsListener}.
+ * <p>
+ * Each timing is attributed to the call site of the wait, which is the first method of the stack that doesn't belong
+ * to FluentLenium, Selenium, Guava, the JDK or a generated proxy. When a summary file is defined, timings are
+ * aggregated per call site in a {@link WaitMetricsSummary}, which is written at JVM exit.
+ * <p>
+ * Metrics are disabled while no summary file is defined and no listener is registered: waits are then not timed and
+ * their call site is not captured.
+ */
+public enum WaitMetrics {
+    INSTANCE;
+
+    private static final String[] LIBRARY_PACKAGES = {"java.", "javax.", "sun.", "com.sun.", "jdk.",
+            "org.openqa.selenium.", "com.google.common.", "net.sf.cglib.", "org.mockito."};
+
+    private static final String FLUENTLENIUM_PACKAGE = "org.fluentlenium.";
+
+    private static final String UNKNOWN_CALL_SITE = "unknown";
+
+    private final WaitMetricsSummary summary = new WaitMetricsSummary();
+
+    private final List<WaitMetricsListener> listeners = new CopyOnWriteArrayList<>();
+
+    private final ConcurrentMap<String, Boolean> fluentLeniumClasses = new ConcurrentHashMap<>();
+
+    private final URL fluentLeniumLocation = getLocation(WaitMetrics.class);
+
+    private volatile File summaryFile;
+
+    WaitMetrics() {
+        for (WaitMetricsListener listener : ServiceLoader.load(WaitMetricsListener.class)) {
+            listeners.add(listener);
+        }
+    }
+
+    /**
+     * Register a listener.
+     *
+     * @param listener listener to register
+     */
+    public void addListener(WaitMetricsListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Unregister a listener.
+     *
+     * @param listener listener to unregister
+     */
+    public void removeListener(WaitMetricsListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Check if waits should be recorded, because a summary file is defined or a listener is registered.
+     *
+     * @return true if metrics are enabled, false otherwise
+     */
+    public boolean isEnabled() {
+        return summaryFile != null || !listeners.isEmpty();
+    }
+
+    /**
+     * Get the summary aggregating timings recorded while a summary file is defined.
+     *
+     * @return metrics summary
+     */
+    public WaitMetricsSummary getSummary() {
+        return summary;
+    }
+
+    /**
+     * Get the file where the summary is written at JVM exit.
+     *
+     * @return summary file, or null if summary is not written
+     */
+    public File getSummaryFile() {
+        return summaryFile;
+    }
+
+    /**
+     * Set the file where the summary is written at JVM exit.
+     * <p>
+     * The summary is written as CSV if the file name ends with {@code .csv}, as JSON otherwise.
+     *
+     * @param summaryFile summary file, or null to not write summary
+     */
+    public void setSummaryFile(File summaryFile) {
+        this.summaryFile = summaryFile;
+    }
+
+    /**
+     * Write the summary to the summary file, if defined.
+     *
+     * @throws IOException if the summary file can't be written
+     */
+    public void writeSummary() throws IOException {
+        File summaryFile = this.summaryFile;
+        if (summaryFile != null) {
+            if (summaryFile.getName().toLowerCase(Locale.ENGLISH).endsWith(".csv")) {
+                summary.writeCsv(summaryFile);
+            } else {
+                summary.write(summaryFile);
+            }
+        }
+    }
+
+    /**
+     * Record the time spent in a wait, attributed to the call site of the current thread. Nothing is recorded when
+     * metrics are disabled.
+     *
+     * @param message  message of the wait condition
+     * @param duration duration of the wait, in nanoseconds
+     * @param polls    number of times the condition has been evaluated
+     * @param outcome  outcome of the wait
+     */
+    public void record(String message, long duration, int polls, WaitOutcome outcome) {
+        if (!isEnabled()) {
+            return;
+        }
+        WaitTiming timing = new WaitTiming(getCallSite(new Throwable().getStackTrace()), message, duration, polls,
+                outcome);
+        if (summaryFile != null) {
+            summary.waited(timing);
+        }
+        for (WaitMetricsListener listener : listeners) {
+            try {
+                listener.waited(timing);
+            } catch (RuntimeException e) {
+                // A failing listener should never break the test run.
+            }
+        }
+    }
+
+    /**
+     * Get the call site of a wait from a stack trace.
+     *
+     * @param stackTrace stack trace of the thread running the wait
+     * @return first frame that doesn't belong to FluentLenium or a library, formatted like in stack traces
+     */
+    String getCallSite(StackTraceElement... stackTrace) {
+        for (StackTraceElement element : stackTrace) {
+            if (!isLibraryClass(element.getClassName())) {
+                return element.toString();
+            }
+        }
+        return UNKNOWN_CALL_SITE;
+    }
+
+    private boolean isLibraryClass(String className) {
+        if (className.contains("$$") || className.contains("$Proxy")) {
+            return true;
+        }
+        for (String libraryPackage : LIBRARY_PACKAGES) {
+            if (className.startsWith(libraryPackage)) {
+                return true;
+            }
+        }
+        if (!className.startsWith(FLUENTLENIUM_PACKAGE)) {
+            return false;
+        }
+        // Tests and extensions may share FluentLenium packages, so look where the class comes from.
+        Boolean fluentLeniumClass = fluentLeniumClasses.get(className);
+        if (fluentLeniumClass == null) {
+            fluentLeniumClass = isFluentLeniumClass(className);
+            fluentLeniumClasses.put(className, fluentLeniumClass);
+        }
+        return fluentLeniumClass;
+    }
+
+    private boolean isFluentLeniumClass(String className) {
+        if (fluentLeniumLocation == null) {
+            return true;
+        }
+        try {
+            Class<?> clazz = Class.forName(className, false, WaitMetrics.class.getClassLoader());
+            return fluentLeniumLocation.equals(getLocation(clazz));
+        } catch (ClassNotFoundException | LinkageError | SecurityException e) {
+            return false;
+        }
+    }
+
+    private static URL getLocation(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        return codeSource == null ? null : codeSource.getLocation();
+    }
+}
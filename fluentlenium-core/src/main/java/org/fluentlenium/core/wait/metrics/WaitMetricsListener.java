@@ -0,0 +1,19 @@
+package org.fluentlenium.core.wait.metrics;
+
+/**
+ * Listener notified each time a wait has ended.
+ * <p>
+ * Listeners can be registered with {@link WaitMetrics#addListener(WaitMetricsListener)}, or declared in a
+ * {@code META-INF/services/org.fluentlenium.core.wait.metrics.WaitMetricsListener} file to be loaded with
+ * {@link java.util.ServiceLoader}.
+ * <p>
+ * Listeners are notified from the thread running the wait.
+ */
+public interface WaitMetricsListener {
+    /**
+     * Invoked when a wait has ended.
+     *
+     * @param timing timing of the wait
+     */
+    void waited(WaitTiming timing);
+}
@@ -0,0 +1,338 @@
+package org.fluentlenium.core.wait.metrics;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Aggregates wait timings per call site in histograms of durations and polls, and renders them as a JSON or CSV
+ * summary.
+ * <p>
+ * Call sites are sorted by total time spent waiting, longest first.
+ */
+public class WaitMetricsSummary implements WaitMetricsListener {
+    /**
+     * Upper bounds in milliseconds of the duration histogram buckets. Longer waits fall in a last bucket.
+     */
+    static final long[] DURATION_BUCKETS = {100, 250, 500, 1000, 2500, 5000, 10000};
+
+    /**
+     * Upper bounds of the polls histogram buckets. Waits with more polls fall in a last bucket.
+     */
+    static final long[] POLLS_BUCKETS = {1, 2, 5, 10, 20, 50};
+
+    private final Map<String, Stats> callSiteStats = new LinkedHashMap<>();
+
+    private static class Stats {
+        private final String callSite;
+
+        private final Map<WaitOutcome, Long> outcomes = new EnumMap<>(WaitOutcome.class);
+
+        private final Map<String, Long> messages = new LinkedHashMap<>();
+
+        private final long[] durationHistogram = new long[DURATION_BUCKETS.length + 1];
+
+        private final long[] pollsHistogram = new long[POLLS_BUCKETS.length + 1];
+
+        private long count;
+
+        private long total;
+
+        private long max;
+
+        private long totalPolls;
+
+        private long maxPolls;
+
+        Stats(String callSite) {
+            this.callSite = callSite;
+        }
+
+        void add(WaitTiming timing) {
+            count++;
+            total += timing.getDuration();
+            max = Math.max(max, timing.getDuration());
+            totalPolls += timing.getPolls();
+            maxPolls = Math.max(maxPolls, timing.getPolls());
+            increment(outcomes, timing.getOutcome());
+            increment(messages, String.valueOf(timing.getMessage()));
+            durationHistogram[getBucket(DURATION_BUCKETS, timing.getDuration(TimeUnit.MILLISECONDS))]++;
+            pollsHistogram[getBucket(POLLS_BUCKETS, timing.getPolls())]++;
+        }
+
+        long getCount(WaitOutcome outcome) {
+            Long outcomeCount = outcomes.get(outcome);
+            return outcomeCount == null ? 0 : outcomeCount;
+        }
+
+        JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("callSite", callSite);
+            json.addProperty("count", count);
+            for (WaitOutcome outcome : WaitOutcome.values()) {
+                json.addProperty(getOutcomeName(outcome), getCount(outcome));
+            }
+            json.addProperty("totalMillis", TimeUnit.NANOSECONDS.toMillis(total));
+            json.addProperty("meanMillis", TimeUnit.NANOSECONDS.toMillis(total / count));
+            json.addProperty("maxMillis", TimeUnit.NANOSECONDS.toMillis(max));
+            json.addProperty("meanPolls", (double) totalPolls / count);
+            json.addProperty("maxPolls", maxPolls);
+            json.add("durationHistogram", toJson(getDurationLabels(), durationHistogram));
+            json.add("pollsHistogram", toJson(getPollsLabels(), pollsHistogram));
+            JsonObject messagesJson = new JsonObject();
+            for (Map.Entry<String, Long> entry : messages.entrySet()) {
+                messagesJson.addProperty(entry.getKey(), entry.getValue());
+            }
+            json.add("messages", messagesJson);
+            return json;
+        }
+
+        List<Object> toCsvRecord() {
+            List<Object> record = new ArrayList<>();
+            record.add(callSite);
+            record.add(count);
+            for (WaitOutcome outcome : WaitOutcome.values()) {
+                record.add(getCount(outcome));
+            }
+            record.add(TimeUnit.NANOSECONDS.toMillis(total));
+            record.add(TimeUnit.NANOSECONDS.toMillis(total / count));
+            record.add(TimeUnit.NANOSECONDS.toMillis(max));
+            record.add((double) totalPolls / count);
+            record.add(maxPolls);
+            for (long bucketCount : durationHistogram) {
+                record.add(bucketCount);
+            }
+            for (long bucketCount : pollsHistogram) {
+                record.add(bucketCount);
+            }
+            StringBuilder messagesRecord = new StringBuilder();
+            for (String message : messages.keySet()) {
+                if (messagesRecord.length() > 0) {
+                    messagesRecord.append(" | ");
+                }
+                messagesRecord.append(message);
+            }
+            record.add(messagesRecord);
+            return record;
+        }
+
+        private static JsonObject toJson(List<String> labels, long[] histogram) {
+            JsonObject json = new JsonObject();
+            for (int i = 0; i < histogram.length; i++) {
+                json.addProperty(labels.get(i), histogram[i]);
+            }
+            return json;
+        }
+    }
+
+    private static <K> void increment(Map<K, Long> counts, K key) {
+        Long count = counts.get(key);
+        counts.put(key, count == null ? 1 : count + 1);
+    }
+
+    private static int getBucket(long[] buckets, long value) {
+        for (int i = 0; i < buckets.length; i++) {
+            if (value <= buckets[i]) {
+                return i;
+            }
+        }
+        return buckets.length;
+    }
+
+    private static List<String> getLabels(long[] buckets, String unit) {
+        List<String> labels = new ArrayList<>();
+        for (long bucket : buckets) {
+            labels.add("<=" + bucket + unit);
+        }
+        labels.add(">" + buckets[buckets.length - 1] + unit);
+        return labels;
+    }
+
+    private static List<String> getDurationLabels() {
+        return getLabels(DURATION_BUCKETS, "ms");
+    }
+
+    private static List<String> getPollsLabels() {
+        return getLabels(POLLS_BUCKETS, " polls");
+    }
+
+    private static String getOutcomeName(WaitOutcome outcome) {
+        return outcome.name().toLowerCase(Locale.ENGLISH) + "Count";
+    }
+
+    @Override
+    public synchronized void waited(WaitTiming timing) {
+        Stats stats = callSiteStats.get(timing.getCallSite());
+        if (stats == null) {
+            stats = new Stats(timing.getCallSite());
+            callSiteStats.put(timing.getCallSite(), stats);
+        }
+        stats.add(timing);
+    }
+
+    /**
+     * Get all call sites having waited.
+     *
+     * @return call sites, in order of their first wait
+     */
+    public synchronized Set<String> getCallSites() {
+        return new LinkedHashSet<>(callSiteStats.keySet());
+    }
+
+    /**
+     * Get the number of waits of the given call site.
+     *
+     * @param callSite call site
+     * @return number of waits
+     */
+    public synchronized long getCount(String callSite) {
+        Stats stats = callSiteStats.get(callSite);
+        return stats == null ? 0 : stats.count;
+    }
+
+    /**
+     * Get the number of waits of the given call site with the given outcome.
+     *
+     * @param callSite call site
+     * @param outcome  outcome of the waits
+     * @return number of waits
+     */
+    public synchronized long getCount(String callSite, WaitOutcome outcome) {
+        Stats stats = callSiteStats.get(callSite);
+        return stats == null ? 0 : stats.getCount(outcome);
+    }
+
+    /**
+     * Get the total time spent in waits of the given call site.
+     *
+     * @param callSite call site
+     * @param unit     time unit of the returned value
+     * @return total time spent waiting
+     */
+    public synchronized long getTotalDuration(String callSite, TimeUnit unit) {
+        Stats stats = callSiteStats.get(callSite);
+        return stats == null ? 0 : unit.convert(stats.total, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the total number of polls of waits of the given call site.
+     *
+     * @param callSite call site
+     * @return total number of polls
+     */
+    public synchronized long getTotalPolls(String callSite) {
+        Stats stats = callSiteStats.get(callSite);
+        return stats == null ? 0 : stats.totalPolls;
+    }
+
+    /**
+     * Clear all aggregated timings.
+     */
+    public synchronized void reset() {
+        callSiteStats.clear();
+    }
+
+    private List<Stats> getSortedStats() {
+        List<Stats> sortedStats = new ArrayList<>(callSiteStats.values());
+        Collections.sort(sortedStats, new Comparator<Stats>() {
+            @Override
+            public int compare(Stats o1, Stats o2) {
+                return Long.compare(o2.total, o1.total);
+            }
+        });
+        return sortedStats;
+    }
+
+    /**
+     * Render aggregated timings as JSON.
+     *
+     * @return JSON summary
+     */
+    public synchronized String toJson() {
+        JsonObject json = new JsonObject();
+
+        JsonArray callSites = new JsonArray();
+        for (Stats stats : getSortedStats()) {
+            callSites.add(stats.toJson());
+        }
+        json.add("callSites", callSites);
+
+        return new GsonBuilder().setPrettyPrinting().serializeNulls().create().toJson(json);
+    }
+
+    /**
+     * Render aggregated timings as CSV, with a header line and a line per call site.
+     *
+     * @return CSV summary
+     */
+    public synchronized String toCsv() {
+        List<Object> header = new ArrayList<>();
+        header.add("callSite");
+        header.add("count");
+        for (WaitOutcome outcome : WaitOutcome.values()) {
+            header.add(getOutcomeName(outcome));
+        }
+        Collections.addAll(header, "totalMillis", "meanMillis", "maxMillis", "meanPolls", "maxPolls");
+        header.addAll(getDurationLabels());
+        header.addAll(getPollsLabels());
+        header.add("messages");
+
+        StringBuilder csv = new StringBuilder();
+        appendCsvRecord(csv, header);
+        for (Stats stats : getSortedStats()) {
+            appendCsvRecord(csv, stats.toCsvRecord());
+        }
+        return csv.toString();
+    }
+
+    private static void appendCsvRecord(StringBuilder csv, List<Object> record) {
+        for (int i = 0; i < record.size(); i++) {
+            if (i > 0) {
+                csv.append(',');
+            }
+            String value = String.valueOf(record.get(i));
+            if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+                csv.append('"').append(value.replace("\"", "\"\"")).append('"');
+            } else {
+                csv.append(value);
+            }
+        }
+        csv.append('\n');
+    }
+
+    /**
+     * Write the JSON summary to the given file.
+     *
+     * @param file destination file
+     * @throws IOException if the file can't be written
+     */
+    public void write(File file) throws IOException {
+        FileUtils.writeStringToFile(file, toJson(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Write the CSV summary to the given file.
+     *
+     * @param file destination file
+     * @throws IOException if the file can't be written
+     */
+    public void writeCsv(File file) throws IOException {
+        FileUtils.writeStringToFile(file, toCsv(), StandardCharsets.UTF_8);
+    }
+}
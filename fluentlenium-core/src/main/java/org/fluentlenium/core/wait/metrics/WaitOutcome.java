@@ -0,0 +1,21 @@
+package org.fluentlenium.core.wait.metrics;
+
+/**
+ * Outcome of a wait.
+ */
+public enum WaitOutcome {
+    /**
+     * The condition holds.
+     */
+    SUCCESS,
+
+    /**
+     * The condition still doesn't hold after the timeout.
+     */
+    TIMEOUT,
+
+    /**
+     * The condition has thrown an exception which is not ignored by the wait.
+     */
+    FAILURE
+}
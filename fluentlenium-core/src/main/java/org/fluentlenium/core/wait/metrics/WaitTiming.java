@@ -0,0 +1,39 @@
+package org.fluentlenium.core.wait.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time spent in a wait, with the number of times its condition has been polled.
+ */
+@Getter
+@AllArgsConstructor
+public class WaitTiming {
+    private final String callSite;
+
+    private final String message;
+
+    private final long duration;
+
+    private final int polls;
+
+    private final WaitOutcome outcome;
+
+    /**
+     * Get the time spent in the wait.
+     *
+     * @param unit time unit of the returned value
+     * @return duration of the wait
+     */
+    public long getDuration(TimeUnit unit) {
+        return unit.convert(duration, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return "WaitTiming{" + "callSite='" + callSite + '\'' + ", message='" + message + '\'' + ", duration="
+                + getDuration(TimeUnit.MILLISECONDS) + "ms, polls=" + polls + ", outcome=" + outcome + '}';
+    }
+}
@@ -1,17 +1,29 @@
 package org.fluentlenium.adapter;
 
 import com.google.common.base.Supplier;
+import org.assertj.core.api.ThrowableAssert;
 import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.fluentlenium.configuration.ProgrammaticConfiguration;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
 
 
 public class SharedWebDriverContainerTest implements Supplier<WebDriver> {
@@ -164,6 +176,193 @@ public class SharedWebDriverContainerTest implements Supplier<WebDriver> {
         assertThat(container.getTestClassDrivers(String.class)).isEmpty();
     }
 
+    @Test
+    public void getOrCreateDriver_with_strategy_pool_reuses_released_instance() {
+        container.getPool().setMaxSize(2);
+        Supplier<WebDriver> pooledFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                return Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+            }
+        };
+
+        SharedWebDriver driver = container.getOrCreateDriver(pooledFactory, Object.class, "test", DriverLifecycle.POOL);
+
+        assertThat(container.getAllDrivers()).containsOnly(driver);
+        assertThat(container.getTestClassDrivers(Object.class)).containsOnly(driver);
+        assertThat(container.getDriver(Object.class, "test", DriverLifecycle.POOL)).isSameAs(driver);
+
+        SharedWebDriver driver2 = container.getOrCreateDriver(pooledFactory, Object.class, "otherTest", DriverLifecycle.POOL);
+
+        assertThat(driver2.getDriver()).isNotSameAs(driver.getDriver());
+        assertThat(container.getAllDrivers()).containsOnly(driver, driver2);
+
+        container.quit(driver);
+
+        assertThat(container.getAllDrivers()).containsOnly(driver2);
+        assertThat(container.getPool().getIdleCount()).isEqualTo(1);
+
+        SharedWebDriver driver3 = container.getOrCreateDriver(pooledFactory, String.class, "test", DriverLifecycle.POOL);
+
+        assertThat(driver3.getDriver()).isSameAs(driver.getDriver());
+        assertThat(container.getPool().getReuseCount()).isEqualTo(1);
+
+        container.quit(driver2);
+        container.quit(driver3);
+
+        assertThat(container.getAllDrivers()).isEmpty();
+        assertThat(container.getPool().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void getOrCreateDriver_with_slow_creation_does_not_block_other_keys() throws Exception {
+        final CountDownLatch creationStarted = new CountDownLatch(1);
+        final CountDownLatch creationReleased = new CountDownLatch(1);
+        final AtomicInteger creations = new AtomicInteger();
+        final Supplier<WebDriver> slowFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                creations.incrementAndGet();
+                creationStarted.countDown();
+                try {
+                    creationReleased.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return Mockito.mock(WebDriver.class);
+            }
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<SharedWebDriver> slowCreation = new Callable<SharedWebDriver>() {
+                @Override
+                public SharedWebDriver call() {
+                    return container.getOrCreateDriver(slowFactory, Object.class, "slow", DriverLifecycle.METHOD);
+                }
+            };
+            Future<SharedWebDriver> slowDriver = executor.submit(slowCreation);
+            assertThat(creationStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<SharedWebDriver> sameKeyDriver = executor.submit(slowCreation);
+
+            SharedWebDriver otherDriver = container.getOrCreateDriver(this, Object.class, "other", DriverLifecycle.METHOD);
+            assertThat(otherDriver).isNotNull();
+            assertThat(container.getDriver(Object.class, "slow", DriverLifecycle.METHOD)).isNull();
+            assertThat(slowDriver.isDone()).isFalse();
+
+            creationReleased.countDown();
+
+            assertThat(slowDriver.get(5, TimeUnit.SECONDS)).isSameAs(sameKeyDriver.get(5, TimeUnit.SECONDS));
+            assertThat(creations.get()).isEqualTo(1);
+            assertThat(container.getAllDrivers()).containsOnly(otherDriver, slowDriver.get());
+        } finally {
+            creationReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void getOrCreateDriver_with_failing_creation_does_not_register_driver() {
+        Supplier<WebDriver> failingFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                throw new IllegalStateException("Can't create driver");
+            }
+        };
+
+        try {
+            container.getOrCreateDriver(failingFactory, Object.class, "test", DriverLifecycle.METHOD);
+            fail("Driver creation should fail");
+        } catch (IllegalStateException e) {
+            assertThat(e).hasMessage("Can't create driver");
+        }
+
+        assertThat(container.getAllDrivers()).isEmpty();
+
+        SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.METHOD);
+        assertThat(container.getAllDrivers()).containsOnly(driver);
+    }
+
+    @Test
+    public void getOrCreateDriver_with_thread_lifecycle_creates_one_instance_per_thread() throws Exception {
+        final SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.THREAD);
+        SharedWebDriver driver2 = container.getOrCreateDriver(this, String.class, "otherTest", DriverLifecycle.THREAD);
+
+        assertThat(driver).isSameAs(driver2);
+        assertThat(container.getDriver(String.class, "anotherTest", DriverLifecycle.THREAD)).isSameAs(driver);
+        assertThat(container.getTestClassDrivers(Object.class)).isEmpty();
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            SharedWebDriver otherThreadDriver = executorService.submit(new Callable<SharedWebDriver>() {
+                @Override
+                public SharedWebDriver call() {
+                    assertThat(container.getDriver(Object.class, "test", DriverLifecycle.THREAD)).isNull();
+                    SharedWebDriver otherThreadDriver = container
+                            .getOrCreateDriver(SharedWebDriverContainerTest.this, Object.class, "test",
+                                    DriverLifecycle.THREAD);
+                    container.quit(driver);
+                    return otherThreadDriver;
+                }
+            }).get(5, TimeUnit.SECONDS);
+
+            assertThat(otherThreadDriver).isNotSameAs(driver);
+            assertThat(container.getAllDrivers()).containsOnly(otherThreadDriver);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void getOrCreateDriver_recycles_driver_after_max_uses() {
+        container.getRecyclingPolicy().setMaxUses(2);
+
+        SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.THREAD);
+        SharedWebDriver driver2 = container.getOrCreateDriver(this, Object.class, "otherTest", DriverLifecycle.THREAD);
+
+        assertThat(driver2).isSameAs(driver);
+        assertThat(driver.getUseCount()).isEqualTo(2);
+
+        SharedWebDriver driver3 = container.getOrCreateDriver(this, Object.class, "anotherTest", DriverLifecycle.THREAD);
+
+        assertThat(driver3).isNotSameAs(driver);
+        assertThat(driver3.getUseCount()).isEqualTo(1);
+        Mockito.verify(driver.getDriver()).quit();
+        assertThat(container.getAllDrivers()).containsOnly(driver3);
+    }
+
+    @Test
+    public void getOrCreateDriver_recycles_dead_driver() {
+        container.getRecyclingPolicy().setHealthCheck(true);
+
+        SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.THREAD);
+        assertThat(container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.THREAD)).isSameAs(driver);
+
+        Mockito.when(driver.getDriver().getWindowHandle()).thenThrow(new WebDriverException("Browser has died"));
+
+        SharedWebDriver driver2 = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.THREAD);
+
+        assertThat(driver2).isNotSameAs(driver);
+        assertThat(container.getAllDrivers()).containsOnly(driver2);
+    }
+
+    @Test
+    public void getOrCreateDriver_never_recycles_drivers_shared_by_many_tests() {
+        container.getRecyclingPolicy().setMaxUses(1);
+
+        SharedWebDriver classDriver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.CLASS);
+        assertThat(container.getOrCreateDriver(this, Object.class, "otherTest", DriverLifecycle.CLASS))
+                .isSameAs(classDriver);
+
+        SharedWebDriver jvmDriver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.JVM);
+        assertThat(container.getOrCreateDriver(this, String.class, "otherTest", DriverLifecycle.JVM))
+                .isSameAs(jvmDriver);
+
+        Mockito.verify(classDriver.getDriver(), Mockito.never()).quit();
+        Mockito.verify(jvmDriver.getDriver(), Mockito.never()).quit();
+    }
+
     @Test
     public void quitAll_should_quit_all_drivers() {
         SharedWebDriver driver = container.getOrCreateDriver(this, Object.class, "test", DriverLifecycle.METHOD);
@@ -194,6 +393,34 @@ public class SharedWebDriverContainerTest implements Supplier<WebDriver> {
         assertThat(container.getTestClassDrivers(String.class)).isEmpty();
     }
 
+    @Test
+    public void configure_applies_first_configuration_only() {
+        ProgrammaticConfiguration configuration = new ProgrammaticConfiguration();
+        configuration.setDriverPoolSize(3);
+        configuration.setDriverMaxUses(10);
+        container.configure(configuration);
+
+        assertThat(container.getPool().getMaxSize()).isEqualTo(3);
+        assertThat(container.getRecyclingPolicy().getMaxUses()).isEqualTo(10);
+
+        ProgrammaticConfiguration sameConfiguration = new ProgrammaticConfiguration();
+        sameConfiguration.setDriverPoolSize(3);
+        container.configure(sameConfiguration);
+        container.configure(new ProgrammaticConfiguration());
+
+        final ProgrammaticConfiguration otherConfiguration = new ProgrammaticConfiguration();
+        otherConfiguration.setDriverPoolSize(1);
+        otherConfiguration.setDriverMaxUses(10);
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                container.configure(otherConfiguration);
+            }
+        }).isExactlyInstanceOf(IllegalStateException.class).hasMessageContaining("driverPoolSize=1");
+
+        assertThat(container.getPool().getMaxSize()).isEqualTo(3);
+    }
+
     @Test
     public void testSharedDriverBean() {
         WebDriver webDriver = get();
@@ -0,0 +1,206 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Supplier;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class SharedWebDriverPoolTest implements Supplier<WebDriver> {
+
+    private SharedWebDriverPool pool;
+
+    @Before
+    public void before() {
+        pool = new SharedWebDriverPool(2);
+    }
+
+    @Override
+    public WebDriver get() {
+        return mock(WebDriver.class, RETURNS_DEEP_STUBS);
+    }
+
+    @Test
+    public void lease_creates_drivers_until_max_size() {
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        SharedWebDriver driver2 = pool.lease(this, Object.class, "otherTest");
+
+        assertThat(driver.getDriverLifecycle()).isEqualTo(DriverLifecycle.POOL);
+        assertThat(driver.getDriver()).isNotSameAs(driver2.getDriver());
+        assertThat(pool.getSize()).isEqualTo(2);
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+        assertThat(pool.getLeaseCount()).isEqualTo(2);
+        assertThat(pool.getReuseCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void release_resets_and_reuses_driver() {
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        WebDriver webDriver = driver.getDriver();
+
+        pool.release(driver);
+
+        verify(webDriver.manage()).deleteAllCookies();
+        verify(webDriver).get("about:blank");
+        verify(webDriver, never()).quit();
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        SharedWebDriver driver2 = pool.lease(this, Object.class, "otherTest");
+
+        assertThat(driver2.getDriver()).isSameAs(webDriver);
+        assertThat(driver2.getTestName()).isEqualTo("otherTest");
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getReuseCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void lease_recycles_idle_driver_rejected_by_policy() {
+        pool.getRecyclingPolicy().setMaxUses(2);
+
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        WebDriver webDriver = driver.getDriver();
+        pool.release(driver);
+
+        SharedWebDriver driver2 = pool.lease(this, Object.class, "test");
+        assertThat(driver2.getDriver()).isSameAs(webDriver);
+        assertThat(driver2.getUseCount()).isEqualTo(2);
+        pool.release(driver2);
+
+        SharedWebDriver driver3 = pool.lease(this, Object.class, "test");
+        assertThat(driver3.getDriver()).isNotSameAs(webDriver);
+        assertThat(driver3.getUseCount()).isEqualTo(1);
+        verify(webDriver).quit();
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getReuseCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void release_quits_driver_when_reset_fails() {
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        WebDriver webDriver = driver.getDriver();
+        doThrow(new WebDriverException()).when(webDriver).get("about:blank");
+
+        pool.release(driver);
+
+        verify(webDriver).quit();
+        assertThat(pool.getSize()).isEqualTo(0);
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void lease_waits_for_released_driver_when_pool_is_full() throws InterruptedException {
+        final SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        pool.lease(this, Object.class, "otherTest");
+
+        final AtomicReference<SharedWebDriver> leased = new AtomicReference<>();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Thread thread = new Thread() {
+            @Override
+            public void run() {
+                leased.set(pool.lease(SharedWebDriverPoolTest.this, Object.class, "thirdTest"));
+                latch.countDown();
+            }
+        };
+        thread.start();
+
+        assertThat(latch.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+        pool.release(driver);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(leased.get().getDriver()).isSameAs(driver.getDriver());
+        assertThat(pool.getSize()).isEqualTo(2);
+        assertThat(pool.getLeaseWaitTime(TimeUnit.NANOSECONDS)).isGreaterThan(0);
+    }
+
+    @Test
+    public void quitAll_quits_idle_drivers() {
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        SharedWebDriver driver2 = pool.lease(this, Object.class, "otherTest");
+        pool.release(driver);
+
+        pool.quitAll();
+
+        verify(driver.getDriver()).quit();
+        verify(driver2.getDriver(), never()).quit();
+        assertThat(pool.getSize()).isEqualTo(1);
+
+        pool.invalidate(driver2);
+
+        verify(driver2.getDriver()).quit();
+        assertThat(pool.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void lease_does_not_reuse_idle_driver_of_other_configuration() {
+        DriverConfigurationKey firefox = new DriverConfigurationKey("firefox", null, null, null, null);
+        DriverConfigurationKey chrome = new DriverConfigurationKey("chrome", null, null, null, null);
+
+        SharedWebDriver driver = pool.lease(this, firefox, Object.class, "test");
+        pool.release(driver);
+
+        SharedWebDriver driver2 = pool.lease(this, chrome, Object.class, "otherTest");
+        assertThat(driver2.getDriver()).isNotSameAs(driver.getDriver());
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        SharedWebDriver driver3 = pool.lease(this, new DriverConfigurationKey("firefox", null, null, null, null),
+                Object.class, "anotherTest");
+        assertThat(driver3.getDriver()).isSameAs(driver.getDriver());
+        assertThat(pool.getSize()).isEqualTo(2);
+        assertThat(pool.getReuseCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void lease_evicts_idle_driver_of_other_configuration_when_pool_is_full() {
+        DriverConfigurationKey firefox = new DriverConfigurationKey("firefox", null, null, null, null);
+        DriverConfigurationKey chrome = new DriverConfigurationKey("chrome", null, null, null, null);
+
+        SharedWebDriver driver = pool.lease(this, firefox, Object.class, "test");
+        pool.lease(this, firefox, Object.class, "otherTest");
+        pool.release(driver);
+
+        SharedWebDriver driver2 = pool.lease(this, chrome, Object.class, "anotherTest");
+
+        verify(driver.getDriver()).quit();
+        assertThat(driver2.getDriver()).isNotSameAs(driver.getDriver());
+        assertThat(pool.getSize()).isEqualTo(2);
+        assertThat(pool.getIdleCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void release_and_detach_ignore_drivers_not_leased() {
+        SharedWebDriver driver = pool.lease(this, Object.class, "test");
+        SharedWebDriver driver2 = pool.lease(this, Object.class, "otherTest");
+
+        pool.release(driver);
+        pool.release(driver);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+
+        assertThat(pool.detach(driver2)).isTrue();
+        assertThat(pool.detach(driver2)).isFalse();
+        assertThat(pool.detach(driver)).isFalse();
+        pool.invalidate(driver2);
+        assertThat(pool.detach(new SharedWebDriver(get(), Object.class, "test", DriverLifecycle.POOL))).isFalse();
+
+        verify(driver2.getDriver(), never()).quit();
+        assertThat(pool.getSize()).isEqualTo(1);
+        assertThat(pool.getIdleCount()).isEqualTo(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_max_size() {
+        pool.setMaxSize(0);
+    }
+}
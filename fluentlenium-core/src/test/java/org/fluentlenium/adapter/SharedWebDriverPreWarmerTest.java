@@ -0,0 +1,135 @@
+package org.fluentlenium.adapter;
+
+import com.google.common.base.Supplier;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+public class SharedWebDriverPreWarmerTest implements Supplier<WebDriver> {
+
+    private SharedWebDriverPreWarmer preWarmer;
+
+    private List<WebDriver> createdDrivers;
+
+    @Before
+    public void before() {
+        preWarmer = new SharedWebDriverPreWarmer();
+        createdDrivers = new CopyOnWriteArrayList<>();
+    }
+
+    @After
+    public void after() {
+        preWarmer.setSize(0);
+    }
+
+    @Override
+    public WebDriver get() {
+        WebDriver webDriver = mock(WebDriver.class);
+        createdDrivers.add(webDriver);
+        return webDriver;
+    }
+
+    @Test
+    public void take_without_pre_warming_creates_driver() {
+        assertThat(preWarmer.isEnabled()).isFalse();
+
+        WebDriver webDriver = preWarmer.take(this);
+
+        assertThat(createdDrivers).containsExactly(webDriver);
+    }
+
+    @Test
+    public void take_with_pre_warming_keeps_drivers_ready() throws InterruptedException {
+        preWarmer.setSize(1);
+        assertThat(preWarmer.isEnabled()).isTrue();
+
+        WebDriver webDriver = preWarmer.take(this);
+        verify(webDriver, never()).quit();
+
+        WebDriver webDriver2 = preWarmer.take(this);
+
+        assertThat(webDriver2).isNotSameAs(webDriver);
+        assertThat(createdDrivers).contains(webDriver, webDriver2);
+
+        preWarmer.quitAll();
+
+        assertThat(createdDrivers).hasSize(3);
+        verify(createdDrivers.get(2), timeout(5000)).quit();
+        verify(webDriver, never()).quit();
+        verify(webDriver2, never()).quit();
+    }
+
+    @Test
+    public void disable_pre_warming_quits_ready_drivers() {
+        preWarmer.setSize(2);
+
+        WebDriver webDriver = preWarmer.take(this);
+
+        preWarmer.setSize(0);
+
+        assertThat(preWarmer.isEnabled()).isFalse();
+        assertThat(createdDrivers).hasSize(3);
+        for (WebDriver createdDriver : createdDrivers) {
+            if (createdDriver != webDriver) {
+                verify(createdDriver).quit();
+            }
+        }
+    }
+
+    @Test
+    public void take_with_other_configuration_does_not_use_pre_warmed_driver() throws InterruptedException {
+        preWarmer.setSize(1);
+        DriverConfigurationKey firefox = new DriverConfigurationKey("firefox", null, null, null, null);
+        DriverConfigurationKey chrome = new DriverConfigurationKey("chrome", null, null, null, null);
+        final List<WebDriver> chromeDrivers = new CopyOnWriteArrayList<>();
+        Supplier<WebDriver> chromeFactory = new Supplier<WebDriver>() {
+            @Override
+            public WebDriver get() {
+                WebDriver webDriver = SharedWebDriverPreWarmerTest.this.get();
+                chromeDrivers.add(webDriver);
+                return webDriver;
+            }
+        };
+
+        WebDriver webDriver = preWarmer.take(firefox, this);
+        WebDriver webDriver2 = preWarmer.take(chrome, chromeFactory);
+
+        assertThat(chromeDrivers).contains(webDriver2);
+        assertThat(webDriver2).isNotSameAs(webDriver);
+
+        // Firefox driver pre-warmed by the first call is quit when created.
+        WebDriver warmFirefoxDriver = null;
+        for (long end = System.currentTimeMillis() + 5000; warmFirefoxDriver == null
+                && System.currentTimeMillis() < end; Thread.sleep(10)) {
+            for (WebDriver createdDriver : createdDrivers) {
+                if (createdDriver != webDriver && !chromeDrivers.contains(createdDriver)) {
+                    warmFirefoxDriver = createdDriver;
+                }
+            }
+        }
+        assertThat(warmFirefoxDriver).isNotNull();
+        verify(warmFirefoxDriver, timeout(5000)).quit();
+
+        WebDriver webDriver3 = preWarmer.take(chrome, chromeFactory);
+
+        assertThat(chromeDrivers).contains(webDriver3);
+        assertThat(webDriver3).isNotSameAs(webDriver2);
+        verify(webDriver2, never()).quit();
+        verify(webDriver3, never()).quit();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_size() {
+        preWarmer.setSize(-1);
+    }
+}
@@ -0,0 +1,155 @@
+package org.fluentlenium.adapter;
+
+import org.fluentlenium.adapter.metrics.DriverMetrics;
+import org.fluentlenium.adapter.metrics.DriverOperation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SharedWebDriverQuitterTest {
+
+    private CountDownLatch quitReleased;
+
+    @Before
+    public void before() {
+        quitReleased = new CountDownLatch(1);
+    }
+
+    @After
+    public void after() {
+        quitReleased.countDown();
+    }
+
+    private WebDriver blockingDriver() {
+        WebDriver webDriver = mock(WebDriver.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                quitReleased.await(10, TimeUnit.SECONDS);
+                return null;
+            }
+        }).when(webDriver).quit();
+        return webDriver;
+    }
+
+    private WebDriver latchDriver(final CountDownLatch latch) {
+        WebDriver webDriver = mock(WebDriver.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                latch.countDown();
+                latch.await(5, TimeUnit.SECONDS);
+                return null;
+            }
+        }).when(webDriver).quit();
+        return webDriver;
+    }
+
+    @Test
+    public void quitAll_without_drivers() {
+        SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(2, 1000, 1000);
+
+        assertThat(quitter.quitAll()).isEmpty();
+    }
+
+    @Test
+    public void quitAll_quits_drivers_in_parallel() {
+        CountDownLatch latch = new CountDownLatch(2);
+        WebDriver webDriver = latchDriver(latch);
+        WebDriver webDriver2 = latchDriver(latch);
+
+        SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(2, 5000, 5000);
+        quitter.add(webDriver);
+        quitter.add(webDriver2);
+
+        long start = System.nanoTime();
+        assertThat(quitter.quitAll()).isEmpty();
+
+        verify(webDriver).quit();
+        verify(webDriver2).quit();
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+
+    @Test
+    public void quitAll_ignores_failing_drivers() {
+        WebDriver webDriver = mock(WebDriver.class);
+        doThrow(new WebDriverException()).when(webDriver).quit();
+        WebDriver webDriver2 = mock(WebDriver.class);
+
+        SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(1, 1000, 1000);
+        quitter.add(webDriver);
+        quitter.add(webDriver2);
+        quitter.add("nothing to quit", new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return null;
+            }
+        });
+
+        assertThat(quitter.quitAll()).isEmpty();
+        verify(webDriver2).quit();
+    }
+
+    @Test
+    public void quitAll_abandons_driver_after_quit_timeout() {
+        WebDriver webDriver = mock(WebDriver.class);
+
+        SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(1, 100, 5000);
+        final WebDriver blockingDriver = blockingDriver();
+        quitter.add("blocking", new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return blockingDriver;
+            }
+        });
+        quitter.add(webDriver);
+
+        long abandonedQuits = DriverMetrics.INSTANCE.getSummary().getCount(DriverOperation.QUIT_ABANDONED);
+        List<AbandonedWebDriver> abandoned = quitter.quitAll();
+
+        assertThat(abandoned).hasSize(1);
+        assertThat(abandoned.get(0).getDescription()).isEqualTo("blocking");
+        assertThat(abandoned.get(0).getDriver()).isSameAs(blockingDriver);
+        assertThat(DriverMetrics.INSTANCE.getSummary().getCount(DriverOperation.QUIT_ABANDONED))
+                .isEqualTo(abandonedQuits + 1);
+        verify(webDriver).quit();
+    }
+
+    @Test
+    public void quitAll_abandons_all_pending_drivers_at_deadline() {
+        SharedWebDriverQuitter quitter = new SharedWebDriverQuitter(1, 5000, 200);
+        quitter.add("blocking", new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return blockingDriver();
+            }
+        });
+        quitter.add("blocking2", new Callable<WebDriver>() {
+            @Override
+            public WebDriver call() {
+                return blockingDriver();
+            }
+        });
+
+        long start = System.nanoTime();
+        List<AbandonedWebDriver> abandoned = quitter.quitAll();
+
+        assertThat(abandoned).extracting("description").containsOnly("blocking", "blocking2");
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.SECONDS.toNanos(5));
+    }
+}
@@ -0,0 +1,111 @@
+package org.fluentlenium.adapter;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class SharedWebDriverReaperTest {
+
+    private SharedWebDriverReaper reaper;
+
+    private CountDownLatch quitReleased;
+
+    @Before
+    public void before() {
+        reaper = new SharedWebDriverReaper(1);
+        quitReleased = new CountDownLatch(1);
+    }
+
+    @After
+    public void after() {
+        quitReleased.countDown();
+        reaper.setMaxInFlight(0);
+    }
+
+    private WebDriver blockingDriver(final AtomicReference<Thread> quitThread) {
+        WebDriver webDriver = mock(WebDriver.class);
+        doAnswer(new Answer<Void>() {
+            @Override
+            public Void answer(InvocationOnMock invocation) throws Throwable {
+                quitThread.set(Thread.currentThread());
+                quitReleased.await(5, TimeUnit.SECONDS);
+                return null;
+            }
+        }).when(webDriver).quit();
+        return webDriver;
+    }
+
+    @Test
+    public void quit_without_reaper_is_synchronous() {
+        assertThat(reaper.isEnabled()).isFalse();
+
+        WebDriver webDriver = mock(WebDriver.class);
+        reaper.quit(webDriver);
+
+        verify(webDriver).quit();
+    }
+
+    @Test
+    public void quit_with_reaper_is_asynchronous() {
+        reaper.setMaxInFlight(1);
+        assertThat(reaper.isEnabled()).isTrue();
+
+        AtomicReference<Thread> quitThread = new AtomicReference<>();
+        WebDriver webDriver = blockingDriver(quitThread);
+        reaper.quit(webDriver);
+
+        quitReleased.countDown();
+        reaper.drain();
+
+        verify(webDriver).quit();
+        assertThat(quitThread.get()).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void quit_with_full_queue_is_run_by_caller() {
+        reaper.setMaxInFlight(1);
+
+        AtomicReference<Thread> quitThread = new AtomicReference<>();
+        reaper.quit(blockingDriver(quitThread));
+        reaper.quit(blockingDriver(new AtomicReference<Thread>()));
+
+        WebDriver webDriver = mock(WebDriver.class);
+        reaper.quit(webDriver);
+
+        verify(webDriver).quit();
+    }
+
+    @Test
+    public void drain_waits_for_pending_drivers() {
+        reaper.setMaxInFlight(2);
+
+        WebDriver webDriver = blockingDriver(new AtomicReference<Thread>());
+        WebDriver webDriver2 = blockingDriver(new AtomicReference<Thread>());
+        reaper.quit(webDriver);
+        reaper.quit(webDriver2);
+
+        quitReleased.countDown();
+        reaper.drain();
+
+        verify(webDriver).quit();
+        verify(webDriver2).quit();
+        assertThat(reaper.isEnabled()).isTrue();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_max_in_flight() {
+        reaper.setMaxInFlight(-1);
+    }
+}
@@ -0,0 +1,90 @@
+package org.fluentlenium.adapter;
+
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SharedWebDriverRecyclingPolicyTest {
+
+    private SharedWebDriverRecyclingPolicy policy;
+
+    private WebDriver webDriver;
+
+    private SharedWebDriver driver;
+
+    @Before
+    public void before() {
+        policy = new SharedWebDriverRecyclingPolicy();
+        webDriver = mock(WebDriver.class);
+        driver = new SharedWebDriver(webDriver, Object.class, "test", DriverLifecycle.JVM);
+    }
+
+    @Test
+    public void default_policy_never_recycles() {
+        for (int i = 0; i < 10; i++) {
+            driver.markUsed();
+        }
+
+        assertThat(policy.shouldRecycle(driver)).isFalse();
+        verify(webDriver, never()).getWindowHandle();
+    }
+
+    @Test
+    public void recycles_after_max_uses() {
+        policy.setMaxUses(2);
+
+        driver.markUsed();
+        assertThat(policy.shouldRecycle(driver)).isFalse();
+
+        driver.markUsed();
+        assertThat(policy.shouldRecycle(driver)).isTrue();
+    }
+
+    @Test
+    public void recycles_after_max_age() throws InterruptedException {
+        policy.setMaxAge(50);
+        assertThat(policy.shouldRecycle(driver)).isFalse();
+
+        Thread.sleep(60);
+        assertThat(policy.shouldRecycle(driver)).isTrue();
+    }
+
+    @Test
+    public void recycles_dead_driver() {
+        policy.setHealthCheck(true);
+        assertThat(policy.shouldRecycle(driver)).isFalse();
+
+        when(webDriver.getWindowHandle()).thenThrow(new WebDriverException());
+        assertThat(policy.shouldRecycle(driver)).isTrue();
+    }
+
+    @Test
+    public void reference_to_same_driver_keeps_use_count() {
+        driver.markUsed();
+
+        SharedWebDriver otherDriver = new SharedWebDriver(driver, String.class, "otherTest");
+        otherDriver.markUsed();
+
+        assertThat(otherDriver.getDriver()).isSameAs(webDriver);
+        assertThat(otherDriver.getTestClass()).isSameAs(String.class);
+        assertThat(driver.getUseCount()).isEqualTo(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_max_uses() {
+        policy.setMaxUses(-1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalid_max_age() {
+        policy.setMaxAge(-1);
+    }
+}
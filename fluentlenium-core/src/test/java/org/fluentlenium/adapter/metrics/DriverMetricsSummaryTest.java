@@ -0,0 +1,88 @@
+package org.fluentlenium.adapter.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.io.FileUtils;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DriverMetricsSummaryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private DriverMetricsSummary summary;
+
+    @Before
+    public void before() {
+        summary = new DriverMetricsSummary();
+    }
+
+    private void timed(DriverOperation operation, String testName, DriverLifecycle driverLifecycle, long millis) {
+        summary.timed(new DriverTiming(operation, Object.class, testName, driverLifecycle,
+                TimeUnit.MILLISECONDS.toNanos(millis)));
+    }
+
+    @Test
+    public void aggregates_timings_per_operation() {
+        timed(DriverOperation.NEW_WEB_DRIVER, "test", DriverLifecycle.METHOD, 100);
+        timed(DriverOperation.NEW_WEB_DRIVER, "otherTest", DriverLifecycle.CLASS, 300);
+        timed(DriverOperation.QUIT, "test", DriverLifecycle.METHOD, 50);
+
+        assertThat(summary.getCount(DriverOperation.NEW_WEB_DRIVER)).isEqualTo(2);
+        assertThat(summary.getTotalDuration(DriverOperation.NEW_WEB_DRIVER, TimeUnit.MILLISECONDS)).isEqualTo(400);
+        assertThat(summary.getCount(DriverOperation.QUIT)).isEqualTo(1);
+        assertThat(summary.getCount(DriverOperation.SCREENSHOT)).isEqualTo(0);
+
+        summary.reset();
+
+        assertThat(summary.getCount(DriverOperation.NEW_WEB_DRIVER)).isEqualTo(0);
+    }
+
+    @Test
+    public void renders_json_per_lifecycle_and_per_test() {
+        timed(DriverOperation.NEW_WEB_DRIVER, "test", DriverLifecycle.METHOD, 100);
+        timed(DriverOperation.NEW_WEB_DRIVER, "otherTest", DriverLifecycle.METHOD, 300);
+        timed(DriverOperation.QUIT, "test", DriverLifecycle.METHOD, 50);
+
+        JsonObject json = new JsonParser().parse(summary.toJson()).getAsJsonObject();
+
+        JsonArray lifecycles = json.getAsJsonArray("lifecycles");
+        assertThat(lifecycles.size()).isEqualTo(1);
+        JsonObject lifecycle = lifecycles.get(0).getAsJsonObject();
+        assertThat(lifecycle.get("driverLifecycle").getAsString()).isEqualTo("METHOD");
+        JsonObject newWebDriver = lifecycle.getAsJsonObject("operations").getAsJsonObject("NEW_WEB_DRIVER");
+        assertThat(newWebDriver.get("count").getAsLong()).isEqualTo(2);
+        assertThat(newWebDriver.get("totalMillis").getAsLong()).isEqualTo(400);
+        assertThat(newWebDriver.get("meanMillis").getAsLong()).isEqualTo(200);
+        assertThat(newWebDriver.get("maxMillis").getAsLong()).isEqualTo(300);
+
+        JsonArray tests = json.getAsJsonArray("tests");
+        assertThat(tests.size()).isEqualTo(2);
+        JsonObject test = tests.get(0).getAsJsonObject();
+        assertThat(test.get("testClass").getAsString()).isEqualTo(Object.class.getName());
+        assertThat(test.get("testName").getAsString()).isEqualTo("test");
+        assertThat(test.getAsJsonObject("operations").has("QUIT")).isTrue();
+    }
+
+    @Test
+    public void writes_json_to_file() throws IOException {
+        timed(DriverOperation.DELETE_COOKIES, "test", DriverLifecycle.JVM, 10);
+
+        File file = new File(temporaryFolder.getRoot(), "metrics.json");
+        summary.write(file);
+
+        assertThat(FileUtils.readFileToString(file, StandardCharsets.UTF_8)).isEqualTo(summary.toJson());
+    }
+}
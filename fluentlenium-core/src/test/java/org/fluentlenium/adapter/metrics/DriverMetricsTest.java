@@ -0,0 +1,56 @@
+package org.fluentlenium.adapter.metrics;
+
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class DriverMetricsTest {
+
+    private DriverMetricsListener listener;
+
+    private DriverMetricsListener failingListener;
+
+    @Before
+    public void before() {
+        listener = mock(DriverMetricsListener.class);
+        failingListener = mock(DriverMetricsListener.class);
+        doThrow(new IllegalStateException()).when(failingListener).timed(any(DriverTiming.class));
+
+        DriverMetrics.INSTANCE.addListener(failingListener);
+        DriverMetrics.INSTANCE.addListener(listener);
+    }
+
+    @After
+    public void after() {
+        DriverMetrics.INSTANCE.removeListener(failingListener);
+        DriverMetrics.INSTANCE.removeListener(listener);
+    }
+
+    @Test
+    public void record_notifies_listeners() {
+        long count = DriverMetrics.INSTANCE.getSummary().getCount(DriverOperation.HTML_DUMP);
+
+        DriverMetrics.INSTANCE.record(DriverOperation.HTML_DUMP, Object.class, "test", DriverLifecycle.CLASS,
+                TimeUnit.MILLISECONDS.toNanos(20));
+
+        ArgumentCaptor<DriverTiming> timing = ArgumentCaptor.forClass(DriverTiming.class);
+        verify(listener).timed(timing.capture());
+        assertThat(timing.getValue().getOperation()).isEqualTo(DriverOperation.HTML_DUMP);
+        assertThat(timing.getValue().getTestClass()).isSameAs(Object.class);
+        assertThat(timing.getValue().getTestName()).isEqualTo("test");
+        assertThat(timing.getValue().getDriverLifecycle()).isEqualTo(DriverLifecycle.CLASS);
+        assertThat(timing.getValue().getDuration(TimeUnit.MILLISECONDS)).isEqualTo(20);
+
+        assertThat(DriverMetrics.INSTANCE.getSummary().getCount(DriverOperation.HTML_DUMP)).isEqualTo(count + 1);
+    }
+}
@@ -177,6 +177,102 @@ public abstract class AbstractPropertiesConfigurationTest<T extends AbstractProp
         Assertions.assertThat(getConfiguration().getEventsEnabled()).isTrue();
     }
 
+    @Test
+    public void driverPoolSize() {
+        Assertions.assertThat(getConfiguration().getDriverPoolSize()).isNull();
+
+        mockProperty("driverPoolSize", 4);
+        Assertions.assertThat(getConfiguration().getDriverPoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void driverPoolSizeNotNumber() {
+        Assertions.assertThat(getConfiguration().getDriverPoolSize()).isNull();
+
+        mockProperty("driverPoolSize", "dummy");
+        Assertions.assertThat(getConfiguration().getDriverPoolSize()).isNull();
+    }
+
+    @Test
+    public void driverPreWarmSize() {
+        Assertions.assertThat(getConfiguration().getDriverPreWarmSize()).isNull();
+
+        mockProperty("driverPreWarmSize", 2);
+        Assertions.assertThat(getConfiguration().getDriverPreWarmSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void driverReaperMaxInFlight() {
+        Assertions.assertThat(getConfiguration().getDriverReaperMaxInFlight()).isNull();
+
+        mockProperty("driverReaperMaxInFlight", 2);
+        Assertions.assertThat(getConfiguration().getDriverReaperMaxInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void driverQuitTimeout() {
+        Assertions.assertThat(getConfiguration().getDriverQuitTimeout()).isNull();
+
+        mockProperty("driverQuitTimeout", 5000L);
+        Assertions.assertThat(getConfiguration().getDriverQuitTimeout()).isEqualTo(5000L);
+    }
+
+    @Test
+    public void driverQuitAllTimeout() {
+        Assertions.assertThat(getConfiguration().getDriverQuitAllTimeout()).isNull();
+
+        mockProperty("driverQuitAllTimeout", 20000L);
+        Assertions.assertThat(getConfiguration().getDriverQuitAllTimeout()).isEqualTo(20000L);
+    }
+
+    @Test
+    public void driverMaxUses() {
+        Assertions.assertThat(getConfiguration().getDriverMaxUses()).isNull();
+
+        mockProperty("driverMaxUses", 50);
+        Assertions.assertThat(getConfiguration().getDriverMaxUses()).isEqualTo(50);
+    }
+
+    @Test
+    public void driverMaxAge() {
+        Assertions.assertThat(getConfiguration().getDriverMaxAge()).isNull();
+
+        mockProperty("driverMaxAge", 60000L);
+        Assertions.assertThat(getConfiguration().getDriverMaxAge()).isEqualTo(60000L);
+    }
+
+    @Test
+    public void driverHealthCheck() {
+        Assertions.assertThat(getConfiguration().getDriverHealthCheck()).isNull();
+
+        mockProperty("driverHealthCheck", true);
+        Assertions.assertThat(getConfiguration().getDriverHealthCheck()).isEqualTo(true);
+    }
+
+    @Test
+    public void driverMetricsFile() {
+        Assertions.assertThat(getConfiguration().getDriverMetricsFile()).isNull();
+
+        mockProperty("driverMetricsFile", "target/driver-metrics.json");
+        Assertions.assertThat(getConfiguration().getDriverMetricsFile()).isEqualTo("target/driver-metrics.json");
+    }
+
+    @Test
+    public void waitMetricsFile() {
+        Assertions.assertThat(getConfiguration().getWaitMetricsFile()).isNull();
+
+        mockProperty("waitMetricsFile", "target/wait-metrics.csv");
+        Assertions.assertThat(getConfiguration().getWaitMetricsFile()).isEqualTo("target/wait-metrics.csv");
+    }
+
+    @Test
+    public void parallelThreadCount() {
+        Assertions.assertThat(getConfiguration().getParallelThreadCount()).isNull();
+
+        mockProperty("parallelThreadCount", 3);
+        Assertions.assertThat(getConfiguration().getParallelThreadCount()).isEqualTo(3);
+    }
+
     @Test
     public void pageLoadTimeout() {
         Assertions.assertThat(getConfiguration().getPageLoadTimeout()).isNull();
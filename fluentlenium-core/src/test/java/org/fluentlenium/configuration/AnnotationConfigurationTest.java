@@ -21,6 +21,7 @@ public class AnnotationConfigurationTest {
             capabilities = "{javascriptEnabled: true}",
             remoteUrl = "http://localhost:4444",
             htmlDumpMode = ConfigurationProperties.TriggerMode.AUTOMATIC_ON_FAIL, htmlDumpPath = "/html-path", implicitlyWait = 1000, pageLoadTimeout = 2000,
+            driverPoolSize = 4, driverPreWarmSize = 2, driverReaperMaxInFlight = 2, driverQuitTimeout = 5000, driverQuitAllTimeout = 20000, driverMaxUses = 50, driverMaxAge = 60000, driverHealthCheck = FluentConfiguration.BooleanValue.TRUE, driverMetricsFile = "target/driver-metrics.json", waitMetricsFile = "target/wait-metrics.csv", parallelThreadCount = 3,
             screenshotMode = ConfigurationProperties.TriggerMode.MANUAL, screenshotPath = "/screenshot-path", scriptTimeout = 3000, webDriver = "firefox")
     public static class ConfiguredClass {
     }
@@ -139,6 +140,94 @@ public class AnnotationConfigurationTest {
         Assertions.assertThat(configuration.getScriptTimeout()).isEqualTo(3000L);
     }
 
+    @Test
+    public void driverPoolSize() {
+        Assertions.assertThat(noConfiguration.getDriverPoolSize()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverPoolSize()).isNull();
+
+        Assertions.assertThat(configuration.getDriverPoolSize()).isEqualTo(4);
+    }
+
+    @Test
+    public void driverPreWarmSize() {
+        Assertions.assertThat(noConfiguration.getDriverPreWarmSize()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverPreWarmSize()).isNull();
+
+        Assertions.assertThat(configuration.getDriverPreWarmSize()).isEqualTo(2);
+    }
+
+    @Test
+    public void driverReaperMaxInFlight() {
+        Assertions.assertThat(noConfiguration.getDriverReaperMaxInFlight()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverReaperMaxInFlight()).isNull();
+
+        Assertions.assertThat(configuration.getDriverReaperMaxInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    public void driverQuitTimeout() {
+        Assertions.assertThat(noConfiguration.getDriverQuitTimeout()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverQuitTimeout()).isNull();
+
+        Assertions.assertThat(configuration.getDriverQuitTimeout()).isEqualTo(5000L);
+    }
+
+    @Test
+    public void driverQuitAllTimeout() {
+        Assertions.assertThat(noConfiguration.getDriverQuitAllTimeout()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverQuitAllTimeout()).isNull();
+
+        Assertions.assertThat(configuration.getDriverQuitAllTimeout()).isEqualTo(20000L);
+    }
+
+    @Test
+    public void driverMaxUses() {
+        Assertions.assertThat(noConfiguration.getDriverMaxUses()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverMaxUses()).isNull();
+
+        Assertions.assertThat(configuration.getDriverMaxUses()).isEqualTo(50);
+    }
+
+    @Test
+    public void driverMaxAge() {
+        Assertions.assertThat(noConfiguration.getDriverMaxAge()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverMaxAge()).isNull();
+
+        Assertions.assertThat(configuration.getDriverMaxAge()).isEqualTo(60000L);
+    }
+
+    @Test
+    public void driverHealthCheck() {
+        Assertions.assertThat(noConfiguration.getDriverHealthCheck()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverHealthCheck()).isNull();
+
+        Assertions.assertThat(configuration.getDriverHealthCheck()).isEqualTo(true);
+    }
+
+    @Test
+    public void driverMetricsFile() {
+        Assertions.assertThat(noConfiguration.getDriverMetricsFile()).isNull();
+        Assertions.assertThat(defaultConfiguration.getDriverMetricsFile()).isNull();
+
+        Assertions.assertThat(configuration.getDriverMetricsFile()).isEqualTo("target/driver-metrics.json");
+    }
+
+    @Test
+    public void waitMetricsFile() {
+        Assertions.assertThat(noConfiguration.getWaitMetricsFile()).isNull();
+        Assertions.assertThat(defaultConfiguration.getWaitMetricsFile()).isNull();
+
+        Assertions.assertThat(configuration.getWaitMetricsFile()).isEqualTo("target/wait-metrics.csv");
+    }
+
+    @Test
+    public void parallelThreadCount() {
+        Assertions.assertThat(noConfiguration.getParallelThreadCount()).isNull();
+        Assertions.assertThat(defaultConfiguration.getParallelThreadCount()).isNull();
+
+        Assertions.assertThat(configuration.getParallelThreadCount()).isEqualTo(3);
+    }
+
     @Test
     public void eventsEnabled() {
         Assertions.assertThat(noConfiguration.getEventsEnabled()).isNull();
@@ -265,6 +265,182 @@ public class ComposedConfigurationTest {
         }, null, cap1, cap2);
     }
 
+    @Test
+    public void driverPoolSize() {
+        testImpl(new Function<ConfigurationProperties, Integer>() {
+            @Override
+            public Integer apply(ConfigurationProperties input) {
+                return input.getDriverPoolSize();
+            }
+        }, new Function<Integer, Void>() {
+            @Override
+            public Void apply(Integer input) {
+                composed.setDriverPoolSize(input);
+                return null;
+            }
+        }, null, 2, 4);
+    }
+
+    @Test
+    public void driverPreWarmSize() {
+        testImpl(new Function<ConfigurationProperties, Integer>() {
+            @Override
+            public Integer apply(ConfigurationProperties input) {
+                return input.getDriverPreWarmSize();
+            }
+        }, new Function<Integer, Void>() {
+            @Override
+            public Void apply(Integer input) {
+                composed.setDriverPreWarmSize(input);
+                return null;
+            }
+        }, null, 2, 3);
+    }
+
+    @Test
+    public void driverReaperMaxInFlight() {
+        testImpl(new Function<ConfigurationProperties, Integer>() {
+            @Override
+            public Integer apply(ConfigurationProperties input) {
+                return input.getDriverReaperMaxInFlight();
+            }
+        }, new Function<Integer, Void>() {
+            @Override
+            public Void apply(Integer input) {
+                composed.setDriverReaperMaxInFlight(input);
+                return null;
+            }
+        }, null, 2, 3);
+    }
+
+    @Test
+    public void driverQuitTimeout() {
+        testImpl(new Function<ConfigurationProperties, Long>() {
+            @Override
+            public Long apply(ConfigurationProperties input) {
+                return input.getDriverQuitTimeout();
+            }
+        }, new Function<Long, Void>() {
+            @Override
+            public Void apply(Long input) {
+                composed.setDriverQuitTimeout(input);
+                return null;
+            }
+        }, null, 5000L, 10000L);
+    }
+
+    @Test
+    public void driverQuitAllTimeout() {
+        testImpl(new Function<ConfigurationProperties, Long>() {
+            @Override
+            public Long apply(ConfigurationProperties input) {
+                return input.getDriverQuitAllTimeout();
+            }
+        }, new Function<Long, Void>() {
+            @Override
+            public Void apply(Long input) {
+                composed.setDriverQuitAllTimeout(input);
+                return null;
+            }
+        }, null, 20000L, 30000L);
+    }
+
+    @Test
+    public void driverMaxUses() {
+        testImpl(new Function<ConfigurationProperties, Integer>() {
+            @Override
+            public Integer apply(ConfigurationProperties input) {
+                return input.getDriverMaxUses();
+            }
+        }, new Function<Integer, Void>() {
+            @Override
+            public Void apply(Integer input) {
+                composed.setDriverMaxUses(input);
+                return null;
+            }
+        }, null, 50, 100);
+    }
+
+    @Test
+    public void driverMaxAge() {
+        testImpl(new Function<ConfigurationProperties, Long>() {
+            @Override
+            public Long apply(ConfigurationProperties input) {
+                return input.getDriverMaxAge();
+            }
+        }, new Function<Long, Void>() {
+            @Override
+            public Void apply(Long input) {
+                composed.setDriverMaxAge(input);
+                return null;
+            }
+        }, null, 60000L, 120000L);
+    }
+
+    @Test
+    public void driverHealthCheck() {
+        testImpl(new Function<ConfigurationProperties, Boolean>() {
+            @Override
+            public Boolean apply(ConfigurationProperties input) {
+                return input.getDriverHealthCheck();
+            }
+        }, new Function<Boolean, Void>() {
+            @Override
+            public Void apply(Boolean input) {
+                composed.setDriverHealthCheck(input);
+                return null;
+            }
+        }, null, true, false);
+    }
+
+    @Test
+    public void driverMetricsFile() {
+        testImpl(new Function<ConfigurationProperties, String>() {
+            @Override
+            public String apply(ConfigurationProperties input) {
+                return input.getDriverMetricsFile();
+            }
+        }, new Function<String, Void>() {
+            @Override
+            public Void apply(String input) {
+                composed.setDriverMetricsFile(input);
+                return null;
+            }
+        }, null, "target/driver-metrics.json", "other.json");
+    }
+
+    @Test
+    public void waitMetricsFile() {
+        testImpl(new Function<ConfigurationProperties, String>() {
+            @Override
+            public String apply(ConfigurationProperties input) {
+                return input.getWaitMetricsFile();
+            }
+        }, new Function<String, Void>() {
+            @Override
+            public Void apply(String input) {
+                composed.setWaitMetricsFile(input);
+                return null;
+            }
+        }, null, "target/wait-metrics.csv", "other.json");
+    }
+
+    @Test
+    public void parallelThreadCount() {
+        testImpl(new Function<ConfigurationProperties, Integer>() {
+            @Override
+            public Integer apply(ConfigurationProperties input) {
+                return input.getParallelThreadCount();
+            }
+        }, new Function<Integer, Void>() {
+            @Override
+            public Void apply(Integer input) {
+                composed.setParallelThreadCount(input);
+                return null;
+            }
+        }, null, 3, 6);
+    }
+
     @Test
     public void eventsEnabled() {
         testImpl(new Function<ConfigurationProperties, Boolean>() {
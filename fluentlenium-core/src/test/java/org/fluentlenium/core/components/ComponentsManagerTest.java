@@ -0,0 +1,47 @@
+package org.fluentlenium.core.components;
+
+import org.fluentlenium.core.FluentControl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.proxy.LocatorProxies;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ComponentsManagerTest {
+    @Mock
+    private FluentControl fluentControl;
+
+    @Mock
+    private ElementLocator locator;
+
+    @Mock
+    private WebElement element;
+
+    private ComponentsManager componentsManager;
+
+    @Before
+    public void before() {
+        componentsManager = new ComponentsManager(fluentControl);
+    }
+
+    @Test
+    public void testComponentIsKeptWhenElementIsNotFound() {
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        FluentWebElement component = componentsManager.newComponent(FluentWebElement.class, proxy);
+
+        componentsManager.proxyElementFound(proxy, locator, Collections.<WebElement>emptyList());
+        assertThat(componentsManager.getComponent(proxy)).isSameAs(component);
+
+        componentsManager.proxyElementFound(proxy, locator, Collections.singletonList(element));
+        assertThat(componentsManager.getComponent(element)).isSameAs(component);
+    }
+}
@@ -0,0 +1,94 @@
+package org.fluentlenium.core.components;
+
+import org.fluentlenium.core.FluentControl;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LazyComponentListTest {
+    @Mock
+    private FluentControl fluentControl;
+
+    @Mock
+    private WebElement element1;
+
+    @Mock
+    private WebElement element2;
+
+    @Mock
+    private WebElement element3;
+
+    private ComponentInstantiator instantiator;
+
+    private LazyComponentList<FluentWebElement> lazyComponentList;
+
+    @Before
+    public void before() {
+        instantiator = spy(new DefaultComponentInstantiator(fluentControl));
+        List<WebElement> elements = Arrays.asList(element1, element2, element3);
+        lazyComponentList = new LazyComponentList<>(instantiator, FluentWebElement.class, elements);
+    }
+
+    @Test
+    public void testComponentsAreCreatedOnIndexAccess() {
+        assertThat(lazyComponentList).hasSize(3);
+        verify(instantiator, never()).newComponent(any(Class.class), any(WebElement.class));
+
+        FluentWebElement second = lazyComponentList.get(1);
+        assertThat(second.getElement()).isSameAs(element2);
+        assertThat(lazyComponentList.get(1)).isSameAs(second);
+
+        verify(instantiator, times(1)).newComponent(any(Class.class), any(WebElement.class));
+        assertThat(lazyComponentList.isLazyInitialized()).isFalse();
+
+        for (FluentWebElement component : lazyComponentList) {
+            assertThat(component).isNotNull();
+        }
+        assertThat(lazyComponentList.isLazyInitialized()).isFalse();
+    }
+
+    @Test
+    public void testListenerIsNotifiedForEachComponent() {
+        LazyComponentsListener<FluentWebElement> listener = mock(LazyComponentsListener.class);
+        lazyComponentList.addLazyComponentsListener(listener);
+
+        FluentWebElement first = lazyComponentList.get(0);
+        verify(listener).lazyComponentsInitialized(eq((Map) Collections.singletonMap(element1, first)));
+
+        lazyComponentList.get(0);
+        verify(listener, times(1)).lazyComponentsInitialized(any(Map.class));
+    }
+
+    @Test
+    public void testModificationInitializesTheWholeList() {
+        FluentWebElement first = lazyComponentList.get(0);
+
+        FluentWebElement removed = lazyComponentList.remove(1);
+
+        assertThat(removed.getElement()).isSameAs(element2);
+        assertThat(lazyComponentList.isLazyInitialized()).isTrue();
+        assertThat(lazyComponentList).hasSize(2);
+        assertThat(lazyComponentList.get(0)).isSameAs(first);
+        assertThat(lazyComponentList.get(1).getElement()).isSameAs(element3);
+        verify(instantiator, times(3)).newComponent(any(Class.class), any(WebElement.class));
+    }
+}
@@ -7,24 +7,34 @@ import org.fluentlenium.core.components.ComponentInstantiator;
 import org.fluentlenium.core.components.DefaultComponentInstantiator;
 import org.fluentlenium.core.conditions.WebElementConditions;
 import org.fluentlenium.core.hook.DefaultHookChainBuilder;
+import org.fluentlenium.core.proxy.LocatorProxies;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public class FluentListImplTest {
@@ -299,6 +309,169 @@ public class FluentListImplTest {
         reset(element1, element2, element3);
     }
 
+    @Test
+    public void testPropertiesSingleScript() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        List<WebElement> webElements = Arrays.asList(webElement1, webElement2);
+        FluentList<FluentWebElement> scriptList = new FluentAdapter(scriptDriver)
+                .asFluentList(LocatorProxies.createWebElementList(webElements));
+
+        when(((JavascriptExecutor) scriptDriver).executeScript(ListPropertiesScript.SCRIPT, webElements, "id"))
+                .thenReturn(Arrays.asList("1", null));
+        when(((JavascriptExecutor) scriptDriver).executeScript(ListPropertiesScript.SCRIPT, webElements, "tagName"))
+                .thenReturn(Arrays.asList("div", "span"));
+
+        assertThat(scriptList.getIds()).containsExactly("1", null);
+        assertThat(scriptList.getTagNames()).containsExactly("div", "span");
+
+        verify(webElement1, never()).getAttribute("id");
+        verify(webElement2, never()).getTagName();
+    }
+
+    @Test
+    public void testTextsAndAttributesAreReadElementByElement() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        List<WebElement> webElements = Arrays.asList(webElement1, webElement2);
+        FluentList<FluentWebElement> scriptList = new FluentAdapter(scriptDriver)
+                .asFluentList(LocatorProxies.createWebElementList(webElements));
+
+        when(webElement1.getText()).thenReturn("1");
+        when(webElement2.getText()).thenReturn("2");
+        when(webElement1.getAttribute("href")).thenReturn("http://localhost/a");
+        when(webElement2.getAttribute("href")).thenReturn(null);
+        when(webElement1.getAttribute("value")).thenReturn("a");
+        when(webElement2.getAttribute("value")).thenReturn("b");
+
+        assertThat(scriptList.getTexts()).containsExactly("1", "2");
+        assertThat(scriptList.getAttributes("href")).containsExactly("http://localhost/a", null);
+        assertThat(scriptList.getValues()).containsExactly("a", "b");
+
+        verify((JavascriptExecutor) scriptDriver, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testPropertiesScriptFallback() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement1 = mock(WebElement.class);
+        WebElement webElement2 = mock(WebElement.class);
+        List<WebElement> webElements = Arrays.asList(webElement1, webElement2);
+        FluentList<FluentWebElement> scriptList = new FluentAdapter(scriptDriver)
+                .asFluentList(LocatorProxies.createWebElementList(webElements));
+
+        when(((JavascriptExecutor) scriptDriver).executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new UnsupportedOperationException("Javascript is not enabled"));
+        when(webElement1.getAttribute("id")).thenReturn("1");
+        when(webElement2.getAttribute("id")).thenReturn("2");
+
+        assertThat(scriptList.getIds()).containsExactly("1", "2");
+    }
+
+    @Test
+    public void testPropertiesOverriddenComponentGetter() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement webElement = mock(WebElement.class);
+        FluentList<UpperCaseTextElement> scriptList = new FluentAdapter(scriptDriver).asFluentList(
+                UpperCaseTextElement.class, LocatorProxies.createWebElementList(Collections.singletonList(webElement)));
+
+        when(webElement.getText()).thenReturn("text");
+
+        assertThat(scriptList.getTexts()).containsExactly("TEXT");
+
+        verify((JavascriptExecutor) scriptDriver, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testFindChildrenSingleScript() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        WebElement parent1 = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) parent1).getWrappedDriver()).thenReturn(scriptDriver);
+        WebElement parent2 = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) parent2).getWrappedDriver()).thenReturn(scriptDriver);
+        List<WebElement> parents = Arrays.asList(parent1, parent2);
+        WebElement child1 = mock(WebElement.class);
+        WebElement child2 = mock(WebElement.class);
+        FluentList<FluentWebElement> parentList = new FluentAdapter(scriptDriver)
+                .asFluentList(LocatorProxies.createWebElementList(parents));
+
+        when(((JavascriptExecutor) scriptDriver).executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(Arrays.<Object>asList(child1, child2));
+
+        FluentList<FluentWebElement> children = parentList.find("td");
+
+        assertThat(children.isLoaded()).isFalse();
+        assertThat(children).hasSize(2);
+        assertThat(children.get(1).getElement()).isEqualTo(child2);
+
+        verify((JavascriptExecutor) scriptDriver).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(parent1, never()).findElements(Matchers.<By>any());
+        verify(parent2, never()).findElements(Matchers.<By>any());
+    }
+
+    @Test
+    public void testCountWithoutLoading() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(((JavascriptExecutor) scriptDriver).executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(3L);
+
+        FluentList<FluentWebElement> items = new FluentAdapter(scriptDriver).find(".item");
+
+        assertThat(items.count()).isEqualTo(3);
+        assertThat(items.isPresent()).isTrue();
+        assertThat(items.one().hasSize(3)).isTrue();
+        assertThat(items.each().hasSize().greaterThan(2)).isTrue();
+        assertThat(items.isLoaded()).isFalse();
+
+        verify(scriptDriver, never()).findElements(Matchers.<By>any());
+    }
+
+    @Test
+    public void testCountModifiedList() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(((JavascriptExecutor) scriptDriver).executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(3L);
+        when(scriptDriver.findElements(By.cssSelector(".item")))
+                .thenReturn(Arrays.asList(mock(WebElement.class), mock(WebElement.class), mock(WebElement.class)));
+
+        FluentList<FluentWebElement> items = new FluentAdapter(scriptDriver).find(".item");
+        items.get(0);
+        assertThat(items.count()).isEqualTo(3);
+
+        items.remove(0);
+
+        assertThat(items.count()).isEqualTo(2);
+        assertThat(items).hasSize(2);
+    }
+
+    @Test
+    public void testCountLoadedList() {
+        WebDriver scriptDriver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(scriptDriver.findElements(By.cssSelector(".item")))
+                .thenReturn(Arrays.asList(mock(WebElement.class), mock(WebElement.class)));
+
+        FluentList<FluentWebElement> items = new FluentAdapter(scriptDriver).find(".item").now();
+
+        assertThat(items.count()).isEqualTo(2);
+        assertThat(items.isPresent()).isTrue();
+
+        verify((JavascriptExecutor) scriptDriver, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    public static class UpperCaseTextElement extends FluentWebElement {
+        public UpperCaseTextElement(WebElement webElement, FluentControl fluentControl,
+                ComponentInstantiator instantiator) {
+            super(webElement, fluentControl, instantiator);
+        }
+
+        @Override
+        public String getText() {
+            return super.getText().toUpperCase();
+        }
+    }
+
     @Test
     public void testFind() {
         FluentWebElement ret1 = mock(FluentWebElement.class);
@@ -0,0 +1,129 @@
+package org.fluentlenium.core.filter;
+
+import org.fluentlenium.core.filter.matcher.Matcher;
+import org.fluentlenium.core.filter.matcher.MatcherType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebElement;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.FilterConstructor.withClass;
+import static org.fluentlenium.core.filter.FilterConstructor.withName;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+import static org.fluentlenium.core.filter.MatcherConstructor.regex;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FilterScriptTest {
+    @Mock
+    private JavascriptExecutor executor;
+
+    @Mock
+    private WebElement element1;
+
+    @Mock
+    private WebElement element2;
+
+    @Mock
+    private WebElement element3;
+
+    @Test
+    public void testCompileBuiltInMatchers() {
+        List<Filter> filters = Arrays.asList(withName("name"), withText().contains("text"),
+                withClass().containsWord("small"), withText().startsWith("start"), withText().endsWith("end"),
+                withName().notContains("toto"), withName().notStartsWith("toto"), withName().notEndsWith("toto"),
+                withName().equalTo("name"));
+
+        assertThat(FilterScript.compile(filters)).isNotNull();
+    }
+
+    @Test
+    public void testCompileRegexMatchers() {
+        List<Filter> filters = Arrays.asList(withName().contains(regex("na?me[0-9]*")),
+                withText().startsWith(Pattern.compile("pharma", Pattern.CASE_INSENSITIVE)),
+                withText().endsWith(Pattern.compile("^cy$", Pattern.MULTILINE)));
+
+        assertThat(FilterScript.compile(filters)).isNotNull();
+    }
+
+    @Test
+    public void testCompileUnsupportedRegex() {
+        assertThat(FilterScript.compile(Collections.singletonList(withName().contains(regex("\\Aname"))))).isNull();
+        assertThat(FilterScript.compile(Collections.singletonList(withName().contains(regex("(?i)name"))))).isNull();
+        assertThat(FilterScript.compile(Collections.singletonList(withName().contains(regex("na*+me"))))).isNull();
+        assertThat(FilterScript.compile(Collections.singletonList(withName().contains(regex("\\p{Lu}"))))).isNull();
+        assertThat(FilterScript.compile(
+                Collections.singletonList(withName().contains(Pattern.compile("name", Pattern.DOTALL))))).isNull();
+    }
+
+    @Test
+    public void testCompileCustomMatcher() {
+        Matcher matcher = new Matcher("value") {
+            @Override
+            protected MatcherType getMatcherType() {
+                return MatcherType.EQUAL;
+            }
+
+            @Override
+            public boolean isSatisfiedBy(String value) {
+                return true;
+            }
+        };
+
+        assertThat(FilterScript.compile(Arrays.asList(withName("name"), new Filter("name", matcher)))).isNull();
+    }
+
+    @Test
+    public void testFilterSingleScriptExecution() {
+        FilterScript script = FilterScript.compile(Arrays.asList(withName("name"), withText().contains("text")));
+        List<WebElement> elements = Arrays.asList(element1, element2, element3);
+
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(Arrays.<Object>asList(0L, 2L));
+
+        assertThat(script.filter(executor, elements)).containsExactly(element1, element3);
+
+        verify(executor).executeScript(eq(FilterScript.SCRIPT), eq(elements),
+                eq(Arrays.asList(Arrays.<Object>asList("name", "equal", "name", false, "", false),
+                        Arrays.<Object>asList("text", "contains", "text", false, "", false))));
+        verifyZeroInteractions(element1, element2, element3);
+    }
+
+    @Test
+    public void testFilterRegexAndNegatedFilters() {
+        FilterScript script = FilterScript.compile(Arrays.asList(withName().notStartsWith("toto"),
+                withText().endsWith(Pattern.compile("cy", Pattern.CASE_INSENSITIVE))));
+        List<WebElement> elements = Arrays.asList(element1, element2);
+
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(Collections.<Object>singletonList(1L));
+
+        assertThat(script.filter(executor, elements)).containsExactly(element2);
+
+        verify(executor).executeScript(eq(FilterScript.SCRIPT), eq(elements),
+                eq(Arrays.asList(Arrays.<Object>asList("name", "startsWith", "toto", false, "", true),
+                        Arrays.<Object>asList("text", "endsWith", "cy", true, "i", false))));
+    }
+
+    @Test
+    public void testFilterEmptyElements() {
+        FilterScript script = FilterScript.compile(Collections.singletonList(withName("name")));
+
+        assertThat(script.filter(executor, Collections.<WebElement>emptyList())).isEmpty();
+
+        verifyZeroInteractions(executor);
+    }
+}
@@ -1,6 +1,8 @@
 package org.fluentlenium.core.hook.wait;
 
+import org.fluentlenium.core.wait.FastStartPollingStrategy;
 import org.fluentlenium.core.wait.FluentWait;
+import org.fluentlenium.core.wait.PollingStrategy;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -33,6 +35,7 @@ public class WaitHookOptionsTest {
         assertThat(waitHookOptions.getPollingTimeUnit()).isEqualTo(TimeUnit.MILLISECONDS);
         assertThat(waitHookOptions.getIgnoreAll()).isEmpty();
         assertThat(waitHookOptions.isWithNoDefaultsException()).isFalse();
+        assertThat(waitHookOptions.getPollingStrategy()).isNull();
     }
 
     @Test
@@ -50,4 +53,14 @@ public class WaitHookOptionsTest {
 
         Mockito.verify(wait).withNoDefaultsException();
     }
+
+    @Test
+    public void testPollingStrategyConfigureAwait() {
+        PollingStrategy pollingStrategy = new FastStartPollingStrategy(500, TimeUnit.MILLISECONDS);
+        waitHookOptions.setPollingStrategy(pollingStrategy);
+
+        waitHookOptions.configureAwait(wait);
+
+        Mockito.verify(wait).pollingWith(pollingStrategy);
+    }
 }
@@ -14,10 +14,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnhandledAlertException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.Arrays;
@@ -27,8 +30,10 @@ import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public class WaitHookTest {
@@ -124,6 +129,56 @@ public class WaitHookTest {
         verify(element).click();
     }
 
+    private WaitHook newScriptedWaitHook(WebElement scriptedElement, WaitHookOptions options) {
+        return new WaitHook(fluentControl, instantiator, Suppliers.ofInstance(scriptedElement),
+                Suppliers.ofInstance(locator), options);
+    }
+
+    private JavascriptExecutor mockExecutor(WebElement scriptedElement) {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        when(((WrapsDriver) scriptedElement).getWrappedDriver()).thenReturn((WebDriver) executor);
+        when(scriptedElement.isEnabled()).thenReturn(true);
+        when(scriptedElement.isDisplayed()).thenReturn(true);
+        return executor;
+    }
+
+    @Test
+    public void testElementClickWithScript() {
+        WebElement scriptedElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        JavascriptExecutor executor = mockExecutor(scriptedElement);
+        when(executor.executeScript(ActionabilityScript.SCRIPT, scriptedElement)).thenReturn(true);
+
+        newScriptedWaitHook(scriptedElement, waitHook.getOptions()).click();
+
+        verify(executor).executeScript(ActionabilityScript.SCRIPT, scriptedElement);
+        verify(scriptedElement, never()).isDisplayed();
+        verify(scriptedElement).click();
+    }
+
+    @Test
+    public void testElementClickNotActionable() {
+        WebElement scriptedElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        JavascriptExecutor executor = mockExecutor(scriptedElement);
+        when(executor.executeScript(ActionabilityScript.SCRIPT, scriptedElement)).thenReturn(false);
+
+        newScriptedWaitHook(scriptedElement, waitHook.getOptions()).click();
+
+        verify(scriptedElement).click();
+    }
+
+    @Test
+    public void testElementClickWithAlertOpen() {
+        WebElement scriptedElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        JavascriptExecutor executor = mockExecutor(scriptedElement);
+        when(executor.executeScript(ActionabilityScript.SCRIPT, scriptedElement))
+                .thenThrow(new UnhandledAlertException("alert"));
+
+        newScriptedWaitHook(scriptedElement, waitHook.getOptions()).click();
+
+        verify(scriptedElement).isDisplayed();
+        verify(scriptedElement).click();
+    }
+
     @Test
     public void testElementSendKeys() {
         WebElement childElement = mock(WebElement.class);
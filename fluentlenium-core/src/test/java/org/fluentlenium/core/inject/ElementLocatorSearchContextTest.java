@@ -0,0 +1,111 @@
+package org.fluentlenium.core.inject;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ElementLocatorSearchContextTest {
+    @Mock
+    private ElementLocator locator;
+
+    @Mock
+    private WebElement child1;
+
+    @Mock
+    private WebElement child2;
+
+    @Mock
+    private WebElement child3;
+
+    private WebElement scriptableElement(JavascriptExecutor executor) {
+        WebElement webElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) webElement).getWrappedDriver()).thenReturn((WebDriver) executor);
+        return webElement;
+    }
+
+    @Test
+    public void testFindElementsSingleScript() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement parent1 = scriptableElement(executor);
+        WebElement parent2 = scriptableElement(executor);
+        List<WebElement> parents = Arrays.asList(parent1, parent2);
+        when(locator.findElements()).thenReturn(parents);
+        when(executor.executeScript(ElementLocatorSearchContext.SCRIPT, parents, "css", "td"))
+                .thenReturn(Arrays.<Object>asList(child1, child2, child3));
+
+        ElementLocatorSearchContext searchContext = new ElementLocatorSearchContext(locator);
+
+        assertThat(searchContext.findElements(By.cssSelector("td"))).containsExactly(child1, child2, child3);
+
+        verify(parent1, never()).findElements(Matchers.<By>any());
+        verify(parent2, never()).findElements(Matchers.<By>any());
+    }
+
+    @Test
+    public void testFindElementsFallbackRemovesDuplicates() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement parent1 = scriptableElement(executor);
+        WebElement parent2 = scriptableElement(executor);
+        when(locator.findElements()).thenReturn(Arrays.asList(parent1, parent2));
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new WebDriverException("Javascript is not enabled"));
+        when(parent1.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(child1, child2));
+        when(parent2.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(child2, child3));
+
+        ElementLocatorSearchContext searchContext = new ElementLocatorSearchContext(locator);
+
+        assertThat(searchContext.findElements(By.cssSelector("td"))).containsExactly(child1, child2, child3);
+    }
+
+    @Test
+    public void testFindElementsUnsupportedLocator() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement parent1 = scriptableElement(executor);
+        WebElement parent2 = scriptableElement(executor);
+        when(locator.findElements()).thenReturn(Arrays.asList(parent1, parent2));
+        when(parent1.findElements(By.linkText("link"))).thenReturn(Collections.singletonList(child1));
+        when(parent2.findElements(By.linkText("link"))).thenReturn(Collections.singletonList(child2));
+
+        ElementLocatorSearchContext searchContext = new ElementLocatorSearchContext(locator);
+
+        assertThat(searchContext.findElements(By.linkText("link"))).containsExactly(child1, child2);
+
+        verify(executor, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testFindElementsSingleParent() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement parent = scriptableElement(executor);
+        when(locator.findElements()).thenReturn(Collections.singletonList(parent));
+        when(parent.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(child1, child2));
+
+        ElementLocatorSearchContext searchContext = new ElementLocatorSearchContext(locator);
+
+        assertThat(searchContext.findElements(By.cssSelector("td"))).containsExactly(child1, child2);
+
+        verify(executor, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+}
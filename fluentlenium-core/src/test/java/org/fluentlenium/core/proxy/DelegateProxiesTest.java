@@ -0,0 +1,22 @@
+package org.fluentlenium.core.proxy;
+
+import org.junit.After;
+import org.junit.Before;
+
+/**
+ * Run {@link ProxiesTest} against {@link ProxyBackend#DELEGATE} backend.
+ */
+public class DelegateProxiesTest extends ProxiesTest {
+    private ProxyBackend backend;
+
+    @Before
+    public void setDelegateBackend() {
+        backend = LocatorProxies.getBackend();
+        LocatorProxies.setBackend(ProxyBackend.DELEGATE);
+    }
+
+    @After
+    public void restoreBackend() {
+        LocatorProxies.setBackend(backend);
+    }
+}
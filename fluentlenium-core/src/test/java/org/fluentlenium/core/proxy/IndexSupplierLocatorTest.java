@@ -7,12 +7,24 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.Arrays;
 import java.util.Collections;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.withSettings;
+
 @RunWith(MockitoJUnitRunner.class)
 public class IndexSupplierLocatorTest {
     @Mock
@@ -90,4 +102,89 @@ public class IndexSupplierLocatorTest {
         Assertions.assertThat(locator.findElements()).isEmpty();
     }
 
+    @Test
+    public void testFirstElementLocatorFromSearchContext() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(driver.findElement(By.cssSelector("td"))).thenReturn(element1);
+
+        ElementLocator locator = new FirstElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")));
+
+        Assertions.assertThat(locator.findElement()).isSameAs(element1);
+        verify(driver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    public void testFirstElementLocatorFromSearchContextEmpty() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(driver.findElement(By.cssSelector("td"))).thenThrow(new NoSuchElementException("td"));
+
+        ElementLocator locator = new FirstElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")));
+
+        Assertions.assertThat(locator.findElement()).isNull();
+        Assertions.assertThat(locator.findElements()).isEmpty();
+    }
+
+    @Test
+    public void testAtIndexElementLocatorFromSearchContext() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(((JavascriptExecutor) driver).executeScript(SearchContextElementLocator.INDEX_SCRIPT, "", "xpath", "//td", 2))
+                .thenReturn(element3);
+
+        ElementLocator locator = new AtIndexElementLocator(new SearchContextElementLocator(driver, By.xpath("//td")), 2);
+
+        Assertions.assertThat(locator.findElement()).isSameAs(element3);
+        verify(driver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    public void testLastElementLocatorFromSearchContext() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(((JavascriptExecutor) driver).executeScript(SearchContextElementLocator.INDEX_SCRIPT, "", "css",
+                "[name=\"cell\"]", SearchContextElementLocator.LAST)).thenReturn(element4);
+
+        ElementLocator locator = new LastElementLocator(new SearchContextElementLocator(driver, By.name("cell")));
+
+        Assertions.assertThat(locator.findElement()).isSameAs(element4);
+        verify(driver, never()).findElements(any(By.class));
+    }
+
+    @Test
+    public void testAtIndexElementLocatorFromSearchContextNotFoundUsesFindElements() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(((JavascriptExecutor) driver).executeScript(anyString(), Mockito.<Object>anyVararg()))
+                .thenReturn(null);
+        // Late content returned by findElements, which honors the implicit wait of the driver.
+        Mockito.when(driver.findElements(By.cssSelector("td")))
+                .thenReturn(Arrays.asList(element1, element2, element3, element4));
+
+        Assertions.assertThat(new AtIndexElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")), 2)
+                .findElement()).isSameAs(element3);
+        Assertions.assertThat(new LastElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")))
+                .findElement()).isSameAs(element4);
+    }
+
+    @Test
+    public void testAtIndexElementLocatorFromSearchContextFallback() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(((JavascriptExecutor) driver).executeScript(anyString(), Mockito.<Object>anyVararg()))
+                .thenThrow(new WebDriverException("Javascript is not enabled"));
+        Mockito.when(driver.findElements(By.cssSelector("td")))
+                .thenReturn(Arrays.asList(element1, element2, element3, element4));
+
+        Assertions.assertThat(new AtIndexElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")), 2)
+                .findElement()).isSameAs(element3);
+        Assertions.assertThat(new LastElementLocator(new SearchContextElementLocator(driver, By.cssSelector("td")))
+                .findElement()).isSameAs(element4);
+    }
+
+    @Test
+    public void testAtIndexElementLocatorFromSearchContextUnsupportedLocator() {
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        Mockito.when(driver.findElements(By.linkText("link"))).thenReturn(Arrays.asList(element1, element2));
+
+        ElementLocator locator = new AtIndexElementLocator(new SearchContextElementLocator(driver, By.linkText("link")), 1);
+
+        Assertions.assertThat(locator.findElement()).isSameAs(element2);
+        verify((JavascriptExecutor) driver, never()).executeScript(anyString(), Mockito.<Object>anyVararg());
+    }
 }
@@ -0,0 +1,70 @@
+package org.fluentlenium.core.proxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class LazyElementProxyListTest {
+    @Mock
+    private ElementLocator locator;
+
+    private List<WebElement> mockElements(int count) {
+        List<WebElement> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(mock(WebElement.class));
+        }
+        return elements;
+    }
+
+    @Test
+    public void testProxiesAreCreatedOnIndexAccess() {
+        List<WebElement> elements = mockElements(10000);
+        when(locator.findElements()).thenReturn(elements);
+
+        List<WebElement> proxy = LocatorProxies.createWebElementList(locator);
+        assertThat(proxy).hasSize(10000);
+
+        List<WebElement> result = LocatorProxies.getLocatorResult(proxy);
+        assertThat(result).isInstanceOf(LazyElementProxyList.class);
+
+        WebElement first = proxy.get(0);
+        assertThat(proxy.get(0)).isSameAs(first);
+        assertThat(LocatorProxies.getLocatorResult(first)).isSameAs(elements.get(0));
+
+        first.click();
+        verify(elements.get(0)).click();
+
+        for (WebElement element : elements.subList(1, elements.size())) {
+            verifyZeroInteractions(element);
+        }
+    }
+
+    @Test
+    public void testIteratorReturnsProxies() {
+        List<WebElement> elements = mockElements(3);
+        when(locator.findElements()).thenReturn(elements);
+
+        List<WebElement> proxy = LocatorProxies.createWebElementList(locator);
+
+        int i = 0;
+        for (WebElement element : proxy) {
+            assertThat(LocatorProxies.getLocatorHandler(element)).isNotNull();
+            assertThat(LocatorProxies.getLocatorResult(element)).isSameAs(elements.get(i));
+            i++;
+        }
+        assertThat(i).isEqualTo(3);
+    }
+}
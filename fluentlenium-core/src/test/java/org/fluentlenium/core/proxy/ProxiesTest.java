@@ -328,6 +328,23 @@ public class ProxiesTest {
         assertThat(LocatorProxies.isLoaded(webElementList)).isTrue();
     }
 
+    @Test
+    public void testCount() {
+        ElementLocator locator = mock(ElementLocator.class);
+        when(locator.findElements()).thenReturn(Arrays.asList(element1, element2, element3));
+
+        List<WebElement> webElementList = LocatorProxies.createWebElementList(locator);
+
+        assertThat(LocatorProxies.count(webElementList)).isEqualTo(3);
+        assertThat(LocatorProxies.isLoaded(webElementList)).isFalse();
+
+        LocatorProxies.now(webElementList);
+        when(locator.findElements()).thenReturn(Collections.<WebElement>emptyList());
+
+        assertThat(LocatorProxies.count(webElementList)).isEqualTo(3);
+        assertThat(LocatorProxies.count(Arrays.asList(element1, element2))).isEqualTo(2);
+    }
+
     @Test
     public void testLocatorGetter() {
         ElementLocator locator = mock(ElementLocator.class);
@@ -0,0 +1,108 @@
+package org.fluentlenium.core.proxy;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.domain.WrapsElements;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.Locatable;
+import org.openqa.selenium.internal.WrapsElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProxyBackendTest {
+    @Mock
+    private WebElement element;
+
+    private ProxyBackend backend;
+
+    @Before
+    public void before() {
+        backend = LocatorProxies.getBackend();
+    }
+
+    @After
+    public void after() {
+        LocatorProxies.setBackend(backend);
+    }
+
+    @Test
+    public void testDefaultBackend() {
+        assertThat(backend).isEqualTo(ProxyBackend.DYNAMIC_PROXY);
+    }
+
+    @Test
+    public void testNullBackend() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                LocatorProxies.setBackend(null);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testDelegateBackend() {
+        LocatorProxies.setBackend(ProxyBackend.DELEGATE);
+
+        WebElement proxy = LocatorProxies.createWebElement(element);
+        List<WebElement> listProxy = LocatorProxies.createWebElementList(Arrays.asList(element));
+
+        assertThat(proxy).isInstanceOf(DelegatingWebElement.class).isInstanceOf(Locatable.class)
+                .isInstanceOf(WrapsElement.class);
+        assertThat(listProxy).isInstanceOf(DelegatingWebElementList.class).isInstanceOf(WrapsElements.class);
+        assertThat(LocatorProxies.getLocatorHandler(proxy)).isInstanceOf(ComponentHandler.class);
+        assertThat(LocatorProxies.getLocatorHandler(listProxy)).isInstanceOf(ListHandler.class);
+    }
+
+    @Test
+    public void testDynamicProxyBackend() {
+        LocatorProxies.setBackend(ProxyBackend.DYNAMIC_PROXY);
+
+        WebElement proxy = LocatorProxies.createWebElement(element);
+        List<WebElement> listProxy = LocatorProxies.createWebElementList(Arrays.asList(element));
+
+        assertThat(Proxy.isProxyClass(proxy.getClass())).isTrue();
+        assertThat(Proxy.isProxyClass(listProxy.getClass())).isTrue();
+        assertThat(LocatorProxies.getLocatorHandler(proxy)).isInstanceOf(ComponentHandler.class);
+        assertThat(LocatorProxies.getLocatorHandler(listProxy)).isInstanceOf(ListHandler.class);
+    }
+
+    @Test
+    public void testBackendsAreEquivalent() {
+        ElementLocator locator = mock(ElementLocator.class);
+        when(locator.findElement()).thenReturn(element);
+        when(element.getText()).thenReturn("text");
+
+        LocatorProxies.setBackend(ProxyBackend.DELEGATE);
+        WebElement delegate = LocatorProxies.createWebElement(locator);
+
+        LocatorProxies.setBackend(ProxyBackend.DYNAMIC_PROXY);
+        WebElement dynamicProxy = LocatorProxies.createWebElement(locator);
+
+        assertThat(delegate).isEqualTo(dynamicProxy);
+        assertThat(delegate.hashCode()).isEqualTo(dynamicProxy.hashCode());
+        assertThat(delegate.toString()).isEqualTo(dynamicProxy.toString());
+
+        assertThat(delegate.getText()).isEqualTo(dynamicProxy.getText());
+        assertThat(((WrapsElement) delegate).getWrappedElement()).isSameAs(element);
+        assertThat(((WrapsElement) dynamicProxy).getWrappedElement()).isSameAs(element);
+
+        delegate.click();
+        verify(element).click();
+    }
+}
@@ -0,0 +1,97 @@
+package org.fluentlenium.core.proxy;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SearchContextElementLocatorTest {
+    @Mock
+    private WebElement element1;
+
+    @Mock
+    private WebElement element2;
+
+    private WebDriver scriptDriver() {
+        return mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+
+    @Test
+    public void testCountElementsWithScript() {
+        WebDriver driver = scriptDriver();
+        when(((JavascriptExecutor) driver).executeScript(SearchContextElementLocator.COUNT_SCRIPT, "", "css", "td"))
+                .thenReturn(5L);
+
+        SearchContextElementLocator locator = new SearchContextElementLocator(driver, By.tagName("td"));
+
+        assertThat(locator.countElements()).isEqualTo(5);
+        verify(driver, never()).findElements(Matchers.<By>any());
+    }
+
+    @Test
+    public void testCountElementsFromElementWithScript() {
+        WebDriver driver = scriptDriver();
+        WebElement parent = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) parent).getWrappedDriver()).thenReturn(driver);
+        when(((JavascriptExecutor) driver).executeScript(SearchContextElementLocator.COUNT_SCRIPT, parent, "xpath",
+                "./td")).thenReturn(2L);
+
+        SearchContextElementLocator locator = new SearchContextElementLocator(parent, By.xpath("./td"));
+
+        assertThat(locator.countElements()).isEqualTo(2);
+        verify(parent, never()).findElements(Matchers.<By>any());
+    }
+
+    @Test
+    public void testCountElementsNotFoundUsesFindElements() {
+        WebDriver driver = scriptDriver();
+        when(((JavascriptExecutor) driver).executeScript(SearchContextElementLocator.COUNT_SCRIPT, "", "css", "td"))
+                .thenReturn(0L);
+        // Late content returned by findElements, which honors the implicit wait of the driver.
+        when(driver.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(element1, element2));
+
+        SearchContextElementLocator locator = new SearchContextElementLocator(driver, By.cssSelector("td"));
+
+        assertThat(locator.countElements()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCountElementsFallback() {
+        WebDriver driver = scriptDriver();
+        when(((JavascriptExecutor) driver).executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new WebDriverException("Javascript is not enabled"));
+        when(driver.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(element1, element2));
+
+        SearchContextElementLocator locator = new SearchContextElementLocator(driver, By.cssSelector("td"));
+
+        assertThat(locator.countElements()).isEqualTo(2);
+    }
+
+    @Test
+    public void testCountElementsWithoutJavascript() {
+        WebDriver driver = mock(WebDriver.class);
+        when(driver.findElements(By.cssSelector("td"))).thenReturn(Arrays.asList(element1, element2));
+
+        SearchContextElementLocator locator = new SearchContextElementLocator(driver, By.cssSelector("td"));
+
+        assertThat(locator.countElements()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,158 @@
+package org.fluentlenium.core.proxy;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.refEq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StaleRetryStrategyTest {
+    @Mock
+    private WebElement element;
+
+    @Mock
+    private WebElement element2;
+
+    @Mock
+    private ElementLocator locator;
+
+    @Mock
+    private ProxyElementRetryListener listener;
+
+    private StaleRetryStrategy staleRetryStrategy;
+
+    private StalenessPolicy stalenessPolicy;
+
+    @Before
+    public void before() {
+        staleRetryStrategy = LocatorProxies.getStaleRetryStrategy();
+        stalenessPolicy = LocatorProxies.getStalenessPolicy();
+        LocatorProxies.setStalenessPolicy(new NeverCheckStalenessPolicy());
+        when(locator.findElement()).thenReturn(element);
+    }
+
+    @After
+    public void after() {
+        LocatorProxies.setStaleRetryStrategy(staleRetryStrategy);
+        LocatorProxies.setStalenessPolicy(stalenessPolicy);
+    }
+
+    @Test
+    public void testDefaultStrategy() {
+        assertThat(staleRetryStrategy).isInstanceOf(BackoffStaleRetryStrategy.class);
+        assertThat(((BackoffStaleRetryStrategy) staleRetryStrategy).getMaxAttempts())
+                .isEqualTo(AbstractLocatorHandler.MAX_STALE_ATTEMPTS);
+        assertThat(staleRetryStrategy.getRetryDelay(0)).isEqualTo(0);
+        assertThat(staleRetryStrategy.getRetryDelay(AbstractLocatorHandler.MAX_STALE_ATTEMPTS - 1))
+                .isEqualTo(StaleRetryStrategy.FAIL);
+    }
+
+    @Test
+    public void testNullStrategy() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                LocatorProxies.setStaleRetryStrategy(null);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testInvalidStrategy() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new BackoffStaleRetryStrategy(0);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new BackoffStaleRetryStrategy(3, 10, 100, TimeUnit.MILLISECONDS, 1.5);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testBackoffDelays() {
+        BackoffStaleRetryStrategy strategy = new BackoffStaleRetryStrategy(6, 10, 50, TimeUnit.MILLISECONDS, 0);
+
+        assertThat(strategy.getRetryDelay(0)).isEqualTo(10);
+        assertThat(strategy.getRetryDelay(1)).isEqualTo(20);
+        assertThat(strategy.getRetryDelay(2)).isEqualTo(40);
+        assertThat(strategy.getRetryDelay(3)).isEqualTo(50);
+        assertThat(strategy.getRetryDelay(4)).isEqualTo(50);
+        assertThat(strategy.getRetryDelay(5)).isEqualTo(StaleRetryStrategy.FAIL);
+    }
+
+    @Test
+    public void testBackoffJitter() {
+        BackoffStaleRetryStrategy strategy = new BackoffStaleRetryStrategy(3, 100, 100, TimeUnit.MILLISECONDS, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.getRetryDelay(1)).isBetween(50L, 100L);
+        }
+    }
+
+    @Test
+    public void testFailFast() {
+        LocatorProxies.setStaleRetryStrategy(new BackoffStaleRetryStrategy(1));
+
+        final WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.click();
+
+        when(element.getText()).thenThrow(StaleElementReferenceException.class);
+        when(locator.findElement()).thenReturn(element2);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                proxy.getText();
+            }
+        }).isExactlyInstanceOf(StaleElementReferenceException.class);
+
+        verify(element2, never()).getText();
+        assertThat(LocatorProxies.getStaleRetryCount(proxy)).isEqualTo(0);
+    }
+
+    @Test
+    public void testRetriesAreCountedAndNotified() {
+        LocatorProxies.setStaleRetryStrategy(new BackoffStaleRetryStrategy(3, 1, 1, TimeUnit.MILLISECONDS, 0));
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        LocatorProxies.addProxyListener(proxy, listener);
+        proxy.click();
+
+        when(element.getText()).thenThrow(StaleElementReferenceException.class);
+        when(locator.findElement()).thenReturn(element, element2);
+        when(element2.getText()).thenReturn("text");
+
+        assertThat(proxy.getText()).isEqualTo("text");
+        assertThat(LocatorProxies.getStaleRetryCount(proxy)).isEqualTo(2);
+        assertThat(LocatorProxies.getStaleRetryCount(element)).isEqualTo(0);
+
+        verify(listener).proxyElementRetry(refEq(proxy), eq(locator), any(StaleElementReferenceException.class),
+                eq(1));
+        verify(listener).proxyElementRetry(refEq(proxy), eq(locator), any(StaleElementReferenceException.class),
+                eq(2));
+        verify(locator, times(3)).findElement();
+    }
+}
@@ -0,0 +1,263 @@
+package org.fluentlenium.core.proxy;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StalenessPolicyTest {
+    @Mock
+    private WebElement element;
+
+    @Mock
+    private WebElement element2;
+
+    @Mock
+    private ElementLocator locator;
+
+    private StalenessPolicy stalenessPolicy;
+
+    @Before
+    public void before() {
+        stalenessPolicy = LocatorProxies.getStalenessPolicy();
+        when(locator.findElement()).thenReturn(element);
+    }
+
+    @After
+    public void after() {
+        LocatorProxies.setStalenessPolicy(stalenessPolicy);
+    }
+
+    @Test
+    public void testDefaultPolicy() {
+        assertThat(stalenessPolicy).isInstanceOf(AlwaysCheckStalenessPolicy.class);
+    }
+
+    @Test
+    public void testNullPolicy() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                LocatorProxies.setStalenessPolicy(null);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testAlwaysCheckPolicyProbesEachCall() {
+        LocatorProxies.setStalenessPolicy(new AlwaysCheckStalenessPolicy());
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.getText();
+        proxy.getText();
+        proxy.getText();
+
+        verify(element, times(2)).isEnabled();
+    }
+
+    @Test
+    public void testNeverCheckPolicyNeverProbes() {
+        LocatorProxies.setStalenessPolicy(new NeverCheckStalenessPolicy());
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.getText();
+        proxy.click();
+        proxy.getText();
+
+        verify(element, never()).isEnabled();
+    }
+
+    @Test
+    public void testNeverCheckPolicyReloadsStaleElement() {
+        LocatorProxies.setStalenessPolicy(new NeverCheckStalenessPolicy());
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.getText();
+
+        when(element.getText()).thenThrow(StaleElementReferenceException.class);
+        when(locator.findElement()).thenReturn(element2);
+        when(element2.getText()).thenReturn("text");
+
+        assertThat(proxy.getText()).isEqualTo("text");
+    }
+
+    @Test
+    public void testDomEpochPolicyProbesAfterInvalidation() {
+        DomEpochStalenessPolicy domEpochPolicy = new DomEpochStalenessPolicy();
+        LocatorProxies.setStalenessPolicy(domEpochPolicy);
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.getText();
+        proxy.getText();
+        verify(element, never()).isEnabled();
+
+        proxy.click();
+        assertThat(domEpochPolicy.getEpoch()).isEqualTo(1);
+
+        proxy.getText();
+        proxy.getText();
+        verify(element, times(1)).isEnabled();
+
+        LocatorProxies.invalidateStaleness();
+        proxy.getText();
+        verify(element, times(2)).isEnabled();
+    }
+
+    @Test
+    public void testDomEpochPolicyWithDelegateBackend() {
+        ProxyBackend backend = LocatorProxies.getBackend();
+        LocatorProxies.setBackend(ProxyBackend.DELEGATE);
+        try {
+            LocatorProxies.setStalenessPolicy(new DomEpochStalenessPolicy());
+
+            WebElement proxy = LocatorProxies.createWebElement(locator);
+            proxy.getText();
+            proxy.sendKeys("text");
+            proxy.getText();
+            proxy.getText();
+
+            verify(element, times(1)).isEnabled();
+        } finally {
+            LocatorProxies.setBackend(backend);
+        }
+    }
+
+    @Test
+    public void testDomEpochSynchronize() {
+        DomEpochStalenessPolicy domEpochPolicy = new DomEpochStalenessPolicy();
+        JavascriptExecutor javascriptExecutor = mock(JavascriptExecutor.class);
+
+        when(javascriptExecutor.executeScript(DomEpochStalenessPolicy.SYNCHRONIZE_SCRIPT)).thenReturn(-1L, 0L, 3L);
+
+        assertThat(domEpochPolicy.synchronize(javascriptExecutor)).isTrue();
+        assertThat(domEpochPolicy.getEpoch()).isEqualTo(1);
+
+        assertThat(domEpochPolicy.synchronize(javascriptExecutor)).isFalse();
+        assertThat(domEpochPolicy.getEpoch()).isEqualTo(1);
+
+        assertThat(domEpochPolicy.synchronize(javascriptExecutor)).isTrue();
+        assertThat(domEpochPolicy.getEpoch()).isEqualTo(2);
+    }
+
+    private WebElement mockDriverElement(WebDriver driver) {
+        WebElement driverElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) driverElement).getWrappedDriver()).thenReturn(driver);
+        return driverElement;
+    }
+
+    @Test
+    public void testDomEpochPolicyIsPerDriver() {
+        DomEpochStalenessPolicy domEpochPolicy = new DomEpochStalenessPolicy();
+        LocatorProxies.setStalenessPolicy(domEpochPolicy);
+
+        WebDriver driver = mock(WebDriver.class);
+        WebDriver otherDriver = mock(WebDriver.class);
+        WebElement driverElement = mockDriverElement(driver);
+        WebElement otherDriverElement = mockDriverElement(otherDriver);
+
+        ElementLocator otherLocator = mock(ElementLocator.class);
+        when(locator.findElement()).thenReturn(driverElement);
+        when(otherLocator.findElement()).thenReturn(otherDriverElement);
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        WebElement otherProxy = LocatorProxies.createWebElement(otherLocator);
+        proxy.getText();
+        otherProxy.getText();
+
+        proxy.click();
+        LocatorProxies.invalidateStaleness(driver);
+        assertThat(domEpochPolicy.getEpoch(driver)).isEqualTo(2);
+        assertThat(domEpochPolicy.getEpoch(otherDriver)).isEqualTo(0);
+
+        proxy.getText();
+        otherProxy.getText();
+        verify(driverElement, times(1)).isEnabled();
+        verify(otherDriverElement, never()).isEnabled();
+
+        LocatorProxies.invalidateStaleness();
+        proxy.getText();
+        otherProxy.getText();
+        verify(driverElement, times(2)).isEnabled();
+        verify(otherDriverElement, times(1)).isEnabled();
+    }
+
+    @Test
+    public void testDomEpochPolicySynchronizesWhenChecking() {
+        DomEpochStalenessPolicy domEpochPolicy = new DomEpochStalenessPolicy(0, TimeUnit.MILLISECONDS);
+        LocatorProxies.setStalenessPolicy(domEpochPolicy);
+
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        when(((JavascriptExecutor) driver).executeScript(DomEpochStalenessPolicy.SYNCHRONIZE_SCRIPT))
+                .thenReturn(-1L, 0L, 2L);
+
+        WebElement driverElement = mockDriverElement(driver);
+        when(locator.findElement()).thenReturn(driverElement);
+
+        WebElement proxy = LocatorProxies.createWebElement(locator);
+        proxy.getText();
+
+        proxy.getText();
+        verify(driverElement, times(1)).isEnabled();
+
+        proxy.getText();
+        verify(driverElement, times(1)).isEnabled();
+
+        proxy.getText();
+        verify(driverElement, times(2)).isEnabled();
+
+        verify((JavascriptExecutor) driver, times(3)).executeScript(DomEpochStalenessPolicy.SYNCHRONIZE_SCRIPT);
+    }
+
+    @Test
+    public void testDomEpochPolicySynchronizeInterval() {
+        DomEpochStalenessPolicy domEpochPolicy = new DomEpochStalenessPolicy(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        assertThat(domEpochPolicy.getSynchronizeInterval(TimeUnit.NANOSECONDS)).isEqualTo(Long.MAX_VALUE);
+
+        WebDriver driver = mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+        long mark = domEpochPolicy.mark(driver);
+        assertThat(domEpochPolicy.isProbeRequired(driver, mark)).isFalse();
+        verify((JavascriptExecutor) driver, never()).executeScript(DomEpochStalenessPolicy.SYNCHRONIZE_SCRIPT);
+
+        assertThat(new DomEpochStalenessPolicy().getSynchronizeInterval(TimeUnit.MILLISECONDS))
+                .isEqualTo(DomEpochStalenessPolicy.DEFAULT_SYNCHRONIZE_INTERVAL);
+    }
+
+    @Test
+    public void testTimeToLivePolicy() throws InterruptedException {
+        TimeToLiveStalenessPolicy timeToLivePolicy = new TimeToLiveStalenessPolicy(200, TimeUnit.MILLISECONDS);
+        assertThat(timeToLivePolicy.getTimeToLive(TimeUnit.MILLISECONDS)).isEqualTo(200);
+
+        long mark = timeToLivePolicy.mark();
+        assertThat(timeToLivePolicy.isProbeRequired(mark)).isFalse();
+
+        Thread.sleep(250);
+        assertThat(timeToLivePolicy.isProbeRequired(mark)).isTrue();
+
+        mark = timeToLivePolicy.mark();
+        assertThat(timeToLivePolicy.isProbeRequired(mark)).isFalse();
+
+        timeToLivePolicy.invalidate();
+        assertThat(timeToLivePolicy.isProbeRequired(mark)).isTrue();
+    }
+}
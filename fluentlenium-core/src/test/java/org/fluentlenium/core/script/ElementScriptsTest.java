@@ -0,0 +1,20 @@
+package org.fluentlenium.core.script;
+
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ElementScriptsTest {
+    @Test
+    public void testToSelector() {
+        assertThat(ElementScripts.toSelector(By.cssSelector("td > a"))).containsExactly(ElementScripts.CSS, "td > a");
+        assertThat(ElementScripts.toSelector(By.tagName("td"))).containsExactly(ElementScripts.CSS, "td");
+        assertThat(ElementScripts.toSelector(By.xpath("./td"))).containsExactly(ElementScripts.XPATH, "./td");
+        assertThat(ElementScripts.toSelector(By.id("my\"id"))).containsExactly(ElementScripts.CSS, "[id=\"my\\\"id\"]");
+        assertThat(ElementScripts.toSelector(By.name("name"))).containsExactly(ElementScripts.CSS, "[name=\"name\"]");
+        assertThat(ElementScripts.toSelector(By.className("small")))
+                .containsExactly(ElementScripts.CSS, "[class~=\"small\"]");
+        assertThat(ElementScripts.toSelector(By.linkText("link"))).isNull();
+    }
+}
@@ -17,10 +17,15 @@ import org.mockito.Matchers;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.internal.WrapsDriver;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -28,11 +33,17 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.fluentlenium.core.filter.FilterConstructor.withName;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
 
 @RunWith(MockitoJUnitRunner.class)
 public class SearchTest {
@@ -218,4 +229,174 @@ public class SearchTest {
         assertThat(fluentWebElement.getTagName()).isEqualTo("span");
     }
 
+    @Test
+    public void postFiltersAreEvaluatedOncePerLocate() {
+        WebElement webElement1 = mock(WebElement.class);
+        when(webElement1.getAttribute("name")).thenReturn("match");
+        when(webElement1.isEnabled()).thenReturn(true);
+        WebElement webElement2 = mock(WebElement.class);
+        when(webElement2.getAttribute("name")).thenReturn("other");
+        List<WebElement> webElements = Lists.newArrayList(webElement1, webElement2);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+
+        when(filter1.isPreFilter()).thenReturn(false);
+        when(filter1.getAttribut()).thenReturn("name");
+        when(filter1.getMatcher()).thenReturn(matcher1);
+        when(matcher1.isSatisfiedBy("match")).thenReturn(true);
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", filter1);
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.first().getElement().getAttribute("name")).isEqualTo("match");
+        fluentList.click();
+
+        verify(searchContext, times(1)).findElements(By.cssSelector("cssStyle"));
+        verify(matcher1, times(1)).isSatisfiedBy("match");
+        verify(matcher1, times(1)).isSatisfiedBy("other");
+        verify(webElement1).click();
+
+        fluentList.reset();
+        fluentList.now();
+
+        verify(searchContext, times(2)).findElements(By.cssSelector("cssStyle"));
+        verify(matcher1, times(2)).isSatisfiedBy("match");
+    }
+
+    @Test
+    public void postFilterLocatorThrowsWhenNothingMatches() {
+        ElementLocator locator = mock(ElementLocator.class);
+        when(locator.findElements()).thenReturn(Collections.<WebElement>emptyList());
+        final PostFilterElementLocator postFilterLocator = new PostFilterElementLocator(locator,
+                Collections.singletonList(withName("name")),
+                new DefaultComponentInstantiator(new FluentAdapter(driver)));
+
+        assertThat(postFilterLocator.findElements()).isEmpty();
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                postFilterLocator.findElement();
+            }
+        }).isExactlyInstanceOf(NoSuchElementException.class);
+    }
+
+    private WebElement scriptableElement(JavascriptExecutor executor) {
+        WebElement webElement = mock(WebElement.class, withSettings().extraInterfaces(WrapsDriver.class));
+        when(((WrapsDriver) webElement).getWrappedDriver()).thenReturn((WebDriver) executor);
+        return webElement;
+    }
+
+    @Test
+    public void postFiltersAreEvaluatedByBrowserInSingleScript() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement webElement1 = scriptableElement(executor);
+        WebElement webElement2 = scriptableElement(executor);
+        List<WebElement> webElements = Lists.newArrayList(webElement1, webElement2);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenReturn(Collections.<Object>singletonList(1L));
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", withName().notContains("toto"),
+                withText().contains("text"));
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.first().getElement()).isEqualTo(webElement2);
+
+        verify(executor, times(1)).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(webElement1, never()).getAttribute(anyString());
+        verify(webElement1, never()).getText();
+        verify(webElement2, never()).getText();
+    }
+
+    @Test
+    public void postFiltersFallbackToPredicatesWhenScriptFails() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement webElement1 = scriptableElement(executor);
+        when(webElement1.getAttribute("name")).thenReturn("name");
+        WebElement webElement2 = scriptableElement(executor);
+        when(webElement2.getAttribute("name")).thenReturn("other");
+        List<WebElement> webElements = Lists.newArrayList(webElement1, webElement2);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new UnsupportedOperationException("Javascript is not enabled"));
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", withName().notContains("other"));
+
+        assertThat(fluentList).hasSize(1);
+        assertThat(fluentList.first().getElement()).isEqualTo(webElement1);
+
+        fluentList.reset();
+        fluentList.now();
+
+        verify(executor, times(1)).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(webElement1, times(2)).getAttribute("name");
+    }
+
+    @Test
+    public void postFiltersFallbackToPredicatesWhenScriptResultIsUnexpected() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement webElement1 = scriptableElement(executor);
+        when(webElement1.getAttribute("name")).thenReturn("name");
+        List<WebElement> webElements = Lists.<WebElement>newArrayList(webElement1);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn("unexpected");
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", withName().notContains("other"));
+
+        assertThat(fluentList).hasSize(1);
+
+        fluentList.reset();
+        fluentList.now();
+
+        verify(executor, times(1)).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(webElement1, times(2)).getAttribute("name");
+    }
+
+    @Test
+    public void postFiltersKeepScriptAfterTransientFailure() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement webElement1 = scriptableElement(executor);
+        when(webElement1.getAttribute("name")).thenReturn("name");
+        List<WebElement> webElements = Lists.<WebElement>newArrayList(webElement1);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new WebDriverException("Page is loading"))
+                .thenReturn(Collections.<Object>singletonList(0L));
+
+        FluentList<FluentWebElement> fluentList = search.find("cssStyle", withName().notContains("other"));
+
+        assertThat(fluentList).hasSize(1);
+        verify(webElement1, times(1)).getAttribute("name");
+
+        fluentList.reset();
+        fluentList.now();
+
+        verify(executor, times(2)).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(webElement1, times(1)).getAttribute("name");
+    }
+
+    @Test
+    public void postFiltersReportStaleElements() {
+        JavascriptExecutor executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        WebElement webElement1 = scriptableElement(executor);
+        List<WebElement> webElements = Lists.<WebElement>newArrayList(webElement1);
+        when(searchContext.findElements(By.cssSelector("cssStyle"))).thenReturn(webElements);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new StaleElementReferenceException("Element is stale"))
+                .thenReturn(Collections.<Object>singletonList(0L));
+
+        final FluentList<FluentWebElement> fluentList = search.find("cssStyle", withName().notContains("other"));
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                fluentList.now();
+            }
+        }).isInstanceOf(StaleElementReferenceException.class);
+
+        fluentList.reset();
+        assertThat(fluentList).hasSize(1);
+
+        verify(executor, times(2)).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(webElement1, never()).getAttribute("name");
+    }
 }
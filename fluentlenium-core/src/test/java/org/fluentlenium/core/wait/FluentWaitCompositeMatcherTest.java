@@ -0,0 +1,182 @@
+package org.fluentlenium.core.wait;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.conditions.FluentListConditions;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FluentWaitCompositeMatcherTest {
+    @Mock
+    private Search search;
+
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private FluentList<FluentWebElement> list;
+
+    @Mock
+    private FluentListConditions conditions;
+
+    private JavascriptExecutor executor;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        when(fluent.getDriver()).thenReturn((WebDriver) executor);
+
+        wait = new FluentWait(fluent, search);
+        wait.atMost(10L, TimeUnit.MILLISECONDS);
+        wait.pollingEvery(1L, TimeUnit.MILLISECONDS);
+
+        when(search.find(Matchers.<By>any(), Matchers.<Filter>anyVararg())).thenReturn(list);
+        when(list.now()).thenReturn(list);
+        when(list.one()).thenReturn(conditions);
+        when(conditions.not()).thenReturn(conditions);
+    }
+
+    @Test
+    public void testAllConditionsWithSingleScript() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList(true, true));
+
+        assertThat(wait.untilAll().until(".spinner").not().isPresent().until(By.id("submit")).isEnabled().verify())
+                .isTrue();
+
+        verify(executor).executeScript(FluentWaitCompositeMatcher.SCRIPT, Arrays.asList(
+                Arrays.<Object>asList("css", ".spinner", Arrays.asList(), DomObserverScript.PRESENT, "", "", true),
+                Arrays.<Object>asList("css", "[id=\"submit\"]", Arrays.asList(), DomObserverScript.ENABLED, "", "",
+                        false)));
+        verify(search, never()).find(Matchers.<By>any(), Matchers.<Filter>anyVararg());
+    }
+
+    @Test
+    public void testAllConditionsReportsFailingCondition() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList(true, false));
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.untilAll().until(".spinner").not().isPresent().until(".row", withText("done")).hasSize(3)
+                        .verify();
+            }
+        }).isExactlyInstanceOf(TimeoutException.class).hasMessageContaining(
+                "all conditions, still failing: " + FluentWaitMessages.hasSizeMessage("Selector .row[text=\"done\"]", 3)
+                        + "\n");
+    }
+
+    @Test
+    public void testAnyCondition() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList(false, true));
+
+        assertThat(wait.untilAny().until(".error").isDisplayed().until(".success").hasText("Saved").verify()).isTrue();
+    }
+
+    @Test
+    public void testAnyConditionFailing() {
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(Arrays.asList(false, false));
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.untilAny().until(".error").isDisplayed().until(".success").hasText("Saved").verify();
+            }
+        }).isExactlyInstanceOf(TimeoutException.class).hasMessageContaining("any condition")
+                .hasMessageContaining(".error").hasMessageContaining(".success");
+    }
+
+    @Test
+    public void testFallbackToEachCondition() {
+        wait.atMost(1L, TimeUnit.SECONDS);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new UnsupportedOperationException("Javascript is not enabled"));
+        when(conditions.isPresent()).thenReturn(false, true);
+        when(conditions.hasAttribute("value", "1")).thenReturn(true);
+
+        assertThat(wait.untilAll().until(".spinner").not().isPresent().until("input").hasAttribute("value", "1")
+                .verify()).isTrue();
+
+        verify(conditions, times(2)).isPresent();
+        verify(conditions, atLeastOnce()).hasAttribute("value", "1");
+        verify(executor, times(1)).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testScriptRetriedAfterDriverError() {
+        wait.atMost(1L, TimeUnit.SECONDS);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new WebDriverException("Page is loading")).thenReturn(Arrays.asList(true, true));
+        when(conditions.isPresent()).thenReturn(false);
+
+        assertThat(wait.untilAll().until(".spinner").not().isPresent().until("input").hasAttribute("value", "1")
+                .verify()).isTrue();
+
+        verify(conditions, times(1)).isPresent();
+        verify(executor, times(2)).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testUnexpectedScriptResultEvaluatesEachCondition() {
+        wait.atMost(1L, TimeUnit.SECONDS);
+        when(executor.executeScript(anyString(), Matchers.<Object>anyVararg())).thenReturn("unexpected");
+        when(conditions.isPresent()).thenReturn(false, true);
+        when(conditions.hasAttribute("value", "1")).thenReturn(true);
+
+        assertThat(wait.untilAll().until(".spinner").not().isPresent().until("input").hasAttribute("value", "1")
+                .verify()).isTrue();
+
+        verify(executor, times(1)).executeScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testUnsupportedLocatorEvaluatesEachCondition() {
+        when(conditions.hasSize(2)).thenReturn(true);
+
+        assertThat(wait.untilAll().until(By.linkText("link")).hasSize(2).verify()).isTrue();
+
+        verify(executor, never()).executeScript(anyString(), Matchers.<Object>anyVararg());
+        verify(search).find(eq(By.linkText("link")), Matchers.<Filter>anyVararg());
+    }
+
+    @Test
+    public void testNoCondition() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.untilAll().verify();
+            }
+        }).isExactlyInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,185 @@
+package org.fluentlenium.core.wait;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.conditions.FluentListConditions;
+import org.fluentlenium.core.domain.FluentList;
+import org.fluentlenium.core.domain.FluentWebElement;
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Matchers;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@RunWith(MockitoJUnitRunner.class)
+public class FluentWaitObserveDomTest {
+    @Mock
+    private Search search;
+
+    @Mock
+    private FluentDriver fluent;
+
+    @Mock
+    private FluentList<FluentWebElement> list;
+
+    @Mock
+    private FluentListConditions conditions;
+
+    private JavascriptExecutor executor;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        executor = mock(JavascriptExecutor.class, withSettings().extraInterfaces(WebDriver.class));
+        when(fluent.getDriver()).thenReturn((WebDriver) executor);
+
+        wait = new FluentWait(fluent, search, 10000L);
+        wait.atMost(2L, TimeUnit.SECONDS);
+        wait.pollingEvery(1L, TimeUnit.MILLISECONDS);
+
+        when(search.find(Matchers.<By>any())).thenReturn(list);
+        when(list.now()).thenReturn(list);
+        when(list.one()).thenReturn(conditions);
+    }
+
+    @Test
+    public void testIsPresentInBrowser() {
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(true);
+
+        assertThat(wait.observeDom().until(".item").isPresent()).isTrue();
+
+        verify(executor).executeAsyncScript(DomObserverScript.SCRIPT, "css", ".item",
+                Collections.emptyList(), DomObserverScript.PRESENT, "", "", false, 2000L, 1L);
+        verify(search, never()).find(Matchers.<By>any());
+    }
+
+    @Test
+    public void testNegatedSizeWithFiltersInBrowser() {
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(true);
+
+        assertThat(wait.observeDom().until(By.xpath("//li")).with("text").equalTo("item").not().hasSize(2)).isTrue();
+
+        verify(executor).executeAsyncScript(eq(DomObserverScript.SCRIPT), eq("xpath"), eq("//li"),
+                Matchers.<Object>any(), eq(DomObserverScript.SIZE), eq(""), eq(2), eq(true), eq(2000L), eq(1L));
+    }
+
+    @Test
+    public void testScriptTimeoutExtendedAndRestored() {
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+        when(((WebDriver) executor).manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(true);
+
+        FluentWait configuredWait = new FluentWait(fluent, search, 1500L).atMost(2L, TimeUnit.SECONDS);
+        configuredWait.observeDom().until(".item").isPresent();
+
+        InOrder inOrder = inOrder(timeouts, executor);
+        inOrder.verify(timeouts).setScriptTimeout(2000L + FluentWait.SCRIPT_TIMEOUT_MARGIN, TimeUnit.MILLISECONDS);
+        inOrder.verify(executor).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+        inOrder.verify(timeouts).setScriptTimeout(1500L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    public void testScriptTimeoutNotChangedWhenLongEnough() {
+        WebDriver.Options options = mock(WebDriver.Options.class);
+        WebDriver.Timeouts timeouts = mock(WebDriver.Timeouts.class);
+        when(((WebDriver) executor).manage()).thenReturn(options);
+        when(options.timeouts()).thenReturn(timeouts);
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(true);
+
+        wait.observeDom().until(".item").isPresent();
+
+        verify(timeouts, never()).setScriptTimeout(Matchers.anyLong(), Matchers.<TimeUnit>any());
+    }
+
+    @Test
+    public void testPollingWithoutConfiguredScriptTimeout() {
+        when(conditions.isEnabled()).thenReturn(true);
+
+        assertThat(new FluentWait(fluent, search).observeDom().until(".item").isEnabled()).isTrue();
+
+        verify(executor, never()).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+        verify(conditions).isEnabled();
+    }
+
+    @Test
+    public void testTimeoutInBrowser() {
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg())).thenReturn(false);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.observeDom().until(".item").isDisplayed();
+            }
+        }).isExactlyInstanceOf(TimeoutException.class).hasMessageContaining(".item is not displayed");
+
+        verify(search, never()).find(Matchers.<By>any());
+    }
+
+    @Test
+    public void testFallbackToPollingOnScriptFailure() {
+        when(executor.executeAsyncScript(anyString(), Matchers.<Object>anyVararg()))
+                .thenThrow(new TimeoutException("Timed out waiting for async script result"));
+        when(conditions.isEnabled()).thenReturn(true);
+
+        assertThat(wait.observeDom().until(".item").isEnabled()).isTrue();
+
+        verify(conditions).isEnabled();
+    }
+
+    @Test
+    public void testPollingWithoutObserveDom() {
+        when(conditions.isEnabled()).thenReturn(true);
+
+        assertThat(wait.until(".item").isEnabled()).isTrue();
+
+        verify(executor, never()).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testPollingUnsupportedCondition() {
+        when(conditions.isSelected()).thenReturn(true);
+
+        assertThat(wait.observeDom().until(".item").isSelected()).isTrue();
+        assertThat(wait.observeDom().until(By.linkText("item")).isSelected()).isTrue();
+
+        verify(executor, never()).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+    }
+
+    @Test
+    public void testPollingUnsupportedFilter() {
+        when(search.find(Matchers.<By>any(), Matchers.<Filter>anyVararg()))
+                .thenReturn(list);
+        when(conditions.hasText("item")).thenReturn(true);
+
+        assertThat(wait.observeDom().until(".item").with("text").contains(Pattern.compile("\\Aitem"))
+                .hasText("item")).isTrue();
+
+        verify(executor, never()).executeAsyncScript(anyString(), Matchers.<Object>anyVararg());
+    }
+}
@@ -0,0 +1,149 @@
+package org.fluentlenium.core.wait;
+
+import com.google.common.base.Supplier;
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.search.Search;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class PollingStrategyTest {
+    @Mock
+    private Search search;
+
+    @Mock
+    private FluentDriver fluent;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        wait = new FluentWait(fluent, search);
+    }
+
+    @Test
+    public void testBackoffIntervals() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(10, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(strategy.getPollingInterval(0, 0)).isEqualTo(10);
+        assertThat(strategy.getPollingInterval(1, 10)).isEqualTo(20);
+        assertThat(strategy.getPollingInterval(2, 30)).isEqualTo(40);
+        assertThat(strategy.getPollingInterval(3, 70)).isEqualTo(50);
+        assertThat(strategy.getPollingInterval(100, 5000)).isEqualTo(50);
+    }
+
+    @Test
+    public void testBackoffJitter() {
+        BackoffPollingStrategy strategy = new BackoffPollingStrategy(1, 2, TimeUnit.SECONDS, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(strategy.getPollingInterval(0, 0)).isBetween(500L, 1000L);
+            assertThat(strategy.getPollingInterval(5, 0)).isBetween(1000L, 2000L);
+        }
+    }
+
+    @Test
+    public void testFastStartIntervals() {
+        FastStartPollingStrategy strategy = new FastStartPollingStrategy(500, TimeUnit.MILLISECONDS);
+
+        assertThat(strategy.getPollingInterval(0, 0)).isEqualTo(FastStartPollingStrategy.DEFAULT_FAST_INTERVAL);
+        assertThat(strategy.getPollingInterval(5, 190)).isEqualTo(10);
+        assertThat(strategy.getPollingInterval(10, 200)).isEqualTo(500);
+    }
+
+    @Test
+    public void testInvalidStrategies() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new BackoffPollingStrategy(-1, 10, TimeUnit.MILLISECONDS);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new BackoffPollingStrategy(1, 10, TimeUnit.MILLISECONDS, 2);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                new FastStartPollingStrategy(-1, TimeUnit.MILLISECONDS);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.pollingWith(null);
+            }
+        }).isExactlyInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testWaitPollsWithStrategy() {
+        final AtomicInteger polls = new AtomicInteger();
+        wait.atMost(300, TimeUnit.MILLISECONDS)
+                .pollingWith(new FastStartPollingStrategy(10, 100, 1, TimeUnit.MILLISECONDS));
+
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.until(new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        polls.incrementAndGet();
+                        return false;
+                    }
+                });
+            }
+        }).isExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(polls.get()).isGreaterThan(20);
+    }
+
+    @Test
+    public void testWaitDoesNotSleepPastTimeout() {
+        final AtomicInteger polls = new AtomicInteger();
+        wait.atMost(100, TimeUnit.MILLISECONDS).pollingWith(new BackoffPollingStrategy(1, 1, TimeUnit.MINUTES));
+
+        long start = System.currentTimeMillis();
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.until(new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        polls.incrementAndGet();
+                        return false;
+                    }
+                });
+            }
+        }).isExactlyInstanceOf(TimeoutException.class);
+
+        assertThat(System.currentTimeMillis() - start).isLessThan(10000);
+        assertThat(polls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void testFixedIntervalReplacesStrategy() {
+        wait.pollingWith(new BackoffPollingStrategy(10, 100, TimeUnit.MILLISECONDS));
+        assertThat(wait.getPollingStrategy()).isInstanceOf(BackoffPollingStrategy.class);
+
+        wait.pollingEvery(100, TimeUnit.MILLISECONDS);
+        assertThat(wait.getPollingStrategy()).isNull();
+    }
+}
@@ -0,0 +1,103 @@
+package org.fluentlenium.core.wait.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WaitMetricsSummaryTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private WaitMetricsSummary summary;
+
+    @Before
+    public void before() {
+        summary = new WaitMetricsSummary();
+    }
+
+    private void waited(String callSite, String message, long millis, int polls, WaitOutcome outcome) {
+        summary.waited(new WaitTiming(callSite, message, TimeUnit.MILLISECONDS.toNanos(millis), polls, outcome));
+    }
+
+    @Test
+    public void aggregates_timings_per_call_site() {
+        waited("LoginTest.login(LoginTest.java:10)", "button is not clickable", 50, 1, WaitOutcome.SUCCESS);
+        waited("LoginTest.login(LoginTest.java:10)", "button is not clickable", 5000, 10, WaitOutcome.TIMEOUT);
+        waited("SearchTest.search(SearchTest.java:20)", "results are not present", 300, 3, WaitOutcome.SUCCESS);
+
+        assertThat(summary.getCallSites()).containsExactly("LoginTest.login(LoginTest.java:10)",
+                "SearchTest.search(SearchTest.java:20)");
+        assertThat(summary.getCount("LoginTest.login(LoginTest.java:10)")).isEqualTo(2);
+        assertThat(summary.getCount("LoginTest.login(LoginTest.java:10)", WaitOutcome.TIMEOUT)).isEqualTo(1);
+        assertThat(summary.getCount("LoginTest.login(LoginTest.java:10)", WaitOutcome.FAILURE)).isEqualTo(0);
+        assertThat(summary.getTotalDuration("LoginTest.login(LoginTest.java:10)", TimeUnit.MILLISECONDS))
+                .isEqualTo(5050);
+        assertThat(summary.getTotalPolls("LoginTest.login(LoginTest.java:10)")).isEqualTo(11);
+        assertThat(summary.getCount("Unknown.test(Unknown.java:1)")).isEqualTo(0);
+
+        summary.reset();
+        assertThat(summary.getCallSites()).isEmpty();
+    }
+
+    @Test
+    public void renders_json_histograms() throws IOException {
+        waited("SearchTest.search(SearchTest.java:20)", "results are not present", 300, 3, WaitOutcome.SUCCESS);
+        waited("LoginTest.login(LoginTest.java:10)", "button is not clickable", 50, 1, WaitOutcome.SUCCESS);
+        waited("LoginTest.login(LoginTest.java:10)", "form is not displayed", 20000, 100, WaitOutcome.TIMEOUT);
+
+        File file = temporaryFolder.newFile("wait-metrics.json");
+        summary.write(file);
+
+        JsonObject json = new JsonParser().parse(FileUtils.readFileToString(file, StandardCharsets.UTF_8))
+                .getAsJsonObject();
+        JsonArray callSites = json.getAsJsonArray("callSites");
+        assertThat(callSites.size()).isEqualTo(2);
+
+        JsonObject login = callSites.get(0).getAsJsonObject();
+        assertThat(login.get("callSite").getAsString()).isEqualTo("LoginTest.login(LoginTest.java:10)");
+        assertThat(login.get("count").getAsLong()).isEqualTo(2);
+        assertThat(login.get("successCount").getAsLong()).isEqualTo(1);
+        assertThat(login.get("timeoutCount").getAsLong()).isEqualTo(1);
+        assertThat(login.get("maxMillis").getAsLong()).isEqualTo(20000);
+        assertThat(login.get("meanPolls").getAsDouble()).isEqualTo(50.5);
+        assertThat(login.getAsJsonObject("durationHistogram").get("<=100ms").getAsLong()).isEqualTo(1);
+        assertThat(login.getAsJsonObject("durationHistogram").get(">10000ms").getAsLong()).isEqualTo(1);
+        assertThat(login.getAsJsonObject("pollsHistogram").get("<=1 polls").getAsLong()).isEqualTo(1);
+        assertThat(login.getAsJsonObject("pollsHistogram").get(">50 polls").getAsLong()).isEqualTo(1);
+        assertThat(login.getAsJsonObject("messages").get("form is not displayed").getAsLong()).isEqualTo(1);
+
+        JsonObject search = callSites.get(1).getAsJsonObject();
+        assertThat(search.get("callSite").getAsString()).isEqualTo("SearchTest.search(SearchTest.java:20)");
+        assertThat(search.getAsJsonObject("durationHistogram").get("<=500ms").getAsLong()).isEqualTo(1);
+        assertThat(search.getAsJsonObject("pollsHistogram").get("<=5 polls").getAsLong()).isEqualTo(1);
+    }
+
+    @Test
+    public void renders_csv() throws IOException {
+        waited("LoginTest.login(LoginTest.java:10)", "Element \"button\" is not clickable", 50, 1,
+                WaitOutcome.SUCCESS);
+
+        File file = temporaryFolder.newFile("wait-metrics.csv");
+        summary.writeCsv(file);
+
+        String[] lines = FileUtils.readFileToString(file, StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("callSite,count,successCount,timeoutCount,failureCount,totalMillis,")
+                .contains(",<=100ms,").contains(",>50 polls,").endsWith(",messages");
+        assertThat(lines[1]).startsWith("LoginTest.login(LoginTest.java:10),1,1,0,0,50,50,50,1.0,1,1,0,")
+                .endsWith(",\"Element \"\"button\"\" is not clickable\"");
+    }
+}
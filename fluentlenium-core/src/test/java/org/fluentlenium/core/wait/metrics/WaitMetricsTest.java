@@ -0,0 +1,192 @@
+package org.fluentlenium.core.wait.metrics;
+
+import com.google.common.base.Supplier;
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.core.FluentDriver;
+import org.fluentlenium.core.search.Search;
+import org.fluentlenium.core.wait.FluentWait;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.openqa.selenium.TimeoutException;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class WaitMetricsTest {
+
+    private WaitMetricsListener listener;
+
+    private WaitMetricsListener failingListener;
+
+    private FluentWait wait;
+
+    @Before
+    public void before() {
+        listener = mock(WaitMetricsListener.class);
+        failingListener = mock(WaitMetricsListener.class);
+        doThrow(new IllegalStateException()).when(failingListener).waited(any(WaitTiming.class));
+
+        WaitMetrics.INSTANCE.addListener(failingListener);
+        WaitMetrics.INSTANCE.addListener(listener);
+
+        wait = new FluentWait(mock(FluentDriver.class), mock(Search.class));
+        wait.atMost(200, TimeUnit.MILLISECONDS).pollingEvery(10, TimeUnit.MILLISECONDS);
+    }
+
+    @After
+    public void after() {
+        WaitMetrics.INSTANCE.removeListener(failingListener);
+        WaitMetrics.INSTANCE.removeListener(listener);
+    }
+
+    private WaitTiming getTiming() {
+        ArgumentCaptor<WaitTiming> timing = ArgumentCaptor.forClass(WaitTiming.class);
+        verify(listener).waited(timing.capture());
+        return timing.getValue();
+    }
+
+    @Test
+    public void record_notifies_listeners() {
+        WaitMetrics.INSTANCE.record("message", TimeUnit.MILLISECONDS.toNanos(20), 3, WaitOutcome.SUCCESS);
+
+        WaitTiming timing = getTiming();
+        assertThat(timing.getCallSite()).startsWith(WaitMetricsTest.class.getName() + ".record_notifies_listeners(");
+        assertThat(timing.getMessage()).isEqualTo("message");
+        assertThat(timing.getDuration(TimeUnit.MILLISECONDS)).isEqualTo(20);
+        assertThat(timing.getPolls()).isEqualTo(3);
+        assertThat(timing.getOutcome()).isEqualTo(WaitOutcome.SUCCESS);
+    }
+
+    @Test
+    public void record_aggregates_summary_only_with_summary_file() {
+        String callSite = WaitMetricsTest.class.getName() + ".record";
+        WaitMetrics.INSTANCE.record("message", TimeUnit.MILLISECONDS.toNanos(20), 1, WaitOutcome.SUCCESS);
+        assertThat(getSummaryCount(callSite)).isEqualTo(0);
+
+        WaitMetrics.INSTANCE.setSummaryFile(new File("wait-metrics.json"));
+        try {
+            WaitMetrics.INSTANCE.record("message", TimeUnit.MILLISECONDS.toNanos(20), 1, WaitOutcome.SUCCESS);
+            assertThat(getSummaryCount(callSite)).isEqualTo(1);
+        } finally {
+            WaitMetrics.INSTANCE.setSummaryFile(null);
+            WaitMetrics.INSTANCE.getSummary().reset();
+        }
+    }
+
+    private long getSummaryCount(String callSitePrefix) {
+        long count = 0;
+        for (String callSite : WaitMetrics.INSTANCE.getSummary().getCallSites()) {
+            if (callSite.startsWith(callSitePrefix)) {
+                count += WaitMetrics.INSTANCE.getSummary().getCount(callSite);
+            }
+        }
+        return count;
+    }
+
+    @Test
+    public void record_is_disabled_without_summary_file_and_listeners() {
+        WaitMetrics.INSTANCE.removeListener(failingListener);
+        WaitMetrics.INSTANCE.removeListener(listener);
+        assertThat(WaitMetrics.INSTANCE.isEnabled()).isFalse();
+
+        wait.until(new Supplier<Boolean>() {
+            @Override
+            public Boolean get() {
+                return true;
+            }
+        });
+
+        verify(listener, never()).waited(any(WaitTiming.class));
+        assertThat(WaitMetrics.INSTANCE.getSummary().getCallSites()).isEmpty();
+    }
+
+    @Test
+    public void call_site_skips_library_frames() {
+        String callSite = WaitMetrics.INSTANCE.getCallSite(
+                new StackTraceElement("org.fluentlenium.core.wait.FluentWait", "until", "FluentWait.java", 10),
+                new StackTraceElement("org.openqa.selenium.support.ui.FluentWait", "until", "FluentWait.java", 20),
+                new StackTraceElement("com.sun.proxy.$Proxy12", "click", null, -1),
+                new StackTraceElement("org.fluentlenium.core.domain.FluentWebElement$$EnhancerByCGLIB$$1", "click",
+                        null, -1),
+                new StackTraceElement("com.example.LoginTest", "login", "LoginTest.java", 42),
+                new StackTraceElement("org.junit.runners.ParentRunner", "run", "ParentRunner.java", 300));
+
+        assertThat(callSite).isEqualTo("com.example.LoginTest.login(LoginTest.java:42)");
+        assertThat(WaitMetrics.INSTANCE.getCallSite(
+                new StackTraceElement("java.lang.Thread", "run", "Thread.java", 1))).isEqualTo("unknown");
+    }
+
+    @Test
+    public void fluent_wait_records_polls() {
+        final AtomicInteger evaluations = new AtomicInteger();
+        wait.withMessage("three evaluations").until(new Supplier<Boolean>() {
+            @Override
+            public Boolean get() {
+                return evaluations.incrementAndGet() == 3;
+            }
+        });
+
+        WaitTiming timing = getTiming();
+        assertThat(timing.getCallSite()).startsWith(WaitMetricsTest.class.getName() + ".fluent_wait_records_polls(");
+        assertThat(timing.getMessage()).isEqualTo("three evaluations");
+        assertThat(timing.getPolls()).isEqualTo(3);
+        assertThat(timing.getOutcome()).isEqualTo(WaitOutcome.SUCCESS);
+    }
+
+    @Test
+    public void fluent_wait_records_timeout() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.until(new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        return false;
+                    }
+
+                    @Override
+                    public String toString() {
+                        return "never";
+                    }
+                });
+            }
+        }).isExactlyInstanceOf(TimeoutException.class);
+
+        WaitTiming timing = getTiming();
+        assertThat(timing.getMessage()).startsWith(WaitMetricsTest.class.getName() + "$").doesNotContain("@")
+                .doesNotContain("never");
+        assertThat(timing.getPolls()).isGreaterThan(1);
+        assertThat(timing.getDuration(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200);
+        assertThat(timing.getOutcome()).isEqualTo(WaitOutcome.TIMEOUT);
+    }
+
+    @Test
+    public void fluent_wait_records_failure() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                wait.until(new Supplier<Boolean>() {
+                    @Override
+                    public Boolean get() {
+                        throw new IllegalStateException();
+                    }
+                });
+            }
+        }).isExactlyInstanceOf(IllegalStateException.class);
+
+        WaitTiming timing = getTiming();
+        assertThat(timing.getPolls()).isEqualTo(1);
+        assertThat(timing.getOutcome()).isEqualTo(WaitOutcome.FAILURE);
+    }
+}
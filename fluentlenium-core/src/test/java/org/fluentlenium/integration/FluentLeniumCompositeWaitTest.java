@@ -0,0 +1,53 @@
+package org.fluentlenium.integration;
+
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+
+public class FluentLeniumCompositeWaitTest extends IntegrationFluentTest {
+
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+    }
+
+    @Test
+    public void checkAwaitAllConditions() {
+        await().atMost(2, TimeUnit.SECONDS).untilAll()
+                .until("#newField").isPresent()
+                .until("#default").hasText("wait2")
+                .until(By.xpath("//div/div"), withText("new")).hasSize(1)
+                .until("#disabled").not().isEnabled()
+                .verify();
+    }
+
+    @Test
+    public void checkAwaitAnyCondition() {
+        await().atMost(2, TimeUnit.SECONDS).untilAny()
+                .until("#newFieldSlow").isPresent()
+                .until("#default").containsText("wait")
+                .verify();
+    }
+
+    @Test
+    public void checkAwaitAllConditionsTimeout() {
+        assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                await().atMost(1, TimeUnit.SECONDS).untilAll()
+                        .until("#newField").isPresent()
+                        .until("#newFieldSlow").isPresent()
+                        .verify();
+            }
+        }).isExactlyInstanceOf(TimeoutException.class)
+                .hasMessageContaining("still failing: Selector #newFieldSlow is not present");
+    }
+}
@@ -0,0 +1,51 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.configuration.FluentConfiguration;
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@FluentConfiguration(scriptTimeout = 10000)
+public class FluentLeniumObserveDomTest extends IntegrationFluentTest {
+
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+    }
+
+    @Test
+    public void checkAwaitPresenceOfAjaxElement() {
+        await().atMost(2, TimeUnit.SECONDS).observeDom().until("#newField").isPresent();
+        assertThat($("#newField").first().getText()).isEqualTo("new");
+    }
+
+    @Test
+    public void checkAwaitTextChanges() {
+        await().atMost(2, TimeUnit.SECONDS).observeDom().until("#default").hasText("wait2");
+        assertThat($("#default").first().getText()).isEqualTo("wait2");
+    }
+
+    @Test
+    public void checkAwaitSizeWithFilter() {
+        await().atMost(2, TimeUnit.SECONDS).observeDom().until(By.xpath("//div")).with("id").equalTo("newField")
+                .hasSize(1);
+    }
+
+    @Test
+    public void checkAwaitNegatedConditions() {
+        await().atMost(1, TimeUnit.SECONDS).observeDom().until("#unvisible").not().isDisplayed();
+        await().atMost(1, TimeUnit.SECONDS).observeDom().until("#disabled").not().isEnabled();
+        await().atMost(1, TimeUnit.SECONDS).observeDom().until("#default").not().hasId("other");
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void checkAwaitTimeout() {
+        await().atMost(200, TimeUnit.MILLISECONDS).observeDom().until("#newFieldSlow").isPresent();
+    }
+}
@@ -0,0 +1,52 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.core.wait.metrics.WaitMetrics;
+import org.fluentlenium.core.wait.metrics.WaitMetricsListener;
+import org.fluentlenium.core.wait.metrics.WaitOutcome;
+import org.fluentlenium.core.wait.metrics.WaitTiming;
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FluentLeniumWaitMetricsTest extends IntegrationFluentTest {
+
+    private final List<WaitTiming> timings = new CopyOnWriteArrayList<>();
+
+    private final WaitMetricsListener listener = new WaitMetricsListener() {
+        @Override
+        public void waited(WaitTiming timing) {
+            timings.add(timing);
+        }
+    };
+
+    @Before
+    public void before() {
+        goTo(JAVASCRIPT_URL);
+        WaitMetrics.INSTANCE.addListener(listener);
+    }
+
+    @After
+    public void after() {
+        WaitMetrics.INSTANCE.removeListener(listener);
+    }
+
+    @Test
+    public void checkWaitIsRecordedAtCallSite() {
+        await().atMost(2, TimeUnit.SECONDS).until("#newField").isPresent();
+
+        assertThat(timings).hasSize(1);
+        WaitTiming timing = timings.get(0);
+        assertThat(timing.getCallSite())
+                .startsWith(FluentLeniumWaitMetricsTest.class.getName() + ".checkWaitIsRecordedAtCallSite(");
+        assertThat(timing.getMessage()).contains("#newField");
+        assertThat(timing.getPolls()).isGreaterThanOrEqualTo(1);
+        assertThat(timing.getOutcome()).isEqualTo(WaitOutcome.SUCCESS);
+    }
+}
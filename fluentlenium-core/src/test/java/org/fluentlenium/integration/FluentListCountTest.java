@@ -0,0 +1,37 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+
+public class FluentListCountTest extends IntegrationFluentTest {
+
+    @Test
+    public void checkCountWithoutLoading() {
+        goTo(DEFAULT_URL);
+        assertThat($(".small").count()).isEqualTo(3);
+        assertThat($(By.xpath("//span[@class='small']")).count()).isEqualTo(3);
+        assertThat($(".small", withText().contains("1")).count()).isEqualTo(1);
+        assertThat($(".unknown").count()).isEqualTo(0);
+        assertThat($(".small").isLoaded()).isFalse();
+    }
+
+    @Test
+    public void checkPresenceWithoutLoading() {
+        goTo(DEFAULT_URL);
+        assertThat($(".small").isPresent()).isTrue();
+        assertThat($(".unknown").isPresent()).isFalse();
+        assertThat($(".small").one().hasSize(3)).isTrue();
+    }
+
+    @Test
+    public void checkWaitOnSize() {
+        goTo(DEFAULT_URL);
+        await().until(".small").hasSize(3);
+        await().until($(".small")).hasSize().greaterThan(2);
+        await().until(".unknown").not().isPresent();
+    }
+}
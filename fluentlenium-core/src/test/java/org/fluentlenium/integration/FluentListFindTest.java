@@ -0,0 +1,51 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
+
+public class FluentListFindTest extends IntegrationFluentTest {
+
+    @Test
+    public void checkFindChildrenOfAllElements() {
+        goTo(COMPONENTS_URL);
+        assertThat($(".component").find(".action").getTexts()).containsExactly("Sub Component 1 (1)",
+                "Sub Component 1 (2)", "Sub Component 1 (3)", "Sub Component 2 (1)", "Sub Component 2 (2)",
+                "Sub Component 2 (3)");
+    }
+
+    @Test
+    public void checkFindChildrenOfNestedElementsOnlyOnce() {
+        goTo(COMPONENTS_URL);
+        assertThat($(".content div").find("a")).hasSize(6);
+    }
+
+    @Test
+    public void checkFindChildrenOfNestedElementsLeavesNoMark() {
+        goTo(COMPONENTS_URL);
+        assertThat($(".content div").find("a")).hasSize(6);
+        assertThat(executeScript("var links = document.getElementsByTagName('a');"
+                + "for (var i = 0; i < links.length; i++) {"
+                + "  for (var property in links[i]) {"
+                + "    if (property.indexOf('__fluentleniumFound') === 0) { return true; }"
+                + "  }"
+                + "}"
+                + "return false;").getBooleanResult()).isFalse();
+    }
+
+    @Test
+    public void checkFindChildrenWithXPath() {
+        goTo(COMPONENTS_URL);
+        assertThat($(".component").find(By.xpath(".//a"))).hasSize(6);
+    }
+
+    @Test
+    public void checkFindChildrenWithFilter() {
+        goTo(COMPONENTS_URL);
+        assertThat($(".component").find("a", withText().contains("(2)")).getTexts())
+                .containsExactly("Sub Component 1 (2)", "Sub Component 2 (2)");
+    }
+}
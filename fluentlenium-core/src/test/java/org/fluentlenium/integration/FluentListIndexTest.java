@@ -0,0 +1,41 @@
+package org.fluentlenium.integration;
+
+import org.fluentlenium.integration.localtest.IntegrationFluentTest;
+import org.junit.Test;
+import org.openqa.selenium.By;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FluentListIndexTest extends IntegrationFluentTest {
+
+    @Test
+    public void checkFirstLastAndIndexWithCssSelector() {
+        goTo(DEFAULT_URL);
+        assertThat($(".small").first().getText()).isEqualTo("Small 1");
+        assertThat($(".small").index(1).getText()).isEqualTo("Small 2");
+        assertThat($(".small").last().getText()).isEqualTo("Small 3");
+    }
+
+    @Test
+    public void checkFirstLastAndIndexWithLocators() {
+        goTo(DEFAULT_URL);
+        assertThat($(By.className("small")).index(2).getText()).isEqualTo("Small 3");
+        assertThat($(By.xpath("//span[@class='small']")).last().getText()).isEqualTo("Small 3");
+        assertThat($(By.linkText("Link 2")).last().isPresent()).isFalse();
+    }
+
+    @Test
+    public void checkFirstLastAndIndexOfChildren() {
+        goTo(DEFAULT_URL);
+        assertThat(findFirst(".parent").find(".child").first().getText()).isEqualTo("Alex");
+        assertThat(findFirst("body").find(By.cssSelector(".small")).index(1).getText()).isEqualTo("Small 2");
+    }
+
+    @Test
+    public void checkMissingIndex() {
+        goTo(DEFAULT_URL);
+        assertThat($(".small").index(3).isPresent()).isFalse();
+        assertThat($(".unknown").first().isPresent()).isFalse();
+        assertThat($(".unknown").last().isPresent()).isFalse();
+    }
+}
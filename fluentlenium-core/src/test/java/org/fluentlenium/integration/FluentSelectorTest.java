@@ -1,8 +1,12 @@
 package org.fluentlenium.integration;
 
+import org.fluentlenium.core.filter.Filter;
+import org.fluentlenium.core.filter.matcher.EqualMatcher;
 import org.fluentlenium.integration.localtest.IntegrationFluentTest;
 import org.junit.Test;
 
+import java.util.regex.Pattern;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.fluentlenium.core.filter.FilterConstructor.with;
 import static org.fluentlenium.core.filter.FilterConstructor.withClass;
@@ -62,6 +66,15 @@ public class FluentSelectorTest extends IntegrationFluentTest {
         assertThat($("span", with("generated").contains(regex("t?ru?"))).getTexts()).contains("Test custom attribute");
     }
 
+    @Test
+    public void checkEqualRegexWithMultilineValue() {
+        goTo(DEFAULT_URL);
+        assertThat($("span", new Filter("data-lines",
+                new EqualMatcher(Pattern.compile("second line", Pattern.MULTILINE))))).hasSize(0);
+        assertThat($("span", new Filter("data-lines",
+                new EqualMatcher(Pattern.compile("^first line$\\n^second line", Pattern.MULTILINE))))).hasSize(1);
+    }
+
     @Test
     public void checkCustomSelectAttributeIfText() {
         goTo(DEFAULT_URL);
@@ -5,6 +5,7 @@ import org.fluentlenium.integration.localtest.IntegrationFluentTest;
 import org.junit.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.fluentlenium.core.filter.FilterConstructor.withText;
 
 public class HiddenTextTest extends IntegrationFluentTest {
 
@@ -21,4 +22,18 @@ public class HiddenTextTest extends IntegrationFluentTest {
         FluentWebElement line = findFirst("#hidden");
         assertThat(line.getTextContent()).isNotEmpty();
     }
+
+    @Test
+    public void checkGetTextsWorks() {
+        goTo(DEFAULT_URL);
+        assertThat(find("#hidden").getTexts()).containsExactly("");
+        assertThat(find(".small, #hidden").getTexts()).containsExactly("Small 1", "Small 2", "Small 3", "");
+    }
+
+    @Test
+    public void checkWithTextFilterIgnoresHiddenText() {
+        goTo(DEFAULT_URL);
+        assertThat(find("span", withText("Hidden Text"))).isEmpty();
+        assertThat(find("span", withText("Small 1")).getTexts()).containsExactly("Small 1");
+    }
 }
@@ -0,0 +1,24 @@
+package org.fluentlenium.adapter.cucumber;
+
+import org.fluentlenium.configuration.ConfigurationException;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+
+/**
+ * Cucumber implementation of {@link org.fluentlenium.adapter.SharedMutator} for scenarios running concurrently.
+ * <p>
+ * {@link DriverLifecycle#METHOD} lifecycle is replaced with {@link DriverLifecycle#POOL}, so each running scenario
+ * leases its own {@link org.openqa.selenium.WebDriver} instance. A {@link ConfigurationException} is raised when
+ * {@link DriverLifecycle#JVM} is given, as a single instance can't be used by concurrent scenarios.
+ */
+public class FluentCucumberParallelSharedMutator extends FluentCucumberSharedMutator {
+    @Override
+    public <T> EffectiveParameters<T> getEffectiveParameters(Class<T> testClass, String testName, DriverLifecycle driverLifecycle) {
+        if (driverLifecycle == DriverLifecycle.JVM) {
+            throw new ConfigurationException("Parallel Cucumber doesn't support JVM driverLifecycle.");
+        }
+        if (driverLifecycle == DriverLifecycle.METHOD || driverLifecycle == DriverLifecycle.DEFAULT) {
+            driverLifecycle = DriverLifecycle.POOL;
+        }
+        return super.getEffectiveParameters(testClass, testName, driverLifecycle);
+    }
+}
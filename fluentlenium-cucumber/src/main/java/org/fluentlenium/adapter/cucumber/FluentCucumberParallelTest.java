@@ -0,0 +1,167 @@
+package org.fluentlenium.adapter.cucumber;
+
+import cucumber.api.Scenario;
+import org.fluentlenium.adapter.SharedWebDriverContainer;
+import org.fluentlenium.adapter.ThreadLocalFluentControlContainer;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cucumber FluentLenium Test Adapter for scenarios running concurrently.
+ * <p>
+ * {@link org.fluentlenium.core.FluentControl} is stored in a thread-local container, and each running scenario
+ * leases its own {@link org.openqa.selenium.WebDriver} instance from the pool (see
+ * {@link FluentCucumberParallelSharedMutator}).
+ * <p>
+ * With {@link DriverSharing#FEATURE} sharing, scenarios of the same feature run by the same thread reuse the same
+ * instance, which is given back to the pool when the thread starts a scenario from another feature. Scenarios of a
+ * feature running in different threads use distinct instances. Instances leased by threads that have terminated are
+ * given back automatically when the next scenario starts, and instances still used by the last feature of each thread
+ * are given back by {@link #releaseFeatureDrivers()}, or quit with all other instances when the JVM shuts down.
+ * <p>
+ * As each thread keeps an instance between its features, the pool must be at least as large as the number of threads
+ * running features concurrently. A scenario starting a feature fails when all instances of the pool are kept by other
+ * threads, instead of waiting forever for one of them to be given back.
+ */
+public class FluentCucumberParallelTest extends FluentCucumberTest {
+    /**
+     * Sharing of WebDriver instances between scenarios.
+     */
+    public enum DriverSharing {
+        /**
+         * Each scenario leases its own instance.
+         */
+        SCENARIO,
+        /**
+         * Scenarios of the same feature share an instance.
+         */
+        FEATURE
+    }
+
+    /**
+     * Feature currently run by a thread, and step used to start it.
+     */
+    private static class FeatureLease {
+        private final FluentCucumberParallelTest step;
+        private final String featureKey;
+
+        FeatureLease(FluentCucumberParallelTest step, String featureKey) {
+            this.step = step;
+            this.featureKey = featureKey;
+        }
+    }
+
+    private static final ConcurrentMap<Thread, FeatureLease> CURRENT_FEATURES = new ConcurrentHashMap<>();
+
+    private final DriverSharing driverSharing;
+
+    public FluentCucumberParallelTest() {
+        this(DriverSharing.SCENARIO);
+    }
+
+    public FluentCucumberParallelTest(DriverSharing driverSharing) {
+        super(new ThreadLocalFluentControlContainer(), new FluentCucumberParallelSharedMutator());
+        this.driverSharing = driverSharing;
+    }
+
+    public DriverSharing getDriverSharing() {
+        return driverSharing;
+    }
+
+    /**
+     * Get the feature identifier of a scenario.
+     *
+     * @param scenario Cucumber scenario
+     * @return feature identifier
+     */
+    protected String getFeatureId(Scenario scenario) {
+        String id = scenario.getId();
+        int separator = id.indexOf(';');
+        return separator < 0 ? id : id.substring(0, separator);
+    }
+
+    /**
+     * Give back to the pool the instances still used by the last feature of each thread.
+     * <p>
+     * With {@link DriverSharing#FEATURE} sharing, this can be called once all scenarios have run, for example from
+     * an {@code @AfterClass} method of the Cucumber runner class, to reuse those instances before the JVM shuts down.
+     */
+    public static void releaseFeatureDrivers() {
+        Iterator<FeatureLease> iterator = CURRENT_FEATURES.values().iterator();
+        while (iterator.hasNext()) {
+            FeatureLease lease = iterator.next();
+            iterator.remove();
+            lease.step.finished(lease.featureKey);
+        }
+    }
+
+    /**
+     * Give back to the pool the instances still used by threads that have terminated.
+     */
+    private static void releaseTerminatedThreadsDrivers() {
+        Iterator<Thread> iterator = CURRENT_FEATURES.keySet().iterator();
+        while (iterator.hasNext()) {
+            Thread thread = iterator.next();
+            if (!thread.isAlive()) {
+                FeatureLease lease = CURRENT_FEATURES.remove(thread);
+                if (lease != null) {
+                    lease.step.finished(lease.featureKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check that an instance can still be leased when other threads keep the instance of their feature.
+     *
+     * @param featureKey key of the feature about to start
+     */
+    private static void checkPoolSize(String featureKey) {
+        int poolSize = SharedWebDriverContainer.INSTANCE.getPool().getMaxSize();
+        int keptInstances = CURRENT_FEATURES.size();
+        if (keptInstances >= poolSize) {
+            throw new IllegalStateException("Can't start " + featureKey + ": all " + poolSize
+                    + " WebDriver instances of the pool are kept by the features of other threads. driverPoolSize "
+                    + "should be at least the number of threads running features concurrently.");
+        }
+    }
+
+    // It's not allowed by Cucumber JVM to add @Before in the base class.
+    @Override
+    public void before(Scenario scenario) {
+        if (driverSharing == DriverSharing.FEATURE) {
+            Thread thread = Thread.currentThread();
+            // Scenarios of the same feature running in other threads must not share this instance.
+            String featureKey = getFeatureId(scenario) + ";thread-" + thread.getId();
+            FeatureLease previousLease = CURRENT_FEATURES.get(thread);
+            if (previousLease != null && !previousLease.featureKey.equals(featureKey)) {
+                CURRENT_FEATURES.remove(thread);
+                previousLease.step.finished(previousLease.featureKey);
+                previousLease = null;
+            }
+            if (previousLease == null) {
+                releaseTerminatedThreadsDrivers();
+                checkPoolSize(featureKey);
+            }
+            CURRENT_FEATURES.put(thread, new FeatureLease(this, featureKey));
+            starting(featureKey);
+        } else {
+            super.before(scenario);
+        }
+    }
+
+    // It's not allowed by Cucumber JVM to add @After in the base class.
+    @Override
+    public void after(Scenario scenario) {
+        if (driverSharing == DriverSharing.FEATURE) {
+            if (scenario.isFailed()) {
+                failed(scenario.getId());
+            }
+            releaseFluent();
+        } else {
+            super.after(scenario);
+        }
+    }
+}
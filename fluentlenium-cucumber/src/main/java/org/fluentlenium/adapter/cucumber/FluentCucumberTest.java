@@ -1,13 +1,19 @@
 package org.fluentlenium.adapter.cucumber;
 
 import cucumber.api.Scenario;
+import org.fluentlenium.adapter.FluentControlContainer;
 import org.fluentlenium.adapter.FluentTestRunnerAdapter;
+import org.fluentlenium.adapter.SharedMutator;
 
 public class FluentCucumberTest extends FluentTestRunnerAdapter {
     public FluentCucumberTest() {
         super(new FluentCucumberSharedMutator());
     }
 
+    public FluentCucumberTest(FluentControlContainer driverContainer, SharedMutator sharedMutator) {
+        super(driverContainer, sharedMutator);
+    }
+
     // It's not allowed by Cucumber JVM to add @Before in the base class.
     public void before(Scenario scenario) {
         starting(scenario.getId());
@@ -0,0 +1,54 @@
+package org.fluentlenium.adapter.cucumber;
+
+import org.assertj.core.api.Assertions;
+import org.assertj.core.api.ThrowableAssert;
+import org.fluentlenium.adapter.SharedMutator;
+import org.fluentlenium.configuration.ConfigurationException;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FluentCucumberParallelSharedMutatorTest {
+    private FluentCucumberParallelSharedMutator sharedMutator;
+
+    @Before
+    public void before() {
+        sharedMutator = new FluentCucumberParallelSharedMutator();
+    }
+
+    @Test
+    public void testMethodLifecycleIsLeasedFromPool() {
+        SharedMutator.EffectiveParameters<?> parameters = sharedMutator.getEffectiveParameters(Object.class, "test", DriverLifecycle.METHOD);
+
+        Assertions.assertThat(parameters.getTestClass()).isNull();
+        Assertions.assertThat(parameters.getTestName()).isEqualTo("test");
+        Assertions.assertThat(parameters.getDriverLifecycle()).isEqualTo(DriverLifecycle.POOL);
+    }
+
+    @Test
+    public void testThreadLifecycleIsKept() {
+        SharedMutator.EffectiveParameters<?> parameters = sharedMutator.getEffectiveParameters(Object.class, "test", DriverLifecycle.THREAD);
+
+        Assertions.assertThat(parameters.getDriverLifecycle()).isEqualTo(DriverLifecycle.THREAD);
+    }
+
+    @Test
+    public void testJvmLifecycleIsRejected() {
+        Assertions.assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                sharedMutator.getEffectiveParameters(Object.class, "test", DriverLifecycle.JVM);
+            }
+        }).isExactlyInstanceOf(ConfigurationException.class).hasMessage("Parallel Cucumber doesn't support JVM driverLifecycle.");
+    }
+
+    @Test
+    public void testClassLifecycleIsRejected() {
+        Assertions.assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+            @Override
+            public void call() throws Throwable {
+                sharedMutator.getEffectiveParameters(Object.class, "test", DriverLifecycle.CLASS);
+            }
+        }).isExactlyInstanceOf(ConfigurationException.class).hasMessage("Cucumber doesn't support CLASS driverLifecycle.");
+    }
+}
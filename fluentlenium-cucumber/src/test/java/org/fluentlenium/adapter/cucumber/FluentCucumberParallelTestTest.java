@@ -0,0 +1,188 @@
+package org.fluentlenium.adapter.cucumber;
+
+import cucumber.api.Scenario;
+import org.fluentlenium.adapter.SharedWebDriverContainer;
+import org.fluentlenium.adapter.cucumber.FluentCucumberParallelTest.DriverSharing;
+import org.assertj.core.api.ThrowableAssert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class FluentCucumberParallelTestTest {
+    private static List<WebDriver> drivers = new CopyOnWriteArrayList<>();
+
+    private static class ParallelStep extends FluentCucumberParallelTest {
+        ParallelStep(DriverSharing driverSharing) {
+            super(driverSharing);
+        }
+
+        @Override
+        public WebDriver newWebDriver() {
+            WebDriver webDriver = Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+            drivers.add(webDriver);
+            return webDriver;
+        }
+    }
+
+    private static Scenario scenario(String id) {
+        Scenario scenario = Mockito.mock(Scenario.class);
+        Mockito.when(scenario.getId()).thenReturn(id);
+        return scenario;
+    }
+
+    private WebDriver runScenario(DriverSharing driverSharing, String id) {
+        ParallelStep step = new ParallelStep(driverSharing);
+        Scenario scenario = scenario(id);
+        step.before(scenario);
+        WebDriver driver = step.getDriver();
+        step.after(scenario);
+        return driver;
+    }
+
+    @Before
+    public void before() {
+        drivers.clear();
+        SharedWebDriverContainer.INSTANCE.getPool().setMaxSize(1);
+    }
+
+    @After
+    public void after() {
+        FluentCucumberParallelTest.releaseFeatureDrivers();
+        SharedWebDriverContainer.INSTANCE.quitAll();
+    }
+
+    @Test
+    public void testScenarioSharingLeasesDriverForEachScenario() {
+        WebDriver driver = runScenario(DriverSharing.SCENARIO, "feature;scenario-1");
+
+        assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).isEmpty();
+        Mockito.verify(driver).get("about:blank");
+
+        WebDriver driver2 = runScenario(DriverSharing.SCENARIO, "feature;scenario-2");
+
+        assertThat(driver2).isSameAs(driver);
+        assertThat(drivers).hasSize(1);
+    }
+
+    @Test
+    public void testFeatureSharingKeepsDriverForScenariosOfFeature() {
+        WebDriver driver = runScenario(DriverSharing.FEATURE, "feature;scenario-1");
+
+        assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).hasSize(1);
+
+        WebDriver driver2 = runScenario(DriverSharing.FEATURE, "feature;scenario-2");
+
+        assertThat(driver2).isSameAs(driver);
+        Mockito.verify(driver, Mockito.never()).get("about:blank");
+
+        runScenario(DriverSharing.FEATURE, "other-feature;scenario-1");
+
+        Mockito.verify(driver).get("about:blank");
+        assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).hasSize(1);
+    }
+
+    @Test
+    public void testFeatureSharingUsesDistinctDriversInDistinctThreads() throws Exception {
+        SharedWebDriverContainer.INSTANCE.getPool().setMaxSize(2);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            WebDriver driver = runScenario(DriverSharing.FEATURE, "feature;scenario-1");
+            Future<WebDriver> driver2 = executor.submit(new Callable<WebDriver>() {
+                @Override
+                public WebDriver call() {
+                    return runScenario(DriverSharing.FEATURE, "feature;scenario-2");
+                }
+            });
+
+            assertThat(driver2.get()).isNotSameAs(driver);
+            assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).hasSize(2);
+        } finally {
+            executor.shutdown();
+        }
+
+        FluentCucumberParallelTest.releaseFeatureDrivers();
+
+        assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).isEmpty();
+        assertThat(SharedWebDriverContainer.INSTANCE.getPool().getIdleCount()).isEqualTo(2);
+        for (WebDriver webDriver : drivers) {
+            Mockito.verify(webDriver).get("about:blank");
+        }
+    }
+
+    @Test
+    public void testFeatureSharingReleasesDriversOfTerminatedThreads() throws Exception {
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                runScenario(DriverSharing.FEATURE, "feature;scenario-1");
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(SharedWebDriverContainer.INSTANCE.getAllDrivers()).hasSize(1);
+
+        WebDriver driver = runScenario(DriverSharing.FEATURE, "other-feature;scenario-1");
+
+        assertThat(drivers).hasSize(1);
+        assertThat(driver).isSameAs(drivers.get(0));
+        Mockito.verify(driver).get("about:blank");
+    }
+
+    @Test
+    public void testFeatureSharingFailsWhenPoolIsKeptByOtherThreads() throws Exception {
+        final ParallelStep otherStep = new ParallelStep(DriverSharing.FEATURE);
+        final Scenario otherScenario = scenario("feature;scenario-1");
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(1);
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                otherStep.before(otherScenario);
+                otherStep.after(otherScenario);
+                started.countDown();
+                try {
+                    done.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        thread.start();
+        try {
+            started.await();
+
+            assertThatThrownBy(new ThrowableAssert.ThrowingCallable() {
+                @Override
+                public void call() {
+                    runScenario(DriverSharing.FEATURE, "other-feature;scenario-1");
+                }
+            }).isInstanceOf(IllegalStateException.class).hasMessageContaining("driverPoolSize");
+        } finally {
+            done.countDown();
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testFeatureId() {
+        ParallelStep step = new ParallelStep(DriverSharing.FEATURE);
+
+        assertThat(step.getFeatureId(scenario("feature;scenario"))).isEqualTo("feature");
+        assertThat(step.getFeatureId(scenario("feature"))).isEqualTo("feature");
+    }
+}
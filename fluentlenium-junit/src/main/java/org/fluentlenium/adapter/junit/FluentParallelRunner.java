@@ -0,0 +1,88 @@
+package org.fluentlenium.adapter.junit;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.fluentlenium.adapter.SharedWebDriverContainer;
+import org.fluentlenium.adapter.SharedWebDriverPool;
+import org.fluentlenium.configuration.ConfigurationFactoryProvider;
+import org.fluentlenium.configuration.ConfigurationProperties;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runners.BlockJUnit4ClassRunner;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.RunnerScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JUnit runner running test methods of a class in parallel.
+ * <p>
+ * Number of threads is given by {@link ConfigurationProperties#getParallelThreadCount()}, and defaults to the number
+ * of available processors. When {@link ConfigurationProperties#getDriverPoolSize()} is not defined, the driver pool is
+ * grown to this number of threads, so each thread can lease its own driver.
+ * <p>
+ * Test classes should extend {@link FluentParallelTest}, which uses a thread-local control container and leases
+ * drivers from the pool.
+ */
+public class FluentParallelRunner extends BlockJUnit4ClassRunner {
+    private final ConfigurationProperties configuration;
+
+    private final int threadCount;
+
+    public FluentParallelRunner(Class<?> klass) throws InitializationError {
+        super(klass);
+        configuration = ConfigurationFactoryProvider.newConfiguration(klass);
+        Integer parallelThreadCount = configuration.getParallelThreadCount();
+        threadCount = parallelThreadCount == null ? Runtime.getRuntime().availableProcessors() : parallelThreadCount;
+        if (threadCount < 1) {
+            throw new InitializationError("Parallel thread count should be greater than 0");
+        }
+        setScheduler(new ParallelScheduler(klass.getSimpleName(), threadCount));
+    }
+
+    /**
+     * Get the number of threads running test methods.
+     *
+     * @return number of threads
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @Override
+    public void run(RunNotifier notifier) {
+        if (configuration.getDriverPoolSize() == null) {
+            SharedWebDriverPool pool = SharedWebDriverContainer.INSTANCE.getPool();
+            synchronized (pool) {
+                if (pool.getMaxSize() < threadCount) {
+                    pool.setMaxSize(threadCount);
+                }
+            }
+        }
+        super.run(notifier);
+    }
+
+    private static class ParallelScheduler implements RunnerScheduler {
+        private final ExecutorService executor;
+
+        ParallelScheduler(String name, int threadCount) {
+            executor = Executors.newFixedThreadPool(threadCount,
+                    new ThreadFactoryBuilder().setNameFormat("fluentlenium-" + name + "-%d").setDaemon(true).build());
+        }
+
+        @Override
+        public void schedule(Runnable childStatement) {
+            executor.execute(childStatement);
+        }
+
+        @Override
+        public void finished() {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
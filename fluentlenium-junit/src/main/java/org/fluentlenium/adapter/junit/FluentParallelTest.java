@@ -0,0 +1,22 @@
+package org.fluentlenium.adapter.junit;
+
+import org.fluentlenium.adapter.ThreadLocalFluentControlContainer;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.fluentlenium.configuration.FluentConfiguration;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit FluentLenium Test Adapter running test methods in parallel.
+ * <p>
+ * Extends this class to provide FluentLenium support to your JUnit Test class, with test methods run in parallel by
+ * {@link FluentParallelRunner}. Drivers are leased from a pool ({@link DriverLifecycle#POOL}), unless subclass is
+ * annotated with its own {@link FluentConfiguration}. {@link DriverLifecycle#CLASS} lifecycle should not be used, as
+ * the driver would be shared by concurrent test methods.
+ */
+@RunWith(FluentParallelRunner.class)
+@FluentConfiguration(driverLifecycle = DriverLifecycle.POOL)
+public abstract class FluentParallelTest extends FluentTest {
+    public FluentParallelTest() {
+        super(new ThreadLocalFluentControlContainer());
+    }
+}
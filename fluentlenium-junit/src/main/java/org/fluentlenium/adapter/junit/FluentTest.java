@@ -1,5 +1,6 @@
 package org.fluentlenium.adapter.junit;
 
+import org.fluentlenium.adapter.FluentControlContainer;
 import org.fluentlenium.adapter.FluentTestRunnerAdapter;
 import org.junit.ClassRule;
 import org.junit.Rule;
@@ -16,6 +17,10 @@ public abstract class FluentTest extends FluentTestRunnerAdapter {
     public FluentTest() {
     }
 
+    public FluentTest(FluentControlContainer driverContainer) {
+        super(driverContainer);
+    }
+
     @Rule
     public TestRule watchman = new FluentTestRule() {
 
@@ -0,0 +1,71 @@
+package org.fluentlenium.adapter.junit.integration;
+
+import org.fluentlenium.adapter.junit.FluentParallelTest;
+import org.fluentlenium.configuration.ConfigurationProperties.DriverLifecycle;
+import org.fluentlenium.configuration.FluentConfiguration;
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.mockito.Mockito;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FluentParallelTestTest {
+    private static List<WebDriver> drivers = new CopyOnWriteArrayList<>();
+    private static Set<WebDriver> usedDrivers = Collections.synchronizedSet(new HashSet<WebDriver>());
+    private static Set<String> threads = Collections.synchronizedSet(new HashSet<String>());
+    private static CyclicBarrier barrier = new CyclicBarrier(2);
+
+    @FluentConfiguration(driverLifecycle = DriverLifecycle.POOL, parallelThreadCount = 2)
+    public static class InternalTest extends FluentParallelTest {
+        @Override
+        public WebDriver newWebDriver() {
+            WebDriver webDriver = Mockito.mock(WebDriver.class, Mockito.RETURNS_DEEP_STUBS);
+            drivers.add(webDriver);
+            return webDriver;
+        }
+
+        private void parallelTest(String url) throws Exception {
+            threads.add(Thread.currentThread().getName());
+            usedDrivers.add(getDriver());
+            barrier.await(5, TimeUnit.SECONDS);
+            goTo(url);
+            Mockito.verify(getDriver()).get(url);
+        }
+
+        @Test
+        public void okTest() throws Exception {
+            parallelTest("url");
+        }
+
+        @Test
+        public void okTest2() throws Exception {
+            parallelTest("url2");
+        }
+    }
+
+    @Test
+    public void testParallel() {
+        Result result = JUnitCore.runClasses(InternalTest.class);
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(result.getRunCount()).isEqualTo(2);
+        assertThat(threads).hasSize(2);
+        assertThat(usedDrivers).hasSize(2);
+        assertThat(drivers).hasSize(2);
+
+        for (WebDriver driver : drivers) {
+            Mockito.verify(driver, Mockito.never()).quit();
+            Mockito.verify(driver).get("about:blank");
+        }
+    }
+}